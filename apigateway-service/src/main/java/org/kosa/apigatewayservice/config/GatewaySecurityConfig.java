@@ -201,6 +201,7 @@ public class GatewaySecurityConfig {
                                 // ===========================================
                                 // ORDERS & PAYMENTS (인증 필요)
                                 // ===========================================
+                                .pathMatchers("/api/orders/status/batch").hasRole("ADMIN")
                                 .pathMatchers("/api/orders/**").hasAnyRole("USER", "ADMIN")
                                 .pathMatchers("/api/payments/**").hasAnyRole("USER", "ADMIN")
 
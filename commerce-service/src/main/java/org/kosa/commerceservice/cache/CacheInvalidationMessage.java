@@ -0,0 +1,17 @@
+package org.kosa.commerceservice.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인스턴스 간 L1 캐시 무효화 메시지 (key가 null이면 캐시 전체 무효화)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+    private String instanceId;
+    private String cacheName;
+    private String key;
+}
@@ -0,0 +1,16 @@
+package org.kosa.commerceservice.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 갱신 정책이 있는 캐시의 L2 저장 값 (적재 시각으로 논리 만료·조기 갱신 판단)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CachedValue {
+    private Object value;
+    private long loadedAt;
+}
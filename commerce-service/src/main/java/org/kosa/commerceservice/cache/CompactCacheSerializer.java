@@ -0,0 +1,124 @@
+package org.kosa.commerceservice.cache;
+
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.nio.ByteBuffer;
+
+/**
+ * Redis 캐시 값 압축 직렬화 (캐시별 고정 타입 Smile 바이너리 + 임계 크기 이상 LZ4 압축)
+ * - 값 타입을 캐시마다 지정하고 타입 정보를 기록하지 않음 (다형 역직렬화 없음)
+ * - 첫 바이트로 형식 구분: 3 = Smile, 4 = Smile + LZ4(원본 길이 4바이트 포함)
+ * - 본문 첫 바이트로 값 종류 구분: 0 = 값, 1 = CachedValue(적재 시각 8바이트 + 값)
+ * - 그 외 첫 바이트는 코덱 전환 전의 JSON 값으로 보고 기존 JSON 직렬화로 읽음
+ */
+public class CompactCacheSerializer implements RedisSerializer<Object> {
+
+    private static final byte FORMAT_SMILE = 3;
+    private static final byte FORMAT_SMILE_LZ4 = 4;
+    private static final int LZ4_HEADER_SIZE = 5;
+
+    private static final byte KIND_VALUE = 0;
+    private static final byte KIND_CACHED_VALUE = 1;
+    private static final int CACHED_VALUE_HEADER_SIZE = 1 + Long.BYTES;
+
+    private final ObjectReader reader;
+    private final ObjectWriter writer;
+    private final RedisSerializer<Object> legacySerializer;
+    private final int compressionThreshold;
+
+    private final LZ4Compressor compressor = LZ4Factory.fastestInstance().fastCompressor();
+    private final LZ4FastDecompressor decompressor = LZ4Factory.fastestInstance().fastDecompressor();
+
+    public CompactCacheSerializer(ObjectMapper smileMapper, JavaType valueType,
+                                  RedisSerializer<Object> legacySerializer, int compressionThreshold) {
+        this.reader = smileMapper.readerFor(valueType);
+        this.writer = smileMapper.writerFor(valueType);
+        this.legacySerializer = legacySerializer;
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        if (value == null) {
+            return new byte[0];
+        }
+
+        byte[] body;
+        try {
+            if (value instanceof CachedValue cachedValue) {
+                byte[] smile = writer.writeValueAsBytes(cachedValue.getValue());
+                body = new byte[CACHED_VALUE_HEADER_SIZE + smile.length];
+                body[0] = KIND_CACHED_VALUE;
+                ByteBuffer.wrap(body, 1, Long.BYTES).putLong(cachedValue.getLoadedAt());
+                System.arraycopy(smile, 0, body, CACHED_VALUE_HEADER_SIZE, smile.length);
+            } else {
+                byte[] smile = writer.writeValueAsBytes(value);
+                body = new byte[1 + smile.length];
+                body[0] = KIND_VALUE;
+                System.arraycopy(smile, 0, body, 1, smile.length);
+            }
+        } catch (Exception e) {
+            throw new SerializationException("캐시 값 직렬화 실패: " + e.getMessage(), e);
+        }
+
+        if (body.length < compressionThreshold) {
+            byte[] result = new byte[body.length + 1];
+            result[0] = FORMAT_SMILE;
+            System.arraycopy(body, 0, result, 1, body.length);
+            return result;
+        }
+
+        int maxLength = compressor.maxCompressedLength(body.length);
+        byte[] buffer = new byte[LZ4_HEADER_SIZE + maxLength];
+        buffer[0] = FORMAT_SMILE_LZ4;
+        ByteBuffer.wrap(buffer, 1, 4).putInt(body.length);
+        int compressedLength = compressor.compress(body, 0, body.length, buffer, LZ4_HEADER_SIZE, maxLength);
+
+        byte[] result = new byte[LZ4_HEADER_SIZE + compressedLength];
+        System.arraycopy(buffer, 0, result, 0, result.length);
+        return result;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            switch (bytes[0]) {
+                case FORMAT_SMILE:
+                    return readBody(bytes, 1, bytes.length - 1);
+                case FORMAT_SMILE_LZ4:
+                    int originalLength = ByteBuffer.wrap(bytes, 1, 4).getInt();
+                    byte[] body = new byte[originalLength];
+                    decompressor.decompress(bytes, LZ4_HEADER_SIZE, body, 0, originalLength);
+                    return readBody(body, 0, originalLength);
+                default:
+                    // 코덱 전환 전에 저장된 JSON 값
+                    return legacySerializer.deserialize(bytes);
+            }
+        } catch (SerializationException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new SerializationException("캐시 값 역직렬화 실패: " + e.getMessage(), e);
+        }
+    }
+
+    private Object readBody(byte[] body, int offset, int length) throws Exception {
+        if (body[offset] == KIND_CACHED_VALUE) {
+            long loadedAt = ByteBuffer.wrap(body, offset + 1, Long.BYTES).getLong();
+            Object value = reader.readValue(body, offset + CACHED_VALUE_HEADER_SIZE, length - CACHED_VALUE_HEADER_SIZE);
+            return new CachedValue(value, loadedAt);
+        }
+        return reader.readValue(body, offset + 1, length - 1);
+    }
+}
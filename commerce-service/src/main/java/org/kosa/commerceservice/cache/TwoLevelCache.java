@@ -0,0 +1,411 @@
+package org.kosa.commerceservice.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.commerceservice.cache.TwoLevelCacheManager.RefreshSpec;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * L1(JVM 내 Caffeine) + L2(Redis) 2단 캐시
+ * - 조회: L1 → L2 순서, L2 히트 시 L1 적재
+ * - 무효화: L1/L2 모두 삭제 후 다른 인스턴스에 L1 무효화 메시지 발행
+ * - L1 값은 역직렬화 없이 참조로 공유되므로 호출 측에서 읽기 전용으로 다뤄야 함
+ * - 갱신 정책(refreshSpec)이 있으면 L2에 적재 시각을 함께 저장하고 get(key, loader) 호출 시
+ *   키별 단일 적재(인스턴스 내 + Redis 락), 만료 전 확률적 조기 갱신, 적재 실패 시 이전 값 제공
+ * - localCache가 null이면 L1 없이 L2 + 갱신 정책만 적용 (인스턴스 간 불일치를 허용하지 않는 캐시)
+ */
+@Slf4j
+public class TwoLevelCache extends AbstractValueAdaptingCache {
+
+    private static final String LOCK_KEY_PREFIX = "cache:lock:";
+    private static final long LOCK_POLL_INTERVAL_MS = 50L;
+
+    // 자신이 잡은 락만 해제
+    private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, Object> localCache;
+    private final Cache remoteCache;
+    private final RefreshSpec refreshSpec;
+    private final TwoLevelCacheManager cacheManager;
+
+    private final Map<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    private final Counter l1Hits;
+    private final Counter l1Misses;
+    private final Counter l2Hits;
+    private final Counter l2Misses;
+
+    private final Counter loads;
+    private final Counter coalescedLoads;
+    private final Counter refreshAheadLoads;
+    private final Counter staleServed;
+
+    TwoLevelCache(String name,
+                  com.github.benmanes.caffeine.cache.Cache<String, Object> localCache,
+                  Cache remoteCache,
+                  RefreshSpec refreshSpec,
+                  TwoLevelCacheManager cacheManager,
+                  MeterRegistry meterRegistry) {
+        super(true);
+        this.name = name;
+        this.localCache = localCache;
+        this.remoteCache = remoteCache;
+        this.refreshSpec = refreshSpec;
+        this.cacheManager = cacheManager;
+
+        this.l1Hits = tierCounter(meterRegistry, "l1", "hit");
+        this.l1Misses = tierCounter(meterRegistry, "l1", "miss");
+        this.l2Hits = tierCounter(meterRegistry, "l2", "hit");
+        this.l2Misses = tierCounter(meterRegistry, "l2", "miss");
+
+        this.loads = loadCounter(meterRegistry, "loaded");
+        this.coalescedLoads = loadCounter(meterRegistry, "coalesced");
+        this.refreshAheadLoads = loadCounter(meterRegistry, "refresh_ahead");
+        this.staleServed = loadCounter(meterRegistry, "stale");
+
+        if (localCache != null) {
+            Gauge.builder("cache.tier.size", localCache, c -> c.estimatedSize())
+                    .tag("cache", name)
+                    .tag("tier", "l1")
+                    .register(meterRegistry);
+        }
+    }
+
+    private Counter tierCounter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("cache.tier.gets")
+                .tag("cache", name)
+                .tag("tier", tier)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private Counter loadCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("cache.loads")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return localCache != null ? localCache : remoteCache.getNativeCache();
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = toLocalKey(key);
+
+        Object localValue = getLocal(localKey);
+        if (localValue != null) {
+            return localValue;
+        }
+
+        CachedValue remoteValue = getRemote(key);
+        // 논리 만료된 값은 미스로 처리 (호출 측에서 다시 적재 후 put)
+        if (remoteValue == null || (refreshSpec != null && isExpired(remoteValue))) {
+            l2Misses.increment();
+            return null;
+        }
+        l2Hits.increment();
+
+        Object storeValue = toStoreValue(remoteValue.getValue());
+        putLocal(localKey, storeValue);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = toLocalKey(key);
+
+        Object localValue = getLocal(localKey);
+        if (localValue != null) {
+            return (T) fromStoreValue(localValue);
+        }
+
+        if (refreshSpec == null) {
+            T value = remoteCache.get(key, valueLoader);
+            putLocal(localKey, toStoreValue(value));
+            return value;
+        }
+
+        CachedValue remoteValue = getRemote(key);
+        if (remoteValue != null && !isExpired(remoteValue)) {
+            l2Hits.increment();
+            if (shouldRefreshEarly(remoteValue)) {
+                return (T) refreshEarly(key, localKey, valueLoader, remoteValue);
+            }
+            Object storeValue = toStoreValue(remoteValue.getValue());
+            putLocal(localKey, storeValue);
+            return (T) fromStoreValue(storeValue);
+        }
+        l2Misses.increment();
+
+        return (T) loadOnce(localKey, () -> loadExpired(key, localKey, valueLoader, remoteValue), valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        remoteCache.put(key, toRemoteValue(value));
+        putLocal(toLocalKey(key), toStoreValue(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        remoteCache.evict(key);
+        if (localCache != null) {
+            evictLocal(toLocalKey(key));
+            cacheManager.publishInvalidation(name, toLocalKey(key));
+        }
+    }
+
+    @Override
+    public void clear() {
+        remoteCache.clear();
+        if (localCache != null) {
+            clearLocal();
+            cacheManager.publishInvalidation(name, null);
+        }
+    }
+
+    void evictLocal(String localKey) {
+        if (localCache != null) {
+            localCache.invalidate(localKey);
+        }
+    }
+
+    void clearLocal() {
+        if (localCache != null) {
+            localCache.invalidateAll();
+        }
+    }
+
+    private Object getLocal(String localKey) {
+        if (localCache == null) {
+            return null;
+        }
+        Object localValue = localCache.getIfPresent(localKey);
+        if (localValue != null) {
+            l1Hits.increment();
+        } else {
+            l1Misses.increment();
+        }
+        return localValue;
+    }
+
+    private void putLocal(String localKey, Object storeValue) {
+        if (localCache != null) {
+            localCache.put(localKey, storeValue);
+        }
+    }
+
+    // 같은 키의 동시 적재는 먼저 시작한 스레드의 결과를 함께 사용 (최대 lockTimeout 대기 후 직접 적재)
+    private Object loadOnce(String localKey, Callable<Object> load, Callable<?> valueLoader) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlightLoads.putIfAbsent(localKey, created);
+        if (existing != null) {
+            coalescedLoads.increment();
+            try {
+                return existing.get(refreshSpec.getLockTimeout().toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                log.warn("캐시 적재 대기 시간 초과, 직접 적재 - cache: {}, key: {}", name, localKey);
+                return callLoad(localKey, load, valueLoader);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ValueRetrievalException(localKey, valueLoader, e);
+            } catch (ExecutionException e) {
+                throw new ValueRetrievalException(localKey, valueLoader, e.getCause());
+            }
+        }
+
+        try {
+            Object value = callLoad(localKey, load, valueLoader);
+            created.complete(value);
+            return value;
+        } catch (Throwable t) {
+            // Error도 대기 중인 요청에 전달 (미완료로 남으면 대기 요청이 lockTimeout까지 멈춤)
+            created.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlightLoads.remove(localKey, created);
+        }
+    }
+
+    private Object callLoad(String localKey, Callable<Object> load, Callable<?> valueLoader) {
+        try {
+            return load.call();
+        } catch (ValueRetrievalException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new ValueRetrievalException(localKey, valueLoader, e);
+        }
+    }
+
+    // 만료·미적재 키 동기 적재 (다른 인스턴스가 적재 중이면 이전 값 제공 또는 결과 대기)
+    private Object loadExpired(Object key, String localKey, Callable<?> valueLoader, CachedValue stale) throws Exception {
+        String lockToken = tryLock(localKey);
+        if (lockToken == null) {
+            if (stale != null) {
+                staleServed.increment();
+                return stale.getValue();
+            }
+            CachedValue loadedByOther = awaitRemote(key);
+            if (loadedByOther != null) {
+                Object storeValue = toStoreValue(loadedByOther.getValue());
+                putLocal(localKey, storeValue);
+                return fromStoreValue(storeValue);
+            }
+            // 락 보유 인스턴스의 적재가 늦어지면 직접 적재
+        }
+
+        try {
+            return loadAndStore(key, localKey, valueLoader);
+        } catch (Exception e) {
+            if (stale == null) {
+                throw e;
+            }
+            staleServed.increment();
+            log.warn("캐시 적재 실패, 이전 값 제공 - cache: {}, key: {}, error: {}", name, localKey, e.getMessage());
+            return stale.getValue();
+        } finally {
+            releaseLock(localKey, lockToken);
+        }
+    }
+
+    // 만료가 가까울수록 높은 확률로 조기 갱신 (남은 시간이 refreshAhead일 때 약 37%)
+    private boolean shouldRefreshEarly(CachedValue cachedValue) {
+        long remainingMs = refreshSpec.getTtl().toMillis() - (System.currentTimeMillis() - cachedValue.getLoadedAt());
+        double random = ThreadLocalRandom.current().nextDouble();
+        return -refreshSpec.getRefreshAhead().toMillis() * Math.log(random) >= remainingMs;
+    }
+
+    // 조기 갱신에 당첨된 요청이 직접 재적재 (그동안 다른 요청은 현재 값 사용)
+    // 다른 인스턴스가 갱신 중이거나 적재에 실패하면 현재 값 반환
+    private Object refreshEarly(Object key, String localKey, Callable<?> valueLoader, CachedValue current) {
+        CompletableFuture<Object> created = new CompletableFuture<>();
+        if (inFlightLoads.putIfAbsent(localKey, created) != null) {
+            return current.getValue();
+        }
+
+        String lockToken = tryLock(localKey);
+        try {
+            if (lockToken == null) {
+                created.complete(current.getValue());
+                return current.getValue();
+            }
+            refreshAheadLoads.increment();
+            Object value = loadAndStore(key, localKey, valueLoader);
+            created.complete(value);
+            return value;
+        } catch (Exception e) {
+            created.complete(current.getValue());
+            log.warn("캐시 조기 갱신 실패, 현재 값 제공 - cache: {}, key: {}, error: {}", name, localKey, e.getMessage());
+            return current.getValue();
+        } finally {
+            // Error로 빠져나가도 이 작업을 기다리는 요청은 현재 값으로 완료 (이미 완료됐으면 무시됨)
+            created.complete(current.getValue());
+            releaseLock(localKey, lockToken);
+            inFlightLoads.remove(localKey, created);
+        }
+    }
+
+    private Object loadAndStore(Object key, String localKey, Callable<?> valueLoader) throws Exception {
+        Object value = valueLoader.call();
+        loads.increment();
+        remoteCache.put(key, toRemoteValue(value));
+        putLocal(localKey, toStoreValue(value));
+        return value;
+    }
+
+    // 다른 인스턴스의 적재 결과를 lockTimeout 동안 대기
+    private CachedValue awaitRemote(Object key) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + refreshSpec.getLockTimeout().toMillis();
+        while (System.currentTimeMillis() < deadline) {
+            Thread.sleep(LOCK_POLL_INTERVAL_MS);
+            CachedValue cachedValue = getRemote(key);
+            if (cachedValue != null && !isExpired(cachedValue)) {
+                coalescedLoads.increment();
+                return cachedValue;
+            }
+        }
+        return null;
+    }
+
+    // Redis 장애 시 락 없이 적재 (인스턴스 내 단일 적재는 유지)
+    private String tryLock(String localKey) {
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = cacheManager.getStringRedisTemplate().opsForValue()
+                    .setIfAbsent(lockKey(localKey), token, refreshSpec.getLockTimeout());
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (Exception e) {
+            log.debug("캐시 적재 락 획득 실패 - cache: {}, key: {}, error: {}", name, localKey, e.getMessage());
+            return token;
+        }
+    }
+
+    private void releaseLock(String localKey, String token) {
+        if (token == null) {
+            return;
+        }
+        try {
+            cacheManager.getStringRedisTemplate().execute(RELEASE_LOCK_SCRIPT, List.of(lockKey(localKey)), token);
+        } catch (Exception e) {
+            // 해제 실패 시 lockTimeout 경과 후 만료
+        }
+    }
+
+    private String lockKey(String localKey) {
+        return LOCK_KEY_PREFIX + name + "::" + localKey;
+    }
+
+    // 갱신 정책이 없으면 값 그대로, 있으면 적재 시각을 함께 저장
+    private Object toRemoteValue(Object value) {
+        return refreshSpec != null ? new CachedValue(value, System.currentTimeMillis()) : value;
+    }
+
+    // 적재 시각이 없는 값(정책 적용 전 저장분)은 만료된 것으로 보고 이전 값으로만 사용
+    private CachedValue getRemote(Object key) {
+        ValueWrapper wrapper = remoteCache.get(key);
+        if (wrapper == null) {
+            return null;
+        }
+        Object value = wrapper.get();
+        if (value instanceof CachedValue cachedValue) {
+            return cachedValue;
+        }
+        return new CachedValue(value, refreshSpec != null ? 0L : System.currentTimeMillis());
+    }
+
+    private boolean isExpired(CachedValue cachedValue) {
+        return System.currentTimeMillis() - cachedValue.getLoadedAt() >= refreshSpec.getTtl().toMillis();
+    }
+
+    // Redis 캐시 키와 동일하게 문자열로 정규화 (인스턴스 간 무효화 메시지 키 일치)
+    private String toLocalKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,170 @@
+package org.kosa.commerceservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Redis 캐시 매니저 앞에 L1 로컬 캐시를 두는 캐시 매니저
+ * - localSpecs·refreshSpecs에 등록된 캐시만 감싸고 나머지는 Redis 캐시를 그대로 반환
+ * - 무효화는 Redis pub/sub 채널로 전파, 자기 자신이 발행한 메시지는 무시
+ * - refreshSpecs에 등록된 캐시는 키별 단일 적재, 만료 전 조기 갱신, 적재 실패 시 이전 값 제공
+ *   (localSpecs에 없으면 L1 없이 갱신 정책만 적용)
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    public static final String INVALIDATION_CHANNEL = "cache:invalidation";
+
+    private final CacheManager remoteCacheManager;
+    private final Map<String, LocalCacheSpec> localSpecs;
+    private final Map<String, RefreshSpec> refreshSpecs;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    private final String instanceId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> twoLevelCaches = new ConcurrentHashMap<>();
+
+    public TwoLevelCacheManager(CacheManager remoteCacheManager,
+                                Map<String, LocalCacheSpec> localSpecs,
+                                Map<String, RefreshSpec> refreshSpecs,
+                                StringRedisTemplate stringRedisTemplate,
+                                ObjectMapper objectMapper,
+                                MeterRegistry meterRegistry) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localSpecs = localSpecs;
+        this.refreshSpecs = refreshSpecs;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache remoteCache = remoteCacheManager.getCache(name);
+        LocalCacheSpec spec = localSpecs.get(name);
+        if (remoteCache == null || (spec == null && !refreshSpecs.containsKey(name))) {
+            return remoteCache;
+        }
+        return twoLevelCaches.computeIfAbsent(name, n -> createTwoLevelCache(n, spec, remoteCache));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    private TwoLevelCache createTwoLevelCache(String name, LocalCacheSpec spec, Cache remoteCache) {
+        RefreshSpec refreshSpec = refreshSpecs.get(name);
+        if (spec == null) {
+            log.info("갱신 정책 캐시 생성 (L1 없음) - cache: {}", name);
+            return new TwoLevelCache(name, null, remoteCache, refreshSpec, this, meterRegistry);
+        }
+
+        Counter evictions = Counter.builder("cache.tier.evictions")
+                .tag("cache", name)
+                .tag("tier", "l1")
+                .register(meterRegistry);
+
+        com.github.benmanes.caffeine.cache.Cache<String, Object> localCache = Caffeine.newBuilder()
+                .maximumWeight(spec.getMaximumWeight())
+                .weigher((String key, Object value) -> weigh(value))
+                .expireAfterWrite(spec.getTtl())
+                .removalListener((key, value, cause) -> {
+                    if (cause.wasEvicted()) {
+                        evictions.increment();
+                    }
+                })
+                .build();
+
+        log.info("L1 로컬 캐시 생성 - cache: {}, maxWeight: {}, ttl: {}, refresh: {}",
+                name, spec.getMaximumWeight(), spec.getTtl(), refreshSpec != null);
+        return new TwoLevelCache(name, localCache, remoteCache, refreshSpec, this, meterRegistry);
+    }
+
+    StringRedisTemplate getStringRedisTemplate() {
+        return stringRedisTemplate;
+    }
+
+    // 목록 캐시는 원소 수만큼 가중치를 부여해 단건 캐시와 같은 예산을 공유
+    private int weigh(Object value) {
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        return 1;
+    }
+
+    void publishInvalidation(String cacheName, String key) {
+        try {
+            CacheInvalidationMessage message = new CacheInvalidationMessage(instanceId, cacheName, key);
+            stringRedisTemplate.convertAndSend(INVALIDATION_CHANNEL, objectMapper.writeValueAsString(message));
+        } catch (Exception e) {
+            // 전파 실패 시에도 다른 인스턴스의 L1은 TTL 경과 후 만료됨
+            log.warn("캐시 무효화 메시지 발행 실패 - cache: {}, key: {}, error: {}", cacheName, key, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            CacheInvalidationMessage invalidation = objectMapper.readValue(
+                    new String(message.getBody(), StandardCharsets.UTF_8), CacheInvalidationMessage.class);
+
+            if (instanceId.equals(invalidation.getInstanceId())) {
+                return;
+            }
+
+            TwoLevelCache cache = twoLevelCaches.get(invalidation.getCacheName());
+            if (cache == null) {
+                return;
+            }
+
+            if (invalidation.getKey() == null) {
+                cache.clearLocal();
+            } else {
+                cache.evictLocal(invalidation.getKey());
+            }
+            log.debug("원격 L1 캐시 무효화 - cache: {}, key: {}", invalidation.getCacheName(), invalidation.getKey());
+        } catch (Exception e) {
+            log.warn("캐시 무효화 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class LocalCacheSpec {
+        private final long maximumWeight;
+        private final Duration ttl;
+    }
+
+    /**
+     * 캐시 갱신 정책
+     * - ttl: 논리 만료 (Redis TTL은 이보다 길게 두어 적재 실패 시 이전 값 제공)
+     * - refreshAhead: 만료 전 이 구간에서 만료가 가까울수록 높은 확률로 조회 요청 하나가 미리 재적재
+     * - lockTimeout: 인스턴스 간 적재 락 유지 시간 (다른 인스턴스 적재를 기다리는 최대 시간)
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class RefreshSpec {
+        private final Duration ttl;
+        private final Duration refreshAhead;
+        private final Duration lockTimeout;
+    }
+}
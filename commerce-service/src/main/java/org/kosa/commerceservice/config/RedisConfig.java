@@ -1,10 +1,22 @@
 package org.kosa.commerceservice.config;
 
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.kosa.commerceservice.cache.CompactCacheSerializer;
+import org.kosa.commerceservice.cache.TwoLevelCacheManager;
+import org.kosa.commerceservice.cache.TwoLevelCacheManager.LocalCacheSpec;
+import org.kosa.commerceservice.cache.TwoLevelCacheManager.RefreshSpec;
+import org.kosa.commerceservice.dto.product.ProductDTO;
+import org.kosa.commerceservice.dto.product.ProductPageDTO;
+import org.kosa.commerceservice.dto.productImage.ProductImageDto;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,23 +26,39 @@ import org.springframework.data.redis.cache.RedisCacheManager;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 import java.time.Duration;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 @Configuration(proxyBeanMethods = false)
 @EnableCaching
 public class RedisConfig {
 
+    // 갱신 정책 캐시의 논리 만료 이후 이전 값 보관 시간
+    private static final Duration STALE_RETENTION = Duration.ofMinutes(30);
+
     @Value("${spring.redis.host:localhost}")
     private String redisHost;
 
     @Value("${spring.redis.port:6379}")
     private int redisPort;
 
+    // Smile + LZ4 압축 직렬화로 저장할 캐시 (나머지는 JSON)
+    @Value("${cache.codec.compact-caches:productDetail,productImages,productList,productsByCategory,productPages,relatedProducts,popularProducts}")
+    private Set<String> compactCaches;
+
+    @Value("${cache.codec.compression-threshold-bytes:1024}")
+    private int compressionThreshold;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         JedisConnectionFactory jedisConnectionFactory = new JedisConnectionFactory();
@@ -44,16 +72,7 @@ public class RedisConfig {
         RedisTemplate<String, Object> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.activateDefaultTyping(
-                objectMapper.getPolymorphicTypeValidator(),
-                ObjectMapper.DefaultTyping.NON_FINAL,
-                JsonTypeInfo.As.PROPERTY
-        );
-
-        GenericJackson2JsonRedisSerializer jsonSerializer =
-                new GenericJackson2JsonRedisSerializer(objectMapper);
+        GenericJackson2JsonRedisSerializer jsonSerializer = createJsonSerializer();
 
         template.setKeySerializer(new StringRedisSerializer());
         template.setValueSerializer(jsonSerializer);
@@ -66,35 +85,114 @@ public class RedisConfig {
 
     @Bean
     @Primary
-    public CacheManager cacheManager(RedisConnectionFactory redisConnectionFactory) {
+    public TwoLevelCacheManager cacheManager(RedisConnectionFactory redisConnectionFactory, MeterRegistry meterRegistry) {
+        GenericJackson2JsonRedisSerializer jsonSerializer = createJsonSerializer();
         RedisCacheConfiguration defaultConfig = RedisCacheConfiguration.defaultCacheConfig()
                 .entryTtl(Duration.ofMinutes(10))
-                .serializeKeysWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
-                        .fromSerializer(new StringRedisSerializer()))
-                .serializeValuesWith(org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair
-                        .fromSerializer(createJsonSerializer()));
+                .serializeKeysWith(SerializationPair.fromSerializer(new StringRedisSerializer()))
+                .serializeValuesWith(SerializationPair.fromSerializer(jsonSerializer));
 
         Map<String, RedisCacheConfiguration> cacheConfigurations = new HashMap<>();
         cacheConfigurations.put("productDetail", defaultConfig.entryTtl(Duration.ofHours(1)));
+        cacheConfigurations.put("productImages", defaultConfig.entryTtl(Duration.ofHours(1)));
         cacheConfigurations.put("productList", defaultConfig.entryTtl(Duration.ofMinutes(10)));
         cacheConfigurations.put("productsByCategory", defaultConfig.entryTtl(Duration.ofMinutes(30)));
+        cacheConfigurations.put("productPages", defaultConfig.entryTtl(Duration.ofMinutes(5)));
         cacheConfigurations.put("relatedProducts", defaultConfig.entryTtl(Duration.ofMinutes(20)));
         cacheConfigurations.put("categories", defaultConfig.entryTtl(Duration.ofHours(2)));
 
-        return RedisCacheManager.builder(redisConnectionFactory)
+        // 인기 목록 캐시: 키별 단일 적재 + 만료 전 조기 갱신, 논리 만료 후에도 적재 실패 대비 이전 값 보관
+        Map<String, RefreshSpec> refreshSpecs = new HashMap<>();
+        refreshSpecs.put("productList", new RefreshSpec(Duration.ofMinutes(10), Duration.ofMinutes(2), Duration.ofSeconds(5)));
+        refreshSpecs.put("popularProducts", new RefreshSpec(Duration.ofMinutes(10), Duration.ofMinutes(2), Duration.ofSeconds(5)));
+        refreshSpecs.put("discountedProducts", new RefreshSpec(Duration.ofMinutes(10), Duration.ofMinutes(2), Duration.ofSeconds(5)));
+        refreshSpecs.put("productsByCategory", new RefreshSpec(Duration.ofMinutes(30), Duration.ofMinutes(5), Duration.ofSeconds(5)));
+        refreshSpecs.forEach((cacheName, spec) -> cacheConfigurations.put(cacheName,
+                cacheConfigurations.getOrDefault(cacheName, defaultConfig).entryTtl(spec.getTtl().plus(STALE_RETENTION))));
+
+        // 상품 상세·목록 캐시는 캐시별 값 타입으로 압축 코덱 저장 (TTL은 위 설정 유지, 기존 JSON 값도 읽기 가능)
+        ObjectMapper smileMapper = createSmileMapper();
+        Map<String, JavaType> compactValueTypes = compactValueTypes(smileMapper.getTypeFactory());
+        for (String cacheName : compactCaches) {
+            JavaType valueType = compactValueTypes.get(cacheName);
+            if (valueType == null) {
+                throw new IllegalStateException("압축 코덱 값 타입이 등록되지 않은 캐시입니다: " + cacheName);
+            }
+            SerializationPair<Object> compactValues = SerializationPair.fromSerializer(
+                    new CompactCacheSerializer(smileMapper, valueType, jsonSerializer, compressionThreshold));
+            cacheConfigurations.put(cacheName,
+                    cacheConfigurations.getOrDefault(cacheName, defaultConfig).serializeValuesWith(compactValues));
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(redisConnectionFactory)
                 .cacheDefaults(defaultConfig)
                 .withInitialCacheConfigurations(cacheConfigurations)
                 .build();
+        redisCacheManager.afterPropertiesSet();
+
+        // L1 로컬 캐시 (가중치 = 단건 1, 목록은 원소 수), Redis TTL보다 짧게 유지
+        // 인기·할인 목록은 인스턴스마다 순위가 달라 보이지 않도록 L1 없이 L2 + 조기 갱신만 사용
+        Map<String, LocalCacheSpec> localSpecs = new HashMap<>();
+        localSpecs.put("productDetail", new LocalCacheSpec(10_000, Duration.ofMinutes(5)));
+        localSpecs.put("productImages", new LocalCacheSpec(10_000, Duration.ofMinutes(5)));
+        localSpecs.put("productList", new LocalCacheSpec(2_000, Duration.ofMinutes(1)));
+        localSpecs.put("productsByCategory", new LocalCacheSpec(5_000, Duration.ofMinutes(2)));
+        localSpecs.put("productPages", new LocalCacheSpec(1_000, Duration.ofMinutes(1)));
+        localSpecs.put("categories", new LocalCacheSpec(1_000, Duration.ofMinutes(10)));
+
+        return new TwoLevelCacheManager(redisCacheManager, localSpecs, refreshSpecs,
+                new StringRedisTemplate(redisConnectionFactory), new ObjectMapper(), meterRegistry);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                            TwoLevelCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(cacheManager, new ChannelTopic(TwoLevelCacheManager.INVALIDATION_CHANNEL));
+        return container;
     }
 
     private GenericJackson2JsonRedisSerializer createJsonSerializer() {
-        ObjectMapper objectMapper = new ObjectMapper();
+        return new GenericJackson2JsonRedisSerializer(configureCacheMapper(new ObjectMapper()));
+    }
+
+    // 압축 코덱 캐시의 값 타입 (타입 정보를 저장하지 않으므로 캐시마다 고정)
+    private Map<String, JavaType> compactValueTypes(TypeFactory typeFactory) {
+        JavaType product = typeFactory.constructType(ProductDTO.class);
+        JavaType productList = typeFactory.constructCollectionType(List.class, ProductDTO.class);
+
+        Map<String, JavaType> valueTypes = new HashMap<>();
+        valueTypes.put("productDetail", product);
+        valueTypes.put("productImages", typeFactory.constructCollectionType(List.class, ProductImageDto.class));
+        valueTypes.put("productList", productList);
+        valueTypes.put("productsByCategory", productList);
+        valueTypes.put("productPages", typeFactory.constructType(ProductPageDTO.class));
+        valueTypes.put("relatedProducts", productList);
+        valueTypes.put("popularProducts", productList);
+        valueTypes.put("discountedProducts", productList);
+        return valueTypes;
+    }
+
+    // 반복되는 속성명·짧은 문자열 값(고정 안내 문구 등)을 공유 참조로 기록, 기본 타이핑 없이 캐시별 타입으로 읽음
+    private ObjectMapper createSmileMapper() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        ObjectMapper smileMapper = new ObjectMapper(smileFactory);
+        smileMapper.registerModule(new JavaTimeModule());
+        smileMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return smileMapper;
+    }
+
+    private ObjectMapper configureCacheMapper(ObjectMapper objectMapper) {
         objectMapper.registerModule(new JavaTimeModule());
         objectMapper.activateDefaultTyping(
                 objectMapper.getPolymorphicTypeValidator(),
                 ObjectMapper.DefaultTyping.NON_FINAL,
                 JsonTypeInfo.As.PROPERTY
         );
-        return new GenericJackson2JsonRedisSerializer(objectMapper);
+        return objectMapper;
     }
 }
\ No newline at end of file
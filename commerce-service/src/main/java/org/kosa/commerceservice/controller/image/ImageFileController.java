@@ -1,110 +1,219 @@
 package org.kosa.commerceservice.controller.image;
 
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.UrlResource;
+import org.kosa.commerceservice.service.productImage.ImageFileService;
+import org.kosa.commerceservice.service.productImage.ImageFileService.ImageFileMetadata;
+import org.kosa.commerceservice.service.productImage.ImageVariantService;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.http.ResponseEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpRange;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
-
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
-import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Optional;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
 @Controller
 @RequestMapping("/api/images")
+@RequiredArgsConstructor
 @Slf4j
 @Tag(name = "상품 이미지 파일", description = "상품 이미지 파일 서빙 관련 API")
 public class ImageFileController {
 
-    @Value("${image.upload.path:/uploads/images/}")
-    private String uploadPath;
+    // Tomcat sendfile 요청 속성 (커넥터가 지원하면 커널에서 파일 → 소켓 직접 전송)
+    private static final String SENDFILE_SUPPORT_ATTR = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_CONTROL_VALUE = "public, max-age=31536000";
+
+    private final ImageFileService imageFileService;
+    private final ImageVariantService imageVariantService;
 
     /**
-     *  상품 이미지 서빙
+     *  상품 이미지 서빙 (ETag/Last-Modified 조건부 요청 304, 단일 Range 206 지원)
      *  요청 예시: GET /api/images/products/레몬.jpg
      */
     @GetMapping("/products/{fileName}")
     @Operation(summary = "상품 이미지 파일 서빙")
-    public ResponseEntity<Resource> serveProductImage(
+    public void serveProductImage(
             @PathVariable String fileName,
-            HttpServletRequest request) {
-
-        try {
-            log.info("상품 이미지 요청: {}", fileName);
-
-            Path filePath = Paths.get(uploadPath, fileName);
-            Resource resource = new UrlResource(filePath.toUri());
-
-            log.info("파일 경로: {}", filePath.toAbsolutePath());
-            log.info("파일 존재 여부: {}", resource.exists());
-            log.info("파일 읽기 가능 여부: {}", resource.isReadable());
-
-            if (resource.exists() && resource.isReadable()) {
-                String contentType = determineContentType(fileName);
-
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000")
-                        .header(HttpHeaders.ETAG, "\"" + resource.getFile().length() + "-" + resource.getFile().lastModified() + "\"")
-                        .body(resource);
-            } else {
-                log.warn("이미지 파일을 찾을 수 없음: {} (경로: {})", fileName, filePath.toAbsolutePath());
-                return ResponseEntity.notFound().build();
-            }
-        } catch (Exception e) {
-            log.error("이미지 파일 서빙 실패 - fileName: {}, error: {}", fileName, e.getMessage(), e);
-            return ResponseEntity.badRequest().build();
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Optional<ImageFileMetadata> metadata = imageFileService.getMetadata(fileName);
+        if (metadata.isEmpty()) {
+            log.warn("이미지 파일을 찾을 수 없음: {}", fileName);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
         }
+
+        serveFile(metadata.get(), request, response);
     }
 
     /**
-     *  썸네일 이미지 요청 시 thumb_ 접두어 붙여서 반환, 없으면 원본 대체
+     *  썸네일 이미지 서빙 - 미리 만든 thumb_ 파일 우선, 없으면 목록용 변형(320px) 생성
      */
     @GetMapping("/products/{fileName}/thumb")
     @Operation(summary = "상품 썸네일 이미지 서빙")
-    public ResponseEntity<Resource> serveThumbnail(
+    public void serveThumbnail(
+            @PathVariable String fileName,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        Optional<ImageFileMetadata> thumbnail = imageFileService.getMetadata("thumb_" + fileName);
+        if (thumbnail.isPresent()) {
+            serveFile(thumbnail.get(), request, response);
+            return;
+        }
+
+        serveVariantOrOriginal(fileName, ImageVariantService.THUMBNAIL_WIDTH, ImageVariantService.DEFAULT_QUALITY, request, response);
+    }
+
+    /**
+     *  반응형 변형 이미지 서빙 (폭은 160/320/640/1024 버킷으로 올림, 품질 low/medium/high)
+     *  요청 예시: GET /api/images/products/레몬.jpg/variant?w=640&q=high
+     */
+    @GetMapping("/products/{fileName}/variant")
+    @Operation(summary = "상품 변형 이미지 서빙")
+    public void serveVariant(
             @PathVariable String fileName,
-            HttpServletRequest request) {
+            @RequestParam(name = "w", defaultValue = "320") int width,
+            @RequestParam(name = "q", defaultValue = ImageVariantService.DEFAULT_QUALITY) String quality,
+            HttpServletRequest request,
+            HttpServletResponse response) throws IOException {
+
+        serveVariantOrOriginal(fileName, width, quality, request, response);
+    }
+
+    // 변형 생성 실패·지연 시 원본으로 대체
+    private void serveVariantOrOriginal(String fileName, int width, String quality,
+                                        HttpServletRequest request, HttpServletResponse response) throws IOException {
+        Optional<ImageFileMetadata> original = imageFileService.getMetadata(fileName);
+        if (original.isEmpty()) {
+            log.warn("이미지 파일을 찾을 수 없음: {}", fileName);
+            response.sendError(HttpServletResponse.SC_NOT_FOUND);
+            return;
+        }
+
+        Optional<ImageFileMetadata> variant = imageVariantService.getVariant(original.get(), width, quality)
+                .flatMap(imageFileService::getMetadata);
+        if (variant.isEmpty()) {
+            log.debug("변형 이미지를 사용할 수 없어 원본으로 대체: {}", fileName);
+        }
+        serveFile(variant.orElse(original.get()), request, response);
+    }
+
+    private void serveFile(ImageFileMetadata metadata, HttpServletRequest request,
+                           HttpServletResponse response) throws IOException {
+        // If-None-Match / If-Modified-Since 일치 시 304 (ETag, Last-Modified 헤더도 함께 설정됨)
+        ServletWebRequest webRequest = new ServletWebRequest(request, response);
+        if (webRequest.checkNotModified(metadata.getEtag(), metadata.getLastModified())) {
+            return;
+        }
+
+        response.setContentType(metadata.getContentType());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, CACHE_CONTROL_VALUE);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        long size = metadata.getSize();
+        long start = 0;
+        long end = size - 1;
+
+        String rangeHeader = request.getHeader(HttpHeaders.RANGE);
+        if (rangeHeader != null && isRangeApplicable(request, metadata)) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(rangeHeader);
+            } catch (IllegalArgumentException e) {
+                // 형식이 잘못된 Range는 무시하고 전체 응답
+                ranges = List.of();
+            }
+
+            // 다중 Range는 지원하지 않으므로 전체 응답으로 대체 (RFC 9110 허용)
+            if (ranges.size() == 1) {
+                try {
+                    start = ranges.get(0).getRangeStart(size);
+                    end = ranges.get(0).getRangeEnd(size);
+                } catch (IllegalArgumentException e) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                    response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                    return;
+                }
+                response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+            }
+        }
+
+        long length = end - start + 1;
+        response.setContentLengthLong(length);
+        if (HttpMethod.HEAD.matches(request.getMethod()) || length <= 0) {
+            return;
+        }
 
         try {
-            String thumbFileName = "thumb_" + fileName;
-            Path filePath = Paths.get(uploadPath, thumbFileName);
-            Resource resource = new UrlResource(filePath.toUri());
-
-            if (resource.exists() && resource.isReadable()) {
-                String contentType = determineContentType(fileName);
-
-                return ResponseEntity.ok()
-                        .contentType(MediaType.parseMediaType(contentType))
-                        .header(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000")
-                        .body(resource);
-            } else {
-                log.info("썸네일 파일이 없어 원본 이미지로 대체: {}", fileName);
-                return serveProductImage(fileName, request);
+            transfer(metadata.getPath(), start, length, request, response);
+        } catch (NoSuchFileException e) {
+            // 캐시된 메타데이터 이후 파일이 삭제된 경우
+            imageFileService.evict(metadata.getPath());
+            if (!response.isCommitted()) {
+                response.reset();
+                response.sendError(HttpServletResponse.SC_NOT_FOUND);
             }
-        } catch (Exception e) {
-            log.error("썸네일 이미지 서빙 실패 - fileName: {}, error: {}", fileName, e.getMessage());
-            return ResponseEntity.badRequest().build();
+        } catch (IOException e) {
+            // 클라이언트 연결 종료 등
+            log.debug("이미지 전송 중단 - path: {}, error: {}", metadata.getPath(), e.getMessage());
         }
     }
 
-    private String determineContentType(String fileName) {
-        String extension = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
-        return switch (extension) {
-            case "jpg", "jpeg" -> "image/jpeg";
-            case "png" -> "image/png";
-            case "gif" -> "image/gif";
-            case "webp" -> "image/webp";
-            default -> "application/octet-stream";
-        };
+    // If-Range가 있으면 현재 ETag와 같을 때만 Range 적용 (아니면 전체 응답)
+    private boolean isRangeApplicable(HttpServletRequest request, ImageFileMetadata metadata) {
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        return ifRange == null || ifRange.equals(metadata.getEtag());
+    }
+
+    /**
+     * 파일 본문 전송 - Tomcat sendfile 지원 시 위임, 아니면 FileChannel.transferTo로 전송
+     */
+    private void transfer(Path path, long start, long length, HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT_ATTR))) {
+            request.setAttribute(SENDFILE_FILENAME_ATTR, path.toString());
+            request.setAttribute(SENDFILE_START_ATTR, start);
+            request.setAttribute(SENDFILE_END_ATTR, start + length);
+            return;
+        }
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            long remaining = length;
+            while (remaining > 0) {
+                long transferred = channel.transferTo(position, remaining, out);
+                if (transferred <= 0) {
+                    break;
+                }
+                position += transferred;
+                remaining -= transferred;
+            }
+        }
     }
 }
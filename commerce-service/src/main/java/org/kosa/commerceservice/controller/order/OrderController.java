@@ -56,6 +56,31 @@ public class OrderController {
         }
     }
 
+    @GetMapping("/summary")
+    @Operation(
+            summary = "사용자의 주문 집계 조회",
+            description = "전체 주문 수, 상태별 주문 수, 누적 구매 금액을 반환합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ApiResponse<UserOrderSummaryDTO>> getOrderSummary(HttpServletRequest httpRequest) {
+        try {
+            String authHeader = httpRequest.getHeader("Authorization");
+            String userId = jwtTokenParser.extractUserIdFromAuthHeader(authHeader);
+
+            if (userId == null) {
+                return ResponseEntity.status(401)
+                        .body(ApiResponse.error("로그인이 필요합니다."));
+            }
+
+            return ResponseEntity.ok(ApiResponse.success("주문 집계 조회 성공", orderService.getOrderSummary(userId)));
+
+        } catch (Exception e) {
+            log.error("주문 집계 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("주문 집계 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
     @PostMapping("/checkout")
     @Operation(
             summary = "주문 체크아웃",
@@ -114,6 +139,77 @@ public class OrderController {
         }
     }
 
+    @GetMapping("/history")
+    @Operation(
+            summary = "사용자의 주문 내역 조회 (커서 페이지네이션)",
+            description = "최신 주문부터 size건씩 반환합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ApiResponse<OrderPageDTO>> getOrderHistory(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20") @RequestParam(defaultValue = "20") Integer size,
+            HttpServletRequest httpRequest) {
+        try {
+            String authHeader = httpRequest.getHeader("Authorization");
+            String userId = jwtTokenParser.extractUserIdFromAuthHeader(authHeader);
+
+            if (userId == null) {
+                return ResponseEntity.status(401)
+                        .body(ApiResponse.error("로그인이 필요합니다."));
+            }
+
+            OrderPageDTO page = orderService.getOrderHistory(userId, cursor, size);
+            return ResponseEntity.ok(ApiResponse.success("주문 내역 조회 성공", page));
+
+        } catch (IllegalArgumentException e) {
+            log.warn("주문 내역 조회 요청 오류: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error(e.getMessage()));
+
+        } catch (Exception e) {
+            log.error("주문 내역 조회 실패: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("주문 내역 조회 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
+    @PutMapping("/status/batch")
+    @Operation(
+            summary = "주문 상태 일괄 변경 (관리자)",
+            description = "출고 배치 등에서 여러 주문의 상태를 한 번에 변경합니다. 허용되지 않는 상태 변경은 주문별로 거부 사유와 함께 반환됩니다.",
+            security = @SecurityRequirement(name = "bearerAuth")
+    )
+    public ResponseEntity<ApiResponse<OrderStatusBatchResultDTO>> updateOrderStatuses(
+            @Valid @RequestBody OrderStatusBatchRequestDTO request,
+            HttpServletRequest httpRequest) {
+        try {
+            String authHeader = httpRequest.getHeader("Authorization");
+            String userId = jwtTokenParser.extractUserIdFromAuthHeader(authHeader);
+
+            if (userId == null) {
+                return ResponseEntity.status(401)
+                        .body(ApiResponse.error("로그인이 필요합니다."));
+            }
+
+            // 게이트웨이 라우팅 규칙과 별개로 서비스에서도 관리자 권한 확인 (내부 호출 우회 방지)
+            if (!jwtTokenParser.isAdmin(authHeader)) {
+                log.warn("관리자 권한 없는 주문 상태 일괄 변경 시도: userId={}", userId);
+                return ResponseEntity.status(403)
+                        .body(ApiResponse.error("관리자 권한이 필요합니다."));
+            }
+
+            log.info("주문 상태 일괄 변경 요청: userId={}, status={}, 요청 건수={}",
+                    userId, request.getStatus(), request.getOrderIds().size());
+            OrderStatusBatchResultDTO result = orderService.updateOrderStatuses(request.getOrderIds(), request.getStatus());
+            return ResponseEntity.ok(ApiResponse.success("주문 상태 일괄 변경 완료", result));
+
+        } catch (Exception e) {
+            log.error("주문 상태 일괄 변경 실패: {}", e.getMessage(), e);
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("주문 상태 일괄 변경 중 오류가 발생했습니다: " + e.getMessage()));
+        }
+    }
+
     @GetMapping("/{orderId}")
     @Operation(
             summary = "주문 상세 조회",
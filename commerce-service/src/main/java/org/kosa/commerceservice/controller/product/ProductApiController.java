@@ -12,8 +12,10 @@ import org.kosa.commerceservice.dto.ApiResponse;
 import org.kosa.commerceservice.dto.cart.GuestCartItemDTO;
 import org.kosa.commerceservice.dto.product.ProductDTO;
 import org.kosa.commerceservice.dto.product.ProductDetailDTO;
+import org.kosa.commerceservice.dto.product.ProductPageDTO;
 import org.kosa.commerceservice.service.product.EnhancedProductService;
 import org.kosa.commerceservice.service.product.ProductService;
+import org.kosa.commerceservice.service.product.WishService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import java.util.*;
@@ -28,6 +30,7 @@ public class ProductApiController {
 
     private final ProductService productService;
     private final EnhancedProductService enhancedProductService;
+    private final WishService wishService;
 
     @Operation(summary = "상품 상세 조회", description = "상품 ID로 상세 정보를 조회합니다. 조회 시 조회수가 증가합니다.")
     @ApiResponses(value = {
@@ -244,13 +247,63 @@ public class ProductApiController {
         }
     }
 
-    private boolean isMainCategory(Integer categoryId) {
-        if (categoryId == null) {
-            return false;
+    @Operation(summary = "전체 상품 페이지 조회 (커서)", description = "최신 상품부터 size건씩 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달합니다. 메인 이미지가 포함됩니다.")
+    @GetMapping("/page")
+    public ResponseEntity<ApiResponse<ProductPageDTO>> getProductPage(
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(ApiResponse.success(productService.getProductPage(null, cursor, size)));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(ApiResponse.error(e.getMessage()));
+        } catch (Exception e) {
+            log.error("상품 페이지 조회 실패 - error: {}", e.getMessage());
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("상품 목록 조회 실패: " + e.getMessage()));
+        }
+    }
+
+    @Operation(summary = "필터로 상품 페이지 조회 (커서)", description = "카테고리 필터를 적용한 상품을 커서 기반으로 조회합니다.")
+    @GetMapping("/filter/page")
+    public ResponseEntity<ProductPageDTO> getProductPageByFilter(
+            @Parameter(description = "카테고리 ID (ALL: 전체)", example = "ALL")
+            @RequestParam(name = "categoryId", defaultValue = "ALL") String categoryIdStr,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            Integer categoryId = "ALL".equals(categoryIdStr) ? null : Integer.parseInt(categoryIdStr);
+            return ResponseEntity.ok(productService.getProductPage(categoryId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("상품 페이지 조회 요청 오류 - categoryId: '{}', error: {}", categoryIdStr, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("필터 상품 페이지 조회 중 오류:", e);
+            return ResponseEntity.internalServerError().build();
+        }
+    }
+
+    @Operation(summary = "카테고리별 상품 페이지 조회 (커서)", description = "특정 카테고리(메인 카테고리는 하위 포함)의 상품을 커서 기반으로 조회합니다.")
+    @GetMapping("/category/{categoryId}/page")
+    public ResponseEntity<ProductPageDTO> getProductPageByCategory(
+            @Parameter(description = "카테고리 ID", required = true, example = "1")
+            @PathVariable Integer categoryId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+            @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "20")
+            @RequestParam(defaultValue = "20") int size) {
+        try {
+            return ResponseEntity.ok(productService.getProductPage(categoryId, cursor, size));
+        } catch (IllegalArgumentException e) {
+            log.warn("카테고리 상품 페이지 조회 요청 오류 - categoryId: {}, error: {}", categoryId, e.getMessage());
+            return ResponseEntity.badRequest().build();
+        } catch (Exception e) {
+            log.error("카테고리 상품 페이지 조회 중 오류:", e);
+            return ResponseEntity.internalServerError().build();
         }
-        // 메인 카테고리는 보통 1~9 또는 100단위
-        // 실제 데이터에 맞게 조정 필요
-        return categoryId < 100; // 100 미만은 메인 카테고리로 간주
     }
 
     @Operation(summary = "카테고리별 상품 조회 (이미지 포함)", description = "특정 카테고리의 상품을 이미지와 함께 조회합니다.")
@@ -355,12 +408,9 @@ public class ProductApiController {
         try {
             log.info("HOST별 상품 조회 요청 - hostId: {}, limit: {}, includeImages: {}", hostId, limit, includeImages);
 
+            // 캐시 적재 시 메인 이미지까지 첨부됨 (공유 캐시 값이므로 여기서 수정하지 않음)
             List<ProductDTO> products = productService.getProductsByHost(hostId, limit);
 
-            if (includeImages) {
-                enhancedProductService.attachMainImagesToProducts(products);
-            }
-
             log.info("HOST별 상품 조회 결과: {}개", products.size());
             return ResponseEntity.ok(products);
         } catch (Exception e) {
@@ -369,7 +419,27 @@ public class ProductApiController {
         }
     }
 
-    @Operation(summary = "상품 개수 통계", description = "전체 또는 카테고리별 상품 개수를 조회합니다.")
+    @Operation(summary = "상품 찜 개수 조회", description = "특정 상품을 찜한 사용자 수를 조회합니다.")
+    @GetMapping("/{productId}/wish-count")
+    public ResponseEntity<ApiResponse<Long>> getProductWishCount(
+            @Parameter(description = "상품 ID", required = true, example = "1")
+            @PathVariable Integer productId) {
+        return ResponseEntity.ok(ApiResponse.success(wishService.getProductWishCount(productId)));
+    }
+
+    @Operation(summary = "상품 찜 개수 일괄 조회", description = "여러 상품의 찜 개수를 한 번에 조회합니다. (상품 목록 표시용)")
+    @GetMapping("/wish-counts")
+    public ResponseEntity<ApiResponse<Map<Integer, Long>>> getProductWishCounts(
+            @Parameter(description = "상품 ID 목록 (쉼표 구분, 최대 200개)", required = true, example = "1,2,3")
+            @RequestParam List<Integer> productIds) {
+        if (productIds.size() > 200) {
+            return ResponseEntity.badRequest()
+                    .body(ApiResponse.error("한 번에 최대 200개 상품까지 조회할 수 있습니다."));
+        }
+        return ResponseEntity.ok(ApiResponse.success(wishService.getProductWishCounts(productIds)));
+    }
+
+    @Operation(summary = "상품 개수 통계", description = "전체 또는 카테고리별 상품 개수를 조회합니다. (productCount: 직속 상품 수, productCountWithDescendants: 하위 카테고리 포함)")
     @GetMapping("/stats/count")
     public ResponseEntity<Map<String, Object>> getProductCount(
             @Parameter(description = "카테고리 ID (null 또는 ALL: 전체)", example = "ALL")
@@ -379,9 +449,11 @@ public class ProductApiController {
             if (categoryIdStr != null && !"ALL".equals(categoryIdStr)) {
                 Integer categoryId = Integer.parseInt(categoryIdStr);
                 Long count = productService.getProductCountByCategory(categoryId);
+                Long countWithDescendants = productService.getProductCountByCategoryWithDescendants(categoryId);
                 result.put("categoryId", categoryId);
                 result.put("productCount", count);
-                log.info("카테고리 {} 상품 개수: {}", categoryId, count);
+                result.put("productCountWithDescendants", countWithDescendants);
+                log.info("카테고리 {} 상품 개수: {} (하위 포함 {})", categoryId, count, countWithDescendants);
             } else {
                 Long totalCount = productService.getTotalActiveProductCount();
                 result.put("totalActiveProducts", totalCount);
@@ -217,6 +217,37 @@ public class WishController {
         }
     }
 
+    @Operation(summary = "찜하기 상태 일괄 확인", description = "여러 상품의 찜하기 상태를 한 번에 확인합니다. (상품 목록 하트 표시용)")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공"),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/check")
+    public ResponseEntity<ApiResponse<Map<Integer, Boolean>>> checkWishlistStatuses(
+            @Parameter(hidden = true) @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @Parameter(description = "상품 ID 목록 (쉼표 구분)", required = true, example = "1,2,3") @RequestParam List<Integer> productIds) {
+        try {
+            String userId = getUserIdFromToken(authHeader);
+            if (userId == null) {
+                return ResponseEntity.status(401)
+                        .body(ApiResponse.error("로그인이 필요합니다."));
+            }
+
+            if (productIds.size() > 200) {
+                return ResponseEntity.badRequest()
+                        .body(ApiResponse.error("한 번에 최대 200개 상품까지 확인할 수 있습니다."));
+            }
+
+            Map<Integer, Boolean> statuses = wishService.areWishlisted(userId, productIds);
+            log.debug("찜하기 상태 일괄 확인 - userId: {}, 상품 수: {}", userId, productIds.size());
+
+            return ResponseEntity.ok(ApiResponse.success(statuses));
+        } catch (Exception e) {
+            log.error("찜하기 상태 일괄 확인 실패", e);
+            return ResponseEntity.ok(ApiResponse.success(Map.of()));
+        }
+    }
+
     @Operation(summary = "찜한 상품 목록 조회", description = "사용자의 찜한 상품 목록을 조회합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
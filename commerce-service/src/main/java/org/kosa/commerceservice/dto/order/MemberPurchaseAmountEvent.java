@@ -0,0 +1,24 @@
+package org.kosa.commerceservice.dto.order;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 누적 구매 금액 변경 이벤트 (user-service 회원 등급 갱신용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberPurchaseAmountEvent {
+    private String userId;
+    private long totalPurchaseAmount;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime eventTimestamp;
+}
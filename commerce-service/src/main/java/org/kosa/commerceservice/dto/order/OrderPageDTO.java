@@ -0,0 +1,21 @@
+package org.kosa.commerceservice.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+/**
+ * 커서 기반 주문 내역 페이지 (nextCursor를 다음 요청의 cursor로 전달)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderPageDTO {
+    private List<OrderDTO> orders;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+}
@@ -0,0 +1,24 @@
+package org.kosa.commerceservice.dto.order;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusBatchRequestDTO {
+
+    @NotEmpty(message = "주문번호 목록은 필수입니다")
+    @Size(max = 1000, message = "한 번에 최대 1000건까지 처리할 수 있습니다")
+    private List<String> orderIds;
+
+    @NotBlank(message = "변경할 상태는 필수입니다")
+    private String status;
+}
@@ -0,0 +1,23 @@
+package org.kosa.commerceservice.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주문 상태 일괄 변경 결과 (rejectedOrders: 주문 ID → 거부 사유)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderStatusBatchResultDTO {
+    private String status;
+    private int requestedCount;
+    private int updatedCount;
+    private List<String> updatedOrderIds;
+    private Map<String, String> rejectedOrders;
+}
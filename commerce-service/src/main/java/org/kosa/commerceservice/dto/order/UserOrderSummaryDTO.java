@@ -0,0 +1,21 @@
+package org.kosa.commerceservice.dto.order;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.util.Map;
+
+/**
+ * 사용자 주문 집계 (마이페이지/회원 등급 산정용)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserOrderSummaryDTO {
+    private String userId;
+    private long totalOrderCount;
+    private Map<String, Long> statusCounts;
+    private long totalPurchaseAmount;
+}
@@ -61,6 +61,7 @@ public class ProductDTO {
     private Long stockQuantity;
     private String categoryName;
     private String mainImageUrl;
+    private String thumbnailUrl;  // 목록용 축소 이미지 (/thumb 변형)
 
     // 편의 메서드들
     public Integer getFinalPrice() {
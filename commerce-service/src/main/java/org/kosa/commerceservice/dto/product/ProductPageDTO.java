@@ -0,0 +1,22 @@
+package org.kosa.commerceservice.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 커서 기반 상품 목록 페이지 (nextCursor를 다음 요청의 cursor로 전달)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPageDTO {
+    private List<ProductDTO> products;
+    private String nextCursor;
+    private boolean hasNext;
+    private int size;
+}
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.kosa.commerceservice.util.IdGenerators;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -45,7 +46,7 @@ public class Cart {
     @PrePersist
     public void prePersist() {
         if (this.cartId == null) {
-            this.cartId = "CART-" + System.currentTimeMillis();
+            this.cartId = IdGenerators.next("CART-");
         }
     }
 
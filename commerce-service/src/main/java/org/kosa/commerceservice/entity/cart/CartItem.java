@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.UpdateTimestamp;
+import org.kosa.commerceservice.util.IdGenerators;
 import java.time.LocalDateTime;
 
 @Entity
@@ -43,7 +44,7 @@ public class CartItem {
     @PrePersist
     public void prePersist() {
         if (this.cartItemId == null) {
-            this.cartItemId = "CI-" + System.currentTimeMillis() + "-" + (int)(Math.random() * 1000);
+            this.cartItemId = IdGenerators.next("CI-");
         }
         if (this.cart != null && this.cartId == null) {
             this.cartId = this.cart.getCartId();
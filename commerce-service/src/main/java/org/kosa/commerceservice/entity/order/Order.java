@@ -2,6 +2,7 @@ package org.kosa.commerceservice.entity.order;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.kosa.commerceservice.util.IdGenerators;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -25,7 +26,7 @@ public class Order {
     @Column(name = "ORDER_DATE", nullable = false)
     private LocalDateTime orderDate;
 
-    @Column(name = "ORDER_STATUS", length = 20, nullable = false)
+    @Column(name = "ORDER_STATUS", length = 30, nullable = false)
     @Builder.Default
     private String orderStatus = "결제완료";
 
@@ -111,7 +112,7 @@ public class Order {
         this.orderDate = now;
 
         if (this.orderId == null) {
-            this.orderId = "ORDER" + System.currentTimeMillis() + "_" + (int)(Math.random() * 1000);
+            this.orderId = IdGenerators.next("ORDER");
         }
 
         if (this.estimatedDate == null) {
@@ -2,6 +2,7 @@ package org.kosa.commerceservice.entity.order;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.kosa.commerceservice.util.IdGenerators;
 import java.time.LocalDateTime;
 
 @Entity
@@ -29,7 +30,7 @@ public class OrderItem {
     @Column(name = "QUANTITY", nullable = false)
     private Integer quantity;
 
-    @Column(name = "STATUS", length = 20, nullable = false)
+    @Column(name = "STATUS", length = 30, nullable = false)
     private String status = "주문완료";
 
     @Column(name = "TOTAL_PRICE", nullable = false)
@@ -59,7 +60,7 @@ public class OrderItem {
         this.updatedDate = now;
 
         if (this.orderItemId == null) {
-            this.orderItemId = "ITEM" + System.currentTimeMillis() + "_" + (int)(Math.random() * 1000);
+            this.orderItemId = IdGenerators.next("ITEM");
         }
     }
 
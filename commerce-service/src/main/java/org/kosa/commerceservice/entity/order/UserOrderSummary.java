@@ -0,0 +1,40 @@
+package org.kosa.commerceservice.entity.order;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+/**
+ * 사용자별 주문 상태 집계 (주문 생성/상태 변경 시 증감 갱신)
+ */
+@Entity
+@Table(name = "tb_user_order_summary")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserOrderSummary {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "SUMMARY_ID")
+    private Long summaryId;
+
+    @Column(name = "USER_ID", length = 50, nullable = false)
+    private String userId;
+
+    @Column(name = "ORDER_STATUS", length = 30, nullable = false)
+    private String orderStatus;
+
+    @Column(name = "ORDER_COUNT", nullable = false)
+    private Long orderCount;
+
+    @Column(name = "PURCHASE_AMOUNT", nullable = false)
+    private Long purchaseAmount;
+
+    @Column(name = "UPDATED_DATE")
+    private LocalDateTime updatedDate;
+}
@@ -3,6 +3,8 @@ package org.kosa.commerceservice.entity.product;
 import jakarta.persistence.*;
 import lombok.*;
 import org.kosa.commerceservice.entity.productImage.ProductImage;
+import org.kosa.commerceservice.listener.ProductCacheEvictListener;
+import org.kosa.commerceservice.listener.ProductCategoryCountListener;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -11,6 +13,7 @@ import java.util.List;
 
 @Entity
 @Table(name = "tb_product")
+@EntityListeners({ProductCategoryCountListener.class, ProductCacheEvictListener.class})
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Product {
     @Id
@@ -76,6 +79,17 @@ public class Product {
     @Builder.Default
     private List<ProductImage> productImages = new ArrayList<>();
 
+    // 카테고리 상품 수 집계에 마지막으로 반영된 카테고리 (집계 대상이 아니면 null)
+    @Transient
+    private Integer countedCategoryId;
+
+    /**
+     * 카테고리 상품 수 집계 대상이면 카테고리 ID, 아니면 null (판매중 + 노출 상품만 집계)
+     */
+    public Integer getCountableCategoryId() {
+        return "판매중".equals(productStatus) && "Y".equals(displayYn) ? categoryId : null;
+    }
+
     @PrePersist
     protected void onCreate() {
         createdDate = LocalDateTime.now();
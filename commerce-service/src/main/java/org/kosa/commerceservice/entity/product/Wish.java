@@ -2,6 +2,7 @@ package org.kosa.commerceservice.entity.product;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.kosa.commerceservice.util.IdGenerators;
 import java.time.LocalDateTime;
 
 @Entity
@@ -33,6 +34,6 @@ public class Wish {
     }
 
     private String generateWishId() {
-        return "WISH_" + System.currentTimeMillis() + "_" + (int)(Math.random() * 1000);
+        return IdGenerators.next("WISH_");
     }
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package org.kosa.commerceservice.listener;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.kosa.commerceservice.entity.product.Product;
+import org.kosa.commerceservice.service.product.ProductService;
+import org.kosa.commerceservice.util.TransactionCallbacks;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product 엔티티 저장/삭제 시 상품 캐시 무효화 (커밋 이후, 다른 인스턴스 L1까지 전파)
+ * - 재고 조건부 UPDATE처럼 엔티티를 거치지 않는 변경은 호출 측에서 직접 무효화
+ */
+@Component
+public class ProductCacheEvictListener {
+
+    // 엔티티 매니저 초기화 중 생성될 수 있어 지연 조회
+    private final ObjectProvider<ProductService> productServiceProvider;
+
+    public ProductCacheEvictListener(ObjectProvider<ProductService> productServiceProvider) {
+        this.productServiceProvider = productServiceProvider;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void onChange(Product product) {
+        Integer productId = product.getProductId();
+        TransactionCallbacks.afterCommit(() -> productServiceProvider.getObject().evictProductCache(productId));
+    }
+}
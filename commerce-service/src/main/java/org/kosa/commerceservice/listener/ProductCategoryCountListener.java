@@ -0,0 +1,54 @@
+package org.kosa.commerceservice.listener;
+
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.kosa.commerceservice.entity.product.Product;
+import org.kosa.commerceservice.service.product.ProductCategoryCountService;
+import org.kosa.commerceservice.util.TransactionCallbacks;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/**
+ * Product 엔티티 변경 시 카테고리 상품 수 증분 반영
+ * - 로드 시점의 집계 카테고리를 기억해 두고 저장/삭제 후 차이만 반영
+ * - 트랜잭션 안에서는 커밋 이후에 반영 (롤백 시 집계 유지)
+ */
+@Component
+public class ProductCategoryCountListener {
+
+    // 엔티티 매니저 초기화 중 생성될 수 있어 지연 조회
+    private final ObjectProvider<ProductCategoryCountService> countServiceProvider;
+
+    public ProductCategoryCountListener(ObjectProvider<ProductCategoryCountService> countServiceProvider) {
+        this.countServiceProvider = countServiceProvider;
+    }
+
+    @PostLoad
+    public void onLoad(Product product) {
+        product.setCountedCategoryId(product.getCountableCategoryId());
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void onSave(Product product) {
+        Integer before = product.getCountedCategoryId();
+        Integer after = product.getCountableCategoryId();
+        product.setCountedCategoryId(after);
+        apply(before, after);
+    }
+
+    @PostRemove
+    public void onRemove(Product product) {
+        apply(product.getCountedCategoryId(), null);
+    }
+
+    private void apply(Integer fromCategoryId, Integer toCategoryId) {
+        if (fromCategoryId == null && toCategoryId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() ->
+                countServiceProvider.getObject().applyChange(fromCategoryId, toCategoryId));
+    }
+}
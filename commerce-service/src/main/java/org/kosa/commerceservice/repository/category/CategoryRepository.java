@@ -25,4 +25,9 @@ public interface CategoryRepository extends JpaRepository<Category, Integer> {
 
     // 전체 카테고리 계층구조별 조회 (트리 구조로 정렬)
     List<Category> findByCategoryUseYnOrderByCategoryLevelAscCategoryDisplayOrderAsc(String useYn);
+
+    // 카테고리 트리 적재용 - 상위 카테고리까지 한 번에 조회
+    @Query("SELECT c FROM Category c LEFT JOIN FETCH c.parentCategory " +
+           "WHERE c.categoryUseYn = :useYn ORDER BY c.categoryLevel ASC, c.categoryDisplayOrder ASC")
+    List<Category> findAllForTree(@Param("useYn") String useYn);
 }
\ No newline at end of file
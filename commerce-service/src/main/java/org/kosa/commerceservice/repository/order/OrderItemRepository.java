@@ -3,10 +3,13 @@ package org.kosa.commerceservice.repository.order;
 
 import org.kosa.commerceservice.entity.order.OrderItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -23,6 +26,17 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, String> {
     @Query("SELECT oi FROM OrderItem oi WHERE oi.orderId = :orderId ORDER BY oi.createdDate ASC")
     List<OrderItem> findByOrderIdOrderByCreatedDateAsc(@Param("orderId") String orderId);
 
+    // 여러 주문의 상품 목록 일괄 조회 (주문 목록 N+1 방지)
+    @Query("SELECT oi FROM OrderItem oi WHERE oi.orderId IN :orderIds ORDER BY oi.createdDate ASC")
+    List<OrderItem> findByOrderIdInOrderByCreatedDateAsc(@Param("orderIds") Collection<String> orderIds);
+
+    // 여러 주문의 상품 상태 일괄 변경
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE OrderItem oi SET oi.status = :status, oi.updatedDate = :now WHERE oi.orderId IN :orderIds")
+    int updateStatusByOrderIds(@Param("orderIds") Collection<String> orderIds,
+                               @Param("status") String status,
+                               @Param("now") LocalDateTime now);
+
     // 상품별 주문 상품 조회
     List<OrderItem> findByProductId(Integer productId);
 
@@ -1,15 +1,19 @@
 package org.kosa.commerceservice.repository.order;
 
 
+import jakarta.persistence.LockModeType;
 import org.kosa.commerceservice.entity.order.Order;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +26,31 @@ public interface OrderRepository extends JpaRepository<Order, String> {
     List<Order> findByOrderStatusOrderByOrderDateDesc(String orderStatus);
     List<Order> findByUserIdAndOrderStatusOrderByOrderDateDesc(String userId, String orderStatus);
 
+    // 상태 변경 대상 주문 일괄 조회 (행 잠금 → 동시 상태 변경 시 집계 중복 반영 방지)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM Order o WHERE o.orderId IN :orderIds")
+    List<Order> findAllByOrderIdInForUpdate(@Param("orderIds") Collection<String> orderIds);
+
+    // 주문 상태 일괄 변경
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :status, o.updatedDate = :now WHERE o.orderId IN :orderIds")
+    int updateStatusByOrderIds(@Param("orderIds") Collection<String> orderIds,
+                               @Param("status") String status,
+                               @Param("now") LocalDateTime now);
+
+    // 출고 처리 일괄 변경 (송장번호는 주문 ID 기반으로 주문마다 고유)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Order o SET o.orderStatus = :status, o.updatedDate = :now, o.shippingDate = :now, " +
+            "o.deliveryCompany = :deliveryCompany, o.trackingNumber = CONCAT('TRK', o.orderId) " +
+            "WHERE o.orderId IN :orderIds")
+    int updateShippingStatusByOrderIds(@Param("orderIds") Collection<String> orderIds,
+                                       @Param("status") String status,
+                                       @Param("deliveryCompany") String deliveryCompany,
+                                       @Param("now") LocalDateTime now);
+
+    // 사용자별 주문 수 (IDX_ORDER_USER_DATE 인덱스만으로 집계)
+    long countByUserId(String userId);
+
     // 사용자별 모든 주문 조회
     List<Order> findByUserId(String userId);
 
@@ -32,6 +61,19 @@ public interface OrderRepository extends JpaRepository<Order, String> {
     @Query("SELECT o FROM Order o WHERE o.userId = :userId AND o.orderStatus IN ('PENDING', 'ORDERED', 'PAYMENT_COMPLETED', 'PREPARING', 'SHIPPED')")
     List<Order> findActiveOrdersByUserId(@Param("userId") String userId);
 
+    // 주문 내역 첫 페이지 (키셋 페이지네이션, IDX_ORDER_USER_DATE 사용)
+    @Query("SELECT o FROM Order o WHERE o.userId = :userId ORDER BY o.orderDate DESC, o.orderId DESC")
+    List<Order> findOrderHistoryFirstPage(@Param("userId") String userId, Pageable pageable);
+
+    // 주문 내역 다음 페이지 (커서 이후 주문만 조회 → 페이지 깊이와 무관하게 일정한 비용)
+    @Query("SELECT o FROM Order o WHERE o.userId = :userId " +
+            "AND (o.orderDate < :cursorDate OR (o.orderDate = :cursorDate AND o.orderId < :cursorOrderId)) " +
+            "ORDER BY o.orderDate DESC, o.orderId DESC")
+    List<Order> findOrderHistoryAfterCursor(@Param("userId") String userId,
+                                            @Param("cursorDate") LocalDateTime cursorDate,
+                                            @Param("cursorOrderId") String cursorOrderId,
+                                            Pageable pageable);
+
     // 날짜 범위별 주문 조회
     @Query("SELECT o FROM Order o WHERE o.orderDate BETWEEN :startDate AND :endDate ORDER BY o.orderDate DESC")
     List<Order> findByOrderDateBetween(@Param("startDate") LocalDateTime startDate,
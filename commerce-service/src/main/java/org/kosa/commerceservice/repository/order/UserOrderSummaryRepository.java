@@ -0,0 +1,31 @@
+package org.kosa.commerceservice.repository.order;
+
+import org.kosa.commerceservice.entity.order.UserOrderSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface UserOrderSummaryRepository extends JpaRepository<UserOrderSummary, Long> {
+
+    // 사용자 집계 행 조회 (주문 상태 수만큼의 소량 행)
+    List<UserOrderSummary> findByUserId(String userId);
+
+    // 사용자+상태 집계 증감 (행이 없으면 생성, UK_USER_ORDER_SUMMARY_USER_STATUS 기준 upsert)
+    @Modifying
+    @Query(value = """
+        INSERT INTO tb_user_order_summary (USER_ID, ORDER_STATUS, ORDER_COUNT, PURCHASE_AMOUNT)
+        VALUES (:userId, :orderStatus, :countDelta, :amountDelta)
+        ON DUPLICATE KEY UPDATE
+            ORDER_COUNT = ORDER_COUNT + VALUES(ORDER_COUNT),
+            PURCHASE_AMOUNT = PURCHASE_AMOUNT + VALUES(PURCHASE_AMOUNT)
+        """, nativeQuery = true)
+    int applyDelta(@Param("userId") String userId,
+                   @Param("orderStatus") String orderStatus,
+                   @Param("countDelta") long countDelta,
+                   @Param("amountDelta") long amountDelta);
+}
@@ -3,9 +3,11 @@ package org.kosa.commerceservice.repository.product;
 import org.kosa.commerceservice.entity.product.Product;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -37,6 +39,34 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
     @Query(value = "SELECT * FROM tb_product WHERE category_id IN (:categoryIds) AND PRODUCT_STATUS = '판매중' AND display_yn = 'Y' ORDER BY CREATED_DATE DESC", nativeQuery = true)
     List<Product> findByMultipleCategoriesActive(@Param("categoryIds") List<Integer> categoryIds, Pageable pageable);
 
+    // 전체 상품 키셋 페이지 - 첫 페이지 (IDX_PRODUCT_LISTING 사용)
+    @Query("SELECT p FROM Product p WHERE p.productStatus = '판매중' AND p.displayYn = 'Y' " +
+            "ORDER BY p.createdDate DESC, p.productId DESC")
+    List<Product> findActiveProductsFirstPage(Pageable pageable);
+
+    // 전체 상품 키셋 페이지 - 커서 이후 (OFFSET 없이 페이지 크기만큼만 읽음)
+    @Query("SELECT p FROM Product p WHERE p.productStatus = '판매중' AND p.displayYn = 'Y' " +
+            "AND (p.createdDate < :cursorDate OR (p.createdDate = :cursorDate AND p.productId < :cursorId)) " +
+            "ORDER BY p.createdDate DESC, p.productId DESC")
+    List<Product> findActiveProductsAfterCursor(@Param("cursorDate") LocalDateTime cursorDate,
+                                                @Param("cursorId") Integer cursorId,
+                                                Pageable pageable);
+
+    // 카테고리 상품 키셋 페이지 - 첫 페이지 (IDX_PRODUCT_CATEGORY_LISTING 사용)
+    @Query("SELECT p FROM Product p WHERE p.categoryId IN :categoryIds AND p.productStatus = '판매중' AND p.displayYn = 'Y' " +
+            "ORDER BY p.createdDate DESC, p.productId DESC")
+    List<Product> findActiveProductsInCategoriesFirstPage(@Param("categoryIds") List<Integer> categoryIds,
+                                                          Pageable pageable);
+
+    // 카테고리 상품 키셋 페이지 - 커서 이후
+    @Query("SELECT p FROM Product p WHERE p.categoryId IN :categoryIds AND p.productStatus = '판매중' AND p.displayYn = 'Y' " +
+            "AND (p.createdDate < :cursorDate OR (p.createdDate = :cursorDate AND p.productId < :cursorId)) " +
+            "ORDER BY p.createdDate DESC, p.productId DESC")
+    List<Product> findActiveProductsInCategoriesAfterCursor(@Param("categoryIds") List<Integer> categoryIds,
+                                                            @Param("cursorDate") LocalDateTime cursorDate,
+                                                            @Param("cursorId") Integer cursorId,
+                                                            Pageable pageable);
+
     // HOST별 상품 조회 (라이브 방송용)
     @Query("SELECT p FROM Product p WHERE p.hostId = :hostId AND p.productStatus = :productStatus AND p.displayYn = 'Y' ORDER BY p.createdDate DESC")
     List<Product> findByHostIdAndProductStatus(@Param("hostId") Long hostId, @Param("productStatus") String productStatus, Pageable pageable);
@@ -68,4 +98,14 @@ public interface ProductRepository extends JpaRepository<Product, Integer> {
     // 인기 상품 조회 (조회수 높은 순)
     @Query("SELECT p FROM Product p WHERE p.productStatus = :productStatus AND p.displayYn = 'Y' ORDER BY p.viewCount DESC, p.createdDate DESC")
     List<Product> findPopularProducts(@Param("productStatus") String productStatus, Pageable pageable);
+
+    // 재고 조건부 차감 (재고 부족 시 0 반환 - SELECT FOR UPDATE 없이 단일 UPDATE로 원자 처리)
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock - :quantity WHERE p.productId = :productId AND p.stock >= :quantity")
+    int decreaseStockIfAvailable(@Param("productId") Integer productId, @Param("quantity") Integer quantity);
+
+    // 재고 복원 (예약 해제)
+    @Modifying
+    @Query("UPDATE Product p SET p.stock = p.stock + :quantity WHERE p.productId = :productId")
+    int increaseStock(@Param("productId") Integer productId, @Param("quantity") Integer quantity);
 }
\ No newline at end of file
@@ -3,9 +3,11 @@ package org.kosa.commerceservice.repository.product;
 
 import org.kosa.commerceservice.entity.product.Wish;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -40,6 +42,34 @@ public interface WishRepository extends JpaRepository<Wish, String> {
     // 사용자와 상품 ID로 찜하기 삭제
     void deleteByUserIdAndProductId(String userId, Integer productId);
 
+    // 찜하기 추가 (USER_ID+PRODUCT_ID 유니크 키로 중복 시 0 반환 - 조회 후 삽입 경합 제거)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO tb_wish (WISH_ID, USER_ID, PRODUCT_ID, CREATED_DATE) " +
+                   "VALUES (:wishId, :userId, :productId, NOW())", nativeQuery = true)
+    int insertIfAbsent(@Param("wishId") String wishId, @Param("userId") String userId, @Param("productId") Integer productId);
+
+    // 찜하기 해제 (삭제된 행 수 반환)
+    @Modifying
+    @Query("DELETE FROM Wish w WHERE w.userId = :userId AND w.productId = :productId")
+    int deleteWish(@Param("userId") String userId, @Param("productId") Integer productId);
+
+    // 찜 집합 적재용 - 사용자의 찜 상품 ID 전체
+    @Query("SELECT w.productId FROM Wish w WHERE w.userId = :userId")
+    List<Integer> findProductIdsByUserId(@Param("userId") String userId);
+
+    // 상품별 찜 개수 (찜 개수 캐시 재집계용)
+    @Query("SELECT w.productId, COUNT(w) FROM Wish w GROUP BY w.productId")
+    List<Object[]> countAllGroupByProductId();
+
+    // 여러 상품의 찜 개수
+    @Query("SELECT w.productId, COUNT(w) FROM Wish w WHERE w.productId IN :productIds GROUP BY w.productId")
+    List<Object[]> countByProductIdIn(@Param("productIds") Collection<Integer> productIds);
+
+    // 여러 상품 중 찜한 상품 ID
+    @Query("SELECT w.productId FROM Wish w WHERE w.userId = :userId AND w.productId IN :productIds")
+    List<Integer> findProductIdsByUserIdAndProductIdIn(@Param("userId") String userId,
+                                                       @Param("productIds") Collection<Integer> productIds);
+
     // 사용자 ID로 모든 찜하기 삭제
     void deleteByUserId(String userId);
 }
\ No newline at end of file
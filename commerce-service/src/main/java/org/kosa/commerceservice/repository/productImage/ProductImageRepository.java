@@ -4,6 +4,7 @@ package org.kosa.commerceservice.repository.productImage;
 import org.kosa.commerceservice.entity.productImage.ProductImage;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +14,8 @@ public interface ProductImageRepository extends JpaRepository<ProductImage, Inte
     List<ProductImage> findByProductIdOrderByImageSeqAsc(Integer productId);
 
     Optional<ProductImage> findByProductIdAndIsMainImage(Integer productId, String isMainImage);
+
+    List<ProductImage> findByProductIdInAndIsMainImageOrderByImageSeqAsc(List<Integer> productIds, String isMainImage);
+
+    List<ProductImage> findByProductIdInOrderByProductIdAscImageSeqAsc(Collection<Integer> productIds);
 }
\ No newline at end of file
@@ -0,0 +1,39 @@
+package org.kosa.commerceservice.repository.stock;
+
+import org.kosa.commerceservice.entity.stock.StockReservation;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface StockReservationRepository extends JpaRepository<StockReservation, Long> {
+
+    // 주문별 예약 목록 조회
+    List<StockReservation> findByOrderId(String orderId);
+
+    // 만료된 예약 조회 (만료 처리/정합성 점검용)
+    @Query("SELECT r FROM StockReservation r WHERE r.status = 'RESERVED' AND r.expiresAt < :now ORDER BY r.expiresAt")
+    List<StockReservation> findExpiredReservations(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // 상태 전이 (이전 상태 조건부, 중복 처리 방지)
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :toStatus, r.updatedDate = CURRENT_TIMESTAMP " +
+            "WHERE r.reservationId = :reservationId AND r.status = :fromStatus")
+    int transitionStatus(@Param("reservationId") Long reservationId,
+                         @Param("fromStatus") String fromStatus,
+                         @Param("toStatus") String toStatus);
+
+    // 주문 단위 상태 전이
+    @Modifying
+    @Query("UPDATE StockReservation r SET r.status = :toStatus, r.updatedDate = CURRENT_TIMESTAMP " +
+            "WHERE r.orderId = :orderId AND r.status = :fromStatus")
+    int transitionStatusByOrderId(@Param("orderId") String orderId,
+                                  @Param("fromStatus") String fromStatus,
+                                  @Param("toStatus") String toStatus);
+}
@@ -6,7 +6,6 @@ import io.github.resilience4j.timelimiter.annotation.TimeLimiter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
-import org.kosa.commerceservice.client.ProductServiceClient;
 import org.kosa.commerceservice.dto.cart.CartDTO;
 import org.kosa.commerceservice.dto.cart.CartItemDTO;
 import org.kosa.commerceservice.dto.cart.CartRequestDTO;
@@ -16,12 +15,14 @@ import org.kosa.commerceservice.entity.cart.Cart;
 import org.kosa.commerceservice.entity.cart.CartItem;
 import org.kosa.commerceservice.repository.cart.CartItemRepository;
 import org.kosa.commerceservice.repository.cart.CartRepository;
+import org.kosa.commerceservice.service.product.ProductService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -34,7 +35,7 @@ public class CartService {
 
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
-    private final ProductServiceClient productServiceClient;
+    private final ProductService productService;
 
     @CircuitBreaker(name = "cartService", fallbackMethod = "addToCartFallback")
     @Retry(name = "cartService")
@@ -154,16 +155,16 @@ public class CartService {
         }
 
         List<CartItem> cartItems = cartItemRepository.findByCartId(cart.getCartId());
+        Map<Integer, ProductDTO> products = loadProducts(cartItems);
 
         List<CartItemDTO> cartItemDTOs = cartItems.stream()
                 .map(item -> {
-                    try {
-                        ProductDTO product = getProductWithCircuitBreaker(item.getProductId());
-                        return convertToCartItemDTO(item, product);
-                    } catch (Exception e) {
+                    ProductDTO product = products.get(item.getProductId());
+                    if (product == null) {
                         log.warn("상품 정보 조회 실패, 기본값 사용: productId={}", item.getProductId());
                         return convertToCartItemDTOWithoutProduct(item);
                     }
+                    return convertToCartItemDTO(item, product);
                 })
                 .collect(Collectors.toList());
 
@@ -171,10 +172,18 @@ public class CartService {
         return result;
     }
 
-    @CircuitBreaker(name = "productService", fallbackMethod = "getProductFallback")
-    @Retry(name = "productService")
-    private ProductDTO getProductWithCircuitBreaker(Integer productId) {
-        return productServiceClient.getProduct(productId);
+    // 장바구니 상품 정보를 상품 서비스에서 일괄 조회 (자기 자신 HTTP 호출 제거)
+    private Map<Integer, ProductDTO> loadProducts(List<CartItem> cartItems) {
+        List<Integer> productIds = cartItems.stream()
+                .map(CartItem::getProductId)
+                .collect(Collectors.toList());
+
+        try {
+            return productService.getProductsByIds(productIds);
+        } catch (Exception e) {
+            log.warn("장바구니 상품 일괄 조회 실패, 기본값 사용: productIds={}, error={}", productIds, e.getMessage());
+            return Map.of();
+        }
     }
 
     @Transactional
@@ -251,12 +260,10 @@ public class CartService {
         cartItem.setQuantity(request.getQuantity());
         cartItemRepository.save(cartItem);
 
-        try {
-            ProductDTO product = productServiceClient.getProduct(cartItem.getProductId());
-            return convertToCartItemDTO(cartItem, product);
-        } catch (Exception e) {
-            return convertToCartItemDTOWithoutProduct(cartItem);
-        }
+        ProductDTO product = loadProducts(List.of(cartItem)).get(cartItem.getProductId());
+        return product != null
+                ? convertToCartItemDTO(cartItem, product)
+                : convertToCartItemDTOWithoutProduct(cartItem);
     }
 
     @Transactional(readOnly = true)
@@ -443,18 +450,6 @@ public class CartService {
                 .build();
     }
 
-    public ProductDTO getProductFallback(Integer productId, Exception ex) {
-        log.error("상품 정보 조회 서킷브레이커 동작 - productId: {}, error: {}", productId, ex.getMessage());
-
-        return ProductDTO.builder()
-                .productId(productId)
-                .name("일시적으로 조회할 수 없는 상품")
-                .price(0)
-                .salePrice(0)
-                .productStatus("일시중단")
-                .build();
-    }
-
     public int removePurchasedItemsFallback(String userId, List<Integer> productIds, Exception ex) {
         log.error("구매 완료 상품 제거 서킷브레이커 동작 - userId: {}, error: {}", userId, ex.getMessage());
         return 0;
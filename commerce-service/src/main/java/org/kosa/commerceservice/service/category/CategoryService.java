@@ -9,11 +9,11 @@ import org.kosa.commerceservice.repository.category.CategoryRepository;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 import java.util.ArrayList;
 
 @Service
@@ -30,49 +30,66 @@ public class CategoryService {
     @Value("${server.port:8080}")
     private String serverPort;
 
-    @Cacheable(value = "categories", key = "'main'")
-    public List<CategoryDto> getMainCategories() {
-        log.debug("메인 카테고리 조회 시작");
-
-        List<CategoryDto> result = categoryRepository
-                .findByCategoryLevelAndCategoryUseYnOrderByCategoryDisplayOrder(1, "Y")
-                .stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    // 사용 중인 카테고리 트리 (전체 1회 조회로 생성, 갱신 시 새 스냅샷으로 교체)
+    private volatile CategoryTree categoryTree;
 
+    public List<CategoryDto> getMainCategories() {
+        List<CategoryDto> result = getCategoryTree().getMainCategories();
         log.debug("메인 카테고리 {}개 조회 완료", result.size());
         return result;
     }
 
-    @Cacheable(value = "categories", key = "'sub:' + #parentCategoryId")
     public List<CategoryDto> getSubCategories(Integer parentCategoryId) {
-        List<Category> subCategories = categoryRepository
-                .findByParentCategory_CategoryIdAndCategoryUseYnOrderByCategoryDisplayOrder(parentCategoryId, "Y");
-
-        List<CategoryDto> result = subCategories.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-
-        return result;
+        return getCategoryTree().getChildren(parentCategoryId);
     }
 
-    @Cacheable(value = "categories", key = "'children:' + #parentCategoryId")
     public List<Integer> getAllChildrenIds(Integer parentCategoryId) {
-        List<Integer> allChildrenIds = new ArrayList<>();
-        collectAllChildrenIds(parentCategoryId, allChildrenIds);
-        return allChildrenIds;
+        return new ArrayList<>(getCategoryTree().getDescendantIds(parentCategoryId));
+    }
+
+    /**
+     * 자신 + 모든 하위 카테고리 ID (상품 카테고리 필터용, 읽기 전용 목록)
+     */
+    public List<Integer> getSelfAndDescendantIds(Integer categoryId) {
+        return getCategoryTree().getSelfAndDescendantIds(categoryId);
     }
 
-    @Cacheable(value = "categories", key = "'hierarchy'")
     public List<CategoryDto> getCategoriesWithHierarchy() {
-        List<Category> mainCategories = categoryRepository
-                .findByParentCategoryIsNullAndCategoryUseYnOrderByCategoryDisplayOrder("Y");
+        return getCategoryTree().getHierarchy();
+    }
 
-        List<CategoryDto> result = mainCategories.stream()
-                .map(this::convertToDtoWithSubCategories)
-                .collect(Collectors.toList());
+    public CategoryTree getCategoryTree() {
+        CategoryTree tree = categoryTree;
+        if (tree == null) {
+            synchronized (this) {
+                tree = categoryTree;
+                if (tree == null) {
+                    tree = loadCategoryTree();
+                    categoryTree = tree;
+                }
+            }
+        }
+        return tree;
+    }
 
-        return result;
+    /**
+     * 카테고리 트리 재적재 (다른 인스턴스의 변경도 주기적으로 반영)
+     */
+    @Scheduled(fixedDelayString = "${category.tree.refresh-interval-ms:300000}",
+               initialDelayString = "${category.tree.refresh-interval-ms:300000}")
+    public void refreshCategoryTree() {
+        try {
+            categoryTree = loadCategoryTree();
+        } catch (Exception e) {
+            // 기존 스냅샷 유지
+            log.error("카테고리 트리 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    private CategoryTree loadCategoryTree() {
+        CategoryTree tree = CategoryTree.build(categoryRepository.findAllForTree("Y"), this::convertToDto);
+        log.info("카테고리 트리 적재 완료: {}개", tree.size());
+        return tree;
     }
 
     @Cacheable(value = "categories", key = "'detail:' + #categoryId")
@@ -88,6 +105,7 @@ public class CategoryService {
     @Transactional
     public void evictAllCategoryCache() {
         log.info("모든 카테고리 캐시 무효화");
+        refreshCategoryTree();
     }
 
     @CacheEvict(value = "categories", key = "'detail:' + #categoryId")
@@ -96,16 +114,6 @@ public class CategoryService {
         log.info("카테고리 {} 캐시 무효화", categoryId);
     }
 
-    private void collectAllChildrenIds(Integer parentCategoryId, List<Integer> result) {
-        List<Category> directChildren = categoryRepository
-                .findByParentCategory_CategoryIdAndCategoryUseYnOrderByCategoryDisplayOrder(parentCategoryId, "Y");
-
-        for (Category child : directChildren) {
-            result.add(child.getCategoryId());
-            collectAllChildrenIds(child.getCategoryId(), result);
-        }
-    }
-
     public boolean existsCategory(Integer categoryId) {
         return categoryRepository.existsById(categoryId);
     }
@@ -130,19 +138,6 @@ public class CategoryService {
         return dto;
     }
 
-    private CategoryDto convertToDtoWithSubCategories(Category category) {
-        List<Category> subCategories = categoryRepository
-                .findByParentCategory_CategoryIdAndCategoryUseYnOrderByCategoryDisplayOrder(category.getCategoryId(), "Y");
-
-        List<CategoryDto> subCategoryDtos = subCategories.stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
-
-        CategoryDto dto = convertToDto(category);
-        dto.setSubCategories(subCategoryDtos);
-        return dto;
-    }
-
     private String buildIconUrl(String categoryIcon) {
         if (categoryIcon == null || categoryIcon.trim().isEmpty()) {
             log.debug("카테고리 아이콘이 null이거나 비어있음");
@@ -0,0 +1,172 @@
+package org.kosa.commerceservice.service.category;
+
+import org.kosa.commerceservice.dto.category.CategoryDto;
+import org.kosa.commerceservice.entity.category.Category;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * 사용 중인 카테고리 트리 스냅샷 (불변, 갱신 시 통째로 교체)
+ * - 전위 순회 순서로 ID를 나열하고 노드별 [enter, exit] 구간을 기록
+ * - 하위 전체 조회는 구간 subList, 상하위 관계 판별은 구간 비교로 처리
+ */
+public final class CategoryTree {
+
+    private final Map<Integer, CategoryDto> categories;
+    private final Map<Integer, Integer> parentIds;
+    private final Map<Integer, List<CategoryDto>> children;
+    private final List<Integer> preorder;
+    private final Map<Integer, int[]> intervals;
+    private final List<CategoryDto> mainCategories;
+    private final List<CategoryDto> hierarchy;
+
+    private CategoryTree(Map<Integer, CategoryDto> categories, Map<Integer, Integer> parentIds,
+                         Map<Integer, List<CategoryDto>> children, List<Integer> preorder,
+                         Map<Integer, int[]> intervals, List<CategoryDto> mainCategories,
+                         List<CategoryDto> hierarchy) {
+        this.categories = categories;
+        this.parentIds = parentIds;
+        this.children = children;
+        this.preorder = preorder;
+        this.intervals = intervals;
+        this.mainCategories = mainCategories;
+        this.hierarchy = hierarchy;
+    }
+
+    /**
+     * 레벨·노출 순서로 정렬된 카테고리 목록으로 트리 생성
+     */
+    public static CategoryTree build(List<Category> sortedCategories, Function<Category, CategoryDto> converter) {
+        Map<Integer, Category> byId = new LinkedHashMap<>();
+        for (Category category : sortedCategories) {
+            byId.put(category.getCategoryId(), category);
+        }
+
+        Map<Integer, CategoryDto> categories = new HashMap<>();
+        Map<Integer, Integer> parentIds = new HashMap<>();
+        Map<Integer, List<Integer>> childIds = new HashMap<>();
+        List<CategoryDto> mainCategories = new ArrayList<>();
+
+        for (Category category : byId.values()) {
+            Integer categoryId = category.getCategoryId();
+            CategoryDto dto = converter.apply(category);
+            categories.put(categoryId, dto);
+
+            if (category.getParentCategory() != null) {
+                Integer parentId = category.getParentCategory().getCategoryId();
+                parentIds.put(categoryId, parentId);
+                childIds.computeIfAbsent(parentId, id -> new ArrayList<>()).add(categoryId);
+            }
+            if (Integer.valueOf(1).equals(category.getCategoryLevel())) {
+                mainCategories.add(dto);
+            }
+        }
+
+        // 상위가 없거나 미사용인 카테고리를 기준으로 전위 순회 (순환 참조는 방문 여부로 차단)
+        List<Integer> preorder = new ArrayList<>(byId.size());
+        Map<Integer, int[]> intervals = new HashMap<>();
+        for (Integer categoryId : byId.keySet()) {
+            Integer parentId = parentIds.get(categoryId);
+            if (parentId == null || !byId.containsKey(parentId)) {
+                visit(categoryId, childIds, preorder, intervals);
+            }
+        }
+
+        Map<Integer, List<CategoryDto>> children = new HashMap<>();
+        childIds.forEach((parentId, ids) -> children.put(parentId, ids.stream()
+                .filter(categories::containsKey)
+                .map(categories::get)
+                .toList()));
+
+        // 계층형 응답: 최상위 카테고리 + 직속 하위 카테고리 (조회용 DTO와 분리된 인스턴스)
+        List<CategoryDto> hierarchy = new ArrayList<>();
+        for (Category category : byId.values()) {
+            if (category.getParentCategory() == null) {
+                CategoryDto root = converter.apply(category);
+                root.setSubCategories(children.getOrDefault(category.getCategoryId(), List.of()));
+                hierarchy.add(root);
+            }
+        }
+
+        return new CategoryTree(categories, parentIds, children, Collections.unmodifiableList(preorder),
+                intervals, List.copyOf(mainCategories), List.copyOf(hierarchy));
+    }
+
+    private static void visit(Integer categoryId, Map<Integer, List<Integer>> childIds,
+                              List<Integer> preorder, Map<Integer, int[]> intervals) {
+        if (intervals.containsKey(categoryId)) {
+            return;
+        }
+        int[] interval = new int[]{preorder.size(), preorder.size()};
+        intervals.put(categoryId, interval);
+        preorder.add(categoryId);
+
+        for (Integer childId : childIds.getOrDefault(categoryId, List.of())) {
+            visit(childId, childIds, preorder, intervals);
+        }
+        interval[1] = preorder.size() - 1;
+    }
+
+    public CategoryDto getCategory(Integer categoryId) {
+        return categories.get(categoryId);
+    }
+
+    public Integer getParentId(Integer categoryId) {
+        return parentIds.get(categoryId);
+    }
+
+    public List<CategoryDto> getChildren(Integer categoryId) {
+        return children.getOrDefault(categoryId, List.of());
+    }
+
+    /**
+     * 모든 하위 카테고리 ID (전위 순회 순서, 자신 제외)
+     */
+    public List<Integer> getDescendantIds(Integer categoryId) {
+        int[] interval = intervals.get(categoryId);
+        if (interval == null) {
+            return List.of();
+        }
+        return preorder.subList(interval[0] + 1, interval[1] + 1);
+    }
+
+    /**
+     * 자신 + 모든 하위 카테고리 ID (트리에 없는 카테고리는 자신만)
+     */
+    public List<Integer> getSelfAndDescendantIds(Integer categoryId) {
+        int[] interval = intervals.get(categoryId);
+        if (interval == null) {
+            return List.of(categoryId);
+        }
+        return preorder.subList(interval[0], interval[1] + 1);
+    }
+
+    public boolean isDescendant(Integer ancestorId, Integer categoryId) {
+        int[] ancestor = intervals.get(ancestorId);
+        int[] target = intervals.get(categoryId);
+        return ancestor != null && target != null
+                && ancestor[0] < target[0] && target[1] <= ancestor[1];
+    }
+
+    public boolean hasChildren(Integer categoryId) {
+        return !getChildren(categoryId).isEmpty();
+    }
+
+    public List<CategoryDto> getMainCategories() {
+        return mainCategories;
+    }
+
+    public List<CategoryDto> getHierarchy() {
+        return hierarchy;
+    }
+
+    public int size() {
+        return categories.size();
+    }
+}
@@ -15,6 +15,8 @@ import org.kosa.commerceservice.repository.order.OrderCancelRepository;
 import org.kosa.commerceservice.repository.order.OrderItemRepository;
 import org.kosa.commerceservice.repository.order.OrderRepository;
 import org.kosa.commerceservice.service.payment.PaymentService;
+import org.kosa.commerceservice.service.stock.StockReservationService;
+import org.kosa.commerceservice.util.KeysetCursor;
 import org.springframework.context.ApplicationContext;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -23,8 +25,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
@@ -38,23 +44,21 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final OrderCancelRepository orderCancelRepository;
+    private final StockReservationService stockReservationService;
+    private final UserOrderSummaryService userOrderSummaryService;
     private final ApplicationContext applicationContext;
 
-    private static final List<String> CANCELLABLE_STATUSES = Arrays.asList(
-            "PENDING", "ORDER_COMPLETED", "PREPARING", "PAYMENT_COMPLETED"
-    );
+    private static final String DEFAULT_DELIVERY_COMPANY = "한진택배";
 
-    private static final String CANCELLED_STATUS = "CANCELLED";
-    private static final String CANCELLED_BY_WITHDRAWAL_STATUS = "CANCELLED_BY_WITHDRAWAL";
+    private static final int DEFAULT_HISTORY_PAGE_SIZE = 20;
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
 
     @Transactional(readOnly = true)
     public int getOrderCount(String userId) {
         try {
             log.info("사용자 주문 개수 조회: userId={}", userId);
 
-            List<Order> orders = orderRepository.findByUserIdOrderByOrderDateDesc(userId);
-
-            int count = orders.size();
+            int count = (int) orderRepository.countByUserId(userId);
             log.info("주문 개수 조회 결과: userId={}, count={}", userId, count);
 
             return count;
@@ -110,21 +114,12 @@ public class OrderService {
                     .build();
 
             Order savedOrder = orderRepository.save(order);
+            saveOrderItems(savedOrder.getOrderId(), request.getItems());
+            userOrderSummaryService.recordOrderCreated(
+                    savedOrder.getUserId(), savedOrder.getOrderStatus(), savedOrder.getTotalPrice());
 
-            for (CheckoutItemDTO item : request.getItems()) {
-                OrderItem orderItem = OrderItem.builder()
-                        .orderId(savedOrder.getOrderId())
-                        .productId(item.getProductId())
-                        .name(getDefaultValue(item.getProductName(), "상품명 없음"))
-                        .quantity(item.getQuantity())
-                        .status("PREPARING")
-                        .totalPrice(item.getTotalPrice())
-                        .deliveryFee(0)
-                        .imageUrl(getDefaultValue(item.getImageUrl(), ""))
-                        .build();
-
-                orderItemRepository.save(orderItem);
-            }
+            // 재고 예약은 마지막에 수행해 상품 행 락 보유 시간을 최소화
+            stockReservationService.reserve(savedOrder.getOrderId(), request.getItems());
 
             return OrderResponseDTO.builder()
                     .orderId(savedOrder.getOrderId())
@@ -154,7 +149,7 @@ public class OrderService {
                 throw new IllegalStateException("이미 취소된 주문입니다.");
             }
 
-            if (!CANCELLABLE_STATUSES.contains(order.getOrderStatus())) {
+            if (!OrderStatusTransition.isCancellable(order.getOrderStatus())) {
                 throw new IllegalStateException("현재 주문 상태에서는 취소할 수 없습니다. 상태: " + order.getOrderStatus());
             }
 
@@ -203,7 +198,12 @@ public class OrderService {
                     .build();
 
             orderCancelRepository.save(orderCancel);
-            updateOrderAndItemsStatus(order, CANCELLED_STATUS);
+
+            OrderStatusBatchResultDTO transition = updateOrderStatuses(
+                    List.of(order.getOrderId()), OrderStatusTransition.CANCELLED);
+            if (transition.getUpdatedCount() == 0) {
+                throw new IllegalStateException(transition.getRejectedOrders().get(order.getOrderId()));
+            }
 
             log.info("주문 취소 완료: orderId={}, refundAmount={}",
                     request.getOrderId(), request.getRefundAmount());
@@ -229,50 +229,135 @@ public class OrderService {
     public List<OrderDTO> getActiveUserOrders(String userId) {
         try {
             List<Order> orders = orderRepository.findActiveOrdersByUserId(userId);
-            return orders.stream()
-                    .map(this::convertToOrderDTO)
-                    .collect(Collectors.toList());
+            return convertToOrderDTOs(orders);
         } catch (Exception e) {
             log.error("활성 주문 조회 실패: {}", e.getMessage(), e);
             throw new RuntimeException("활성 주문 조회 중 오류가 발생했습니다.");
         }
     }
 
+    /**
+     * 단건 주문 상태 변경 (허용되지 않는 변경은 DB 변경 없이 거부 → 호출 트랜잭션 유지)
+     */
+    @Transactional(noRollbackFor = OrderStatusTransitionException.class)
     public void updateOrderStatus(String orderId, String newStatus) {
         try {
             log.info("주문 상태 변경: orderId={}, newStatus={}", orderId, newStatus);
 
-            Order order = orderRepository.findById(orderId)
-                    .orElseThrow(() -> new RuntimeException("주문을 찾을 수 없습니다: " + orderId));
-
-            if ("SHIPPING".equals(newStatus)) {
-                order.setShippingDate(LocalDateTime.now());
-                order.setTrackingNumber("TRK" + System.currentTimeMillis());
-                order.setDeliveryCompany("한진택배");
+            OrderStatusBatchResultDTO result = updateOrderStatuses(List.of(orderId), newStatus);
+            if (result.getUpdatedCount() == 0) {
+                throw new OrderStatusTransitionException(result.getRejectedOrders().get(orderId));
             }
-
-            updateOrderAndItemsStatus(order, newStatus);
             log.info("주문 상태 변경 완료: orderId={}", orderId);
 
+        } catch (OrderStatusTransitionException e) {
+            log.warn("주문 상태 변경 거부: orderId={}, reason={}", orderId, e.getMessage());
+            throw e;
         } catch (Exception e) {
             log.error("주문 상태 변경 실패: {}", e.getMessage(), e);
             throw new RuntimeException("주문 상태 변경 중 오류가 발생했습니다.");
         }
     }
 
+    /**
+     * 주문 상태 일괄 변경 (출고 배치, 탈퇴 회원 주문 정리 등)
+     * - 대상 주문 IN 조회 1회(행 잠금) 후 메모리에서 전이 검증
+     * - 주문/주문 상품 상태는 ORDER_ID IN (...) UPDATE 각 1회, 집계는 사용자 단위로 합산 반영
+     */
+    public OrderStatusBatchResultDTO updateOrderStatuses(List<String> orderIds, String newStatus) {
+        List<String> distinctIds = orderIds.stream()
+                .filter(Objects::nonNull)
+                .distinct()
+                .collect(Collectors.toList());
+
+        Map<String, Order> ordersById = distinctIds.isEmpty()
+                ? Collections.emptyMap()
+                : orderRepository.findAllByOrderIdInForUpdate(distinctIds).stream()
+                        .collect(Collectors.toMap(Order::getOrderId, order -> order));
+
+        List<Order> accepted = new ArrayList<>();
+        Map<String, String> rejected = new LinkedHashMap<>();
+        for (String orderId : distinctIds) {
+            Order order = ordersById.get(orderId);
+            if (order == null) {
+                rejected.put(orderId, "주문을 찾을 수 없습니다: " + orderId);
+            } else if (!OrderStatusTransition.canTransition(order.getOrderStatus(), newStatus)) {
+                rejected.put(orderId, "허용되지 않는 주문 상태 변경입니다: " + order.getOrderStatus() + " → " + newStatus);
+            } else {
+                accepted.add(order);
+            }
+        }
+
+        List<String> updatedIds = accepted.stream()
+                .map(Order::getOrderId)
+                .collect(Collectors.toList());
+        if (!accepted.isEmpty()) {
+            applyStatusTransition(accepted, updatedIds, newStatus);
+        }
+
+        log.info("주문 상태 일괄 변경: newStatus={}, 요청 {}건, 변경 {}건, 거부 {}건",
+                newStatus, distinctIds.size(), updatedIds.size(), rejected.size());
+
+        return OrderStatusBatchResultDTO.builder()
+                .status(newStatus)
+                .requestedCount(distinctIds.size())
+                .updatedCount(updatedIds.size())
+                .updatedOrderIds(updatedIds)
+                .rejectedOrders(rejected)
+                .build();
+    }
+
     @Transactional(readOnly = true)
     public List<OrderDTO> getUserOrders(String userId) {
         try {
             List<Order> orders = orderRepository.findByUserIdOrderByOrderDateDesc(userId);
-            return orders.stream()
-                    .map(this::convertToOrderDTO)
-                    .collect(Collectors.toList());
+            return convertToOrderDTOs(orders);
         } catch (Exception e) {
             log.error("주문 목록 조회 실패: {}", e.getMessage(), e);
             throw new RuntimeException("주문 목록 조회 중 오류가 발생했습니다.");
         }
     }
 
+    /**
+     * 커서 기반 주문 내역 조회 (ORDER_DATE, ORDER_ID 키셋)
+     * - 주문 size+1건 조회로 다음 페이지 여부 판단, 주문 상품은 페이지 단위 IN 쿼리 1회
+     */
+    @Transactional(readOnly = true)
+    public OrderPageDTO getOrderHistory(String userId, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? DEFAULT_HISTORY_PAGE_SIZE : Math.min(size, MAX_HISTORY_PAGE_SIZE);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+
+        List<Order> orders;
+        if (cursor == null || cursor.isBlank()) {
+            orders = orderRepository.findOrderHistoryFirstPage(userId, limit);
+        } else {
+            KeysetCursor decoded = KeysetCursor.decode(cursor);
+            orders = orderRepository.findOrderHistoryAfterCursor(
+                    userId, decoded.getSortDate(), decoded.getId(), limit);
+        }
+
+        boolean hasNext = orders.size() > pageSize;
+        String nextCursor = null;
+        if (hasNext) {
+            orders = orders.subList(0, pageSize);
+            Order last = orders.get(pageSize - 1);
+            nextCursor = KeysetCursor.encode(last.getOrderDate(), last.getOrderId());
+        }
+        log.info("주문 내역 조회: userId={}, 조회 건수={}, hasNext={}", userId, orders.size(), hasNext);
+
+        return OrderPageDTO.builder()
+                .orders(convertToOrderDTOs(orders))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(orders.size())
+                .build();
+    }
+
+    @Transactional(readOnly = true)
+    public UserOrderSummaryDTO getOrderSummary(String userId) {
+        return userOrderSummaryService.getSummary(userId);
+    }
+
     public OrderDTO getOrderDetailByOrderId(String orderId) {
         log.info("주문 조회 시작: orderId={}", orderId);
 
@@ -324,16 +409,39 @@ public class OrderService {
     }
 
     // Private Helper Methods
-    private void updateOrderAndItemsStatus(Order order, String newStatus) {
-        order.setOrderStatus(newStatus);
-        order.setUpdatedDate(LocalDateTime.now());
-        orderRepository.save(order);
-
-        List<OrderItem> orderItems = orderItemRepository.findByOrderId(order.getOrderId());
-        for (OrderItem item : orderItems) {
-            item.setStatus(newStatus);
-            item.setUpdatedDate(LocalDateTime.now());
-            orderItemRepository.save(item);
+    // 주문 상품 일괄 저장 (flush 시 hibernate.jdbc.batch_size 단위로 JDBC 배치 INSERT)
+    private List<OrderItem> saveOrderItems(String orderId, List<CheckoutItemDTO> items) {
+        List<OrderItem> orderItems = items.stream()
+                .map(item -> OrderItem.builder()
+                        .orderId(orderId)
+                        .productId(item.getProductId())
+                        .name(getDefaultValue(item.getProductName(), "상품명 없음"))
+                        .quantity(item.getQuantity())
+                        .status("PREPARING")
+                        .totalPrice(item.getTotalPrice())
+                        .deliveryFee(0)
+                        .imageUrl(getDefaultValue(item.getImageUrl(), ""))
+                        .build())
+                .collect(Collectors.toList());
+
+        return orderItemRepository.saveAll(orderItems);
+    }
+
+    // 검증을 통과한 주문의 상태를 집합 단위로 변경 (orders는 변경 전 상태 보유)
+    private void applyStatusTransition(List<Order> orders, List<String> orderIds, String newStatus) {
+        LocalDateTime now = LocalDateTime.now();
+
+        userOrderSummaryService.recordStatusChanged(orders, newStatus);
+
+        if (OrderStatusTransition.SHIPPING.equals(newStatus)) {
+            orderRepository.updateShippingStatusByOrderIds(orderIds, newStatus, DEFAULT_DELIVERY_COMPANY, now);
+        } else {
+            orderRepository.updateStatusByOrderIds(orderIds, newStatus, now);
+        }
+        orderItemRepository.updateStatusByOrderIds(orderIds, newStatus, now);
+
+        if (OrderStatusTransition.isCancelledStatus(newStatus)) {
+            orderIds.forEach(stockReservationService::release);
         }
     }
 
@@ -341,9 +449,24 @@ public class OrderService {
         return (value != null && !value.trim().isEmpty()) ? value : defaultValue;
     }
 
-    private OrderDTO convertToOrderDTO(Order order) {
-        List<OrderItem> orderItems = orderItemRepository.findByOrderIdOrderByCreatedDateAsc(order.getOrderId());
-        return convertToOrderDTOWithItems(order, orderItems);
+    // 주문 상품을 IN 쿼리 한 번으로 조회해 주문별로 묶음 (주문 수와 무관하게 쿼리 2회)
+    private List<OrderDTO> convertToOrderDTOs(List<Order> orders) {
+        if (orders.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        List<String> orderIds = orders.stream()
+                .map(Order::getOrderId)
+                .collect(Collectors.toList());
+
+        Map<String, List<OrderItem>> itemsByOrderId = orderItemRepository.findByOrderIdInOrderByCreatedDateAsc(orderIds)
+                .stream()
+                .collect(Collectors.groupingBy(OrderItem::getOrderId));
+
+        return orders.stream()
+                .map(order -> convertToOrderDTOWithItems(order,
+                        itemsByOrderId.getOrDefault(order.getOrderId(), Collections.emptyList())))
+                .collect(Collectors.toList());
     }
 
     private OrderDTO convertToOrderDTOWithItems(Order order, List<OrderItem> orderItems) {
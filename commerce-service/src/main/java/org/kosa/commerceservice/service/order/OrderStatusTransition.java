@@ -0,0 +1,88 @@
+package org.kosa.commerceservice.service.order;
+
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 주문 상태 전이 규칙 (메모리 내 검증, DB 조회 없음)
+ * - 표에 없는 기존 상태(레거시 데이터)는 제한하지 않음
+ * - 같은 상태로의 변경은 항상 허용 (결제 검증 재시도 등)
+ */
+public final class OrderStatusTransition {
+
+    public static final String PENDING = "PENDING";
+    public static final String ORDERED = "ORDERED";
+    public static final String ORDER_COMPLETED = "ORDER_COMPLETED";
+    public static final String LEGACY_PAID = "결제완료";
+    public static final String PAYMENT_COMPLETED = "PAYMENT_COMPLETED";
+    public static final String PREPARING = "PREPARING";
+    public static final String SHIPPING = "SHIPPING";
+    public static final String SHIPPED = "SHIPPED";
+    public static final String DELIVERED = "DELIVERED";
+    public static final String CANCELLED = "CANCELLED";
+    public static final String CANCELLED_BY_WITHDRAWAL = "CANCELLED_BY_WITHDRAWAL";
+    public static final String EXPIRED = "EXPIRED";   // 결제 기한(재고 예약 TTL) 만료
+    public static final String SHIPPING_MEMBER_WITHDRAWN = "SHIPPING_MEMBER_WITHDRAWN";
+    public static final String DELIVERED_MEMBER_WITHDRAWN = "DELIVERED_MEMBER_WITHDRAWN";
+
+    private static final Map<String, Set<String>> ALLOWED = Map.ofEntries(
+            Map.entry(PENDING, Set.of(ORDERED, ORDER_COMPLETED, PAYMENT_COMPLETED, PREPARING, CANCELLED, CANCELLED_BY_WITHDRAWAL, EXPIRED)),
+            Map.entry(ORDERED, Set.of(PAYMENT_COMPLETED, PREPARING, CANCELLED_BY_WITHDRAWAL, EXPIRED)),
+            Map.entry(ORDER_COMPLETED, Set.of(PAYMENT_COMPLETED, PREPARING, CANCELLED, CANCELLED_BY_WITHDRAWAL, EXPIRED)),
+            Map.entry(LEGACY_PAID, Set.of(PAYMENT_COMPLETED, PREPARING, SHIPPING, CANCELLED_BY_WITHDRAWAL)),
+            Map.entry(PAYMENT_COMPLETED, Set.of(PREPARING, SHIPPING, CANCELLED, CANCELLED_BY_WITHDRAWAL)),
+            Map.entry(PREPARING, Set.of(SHIPPING, CANCELLED, CANCELLED_BY_WITHDRAWAL)),
+            Map.entry(SHIPPING, Set.of(SHIPPED, DELIVERED, SHIPPING_MEMBER_WITHDRAWN)),
+            Map.entry(SHIPPED, Set.of(DELIVERED, SHIPPING_MEMBER_WITHDRAWN)),
+            Map.entry(SHIPPING_MEMBER_WITHDRAWN, Set.of(DELIVERED, DELIVERED_MEMBER_WITHDRAWN)),
+            Map.entry(DELIVERED, Set.of(DELIVERED_MEMBER_WITHDRAWN)),
+            Map.entry(CANCELLED, Set.of()),
+            Map.entry(CANCELLED_BY_WITHDRAWAL, Set.of()),
+            Map.entry(EXPIRED, Set.of()),
+            Map.entry(DELIVERED_MEMBER_WITHDRAWN, Set.of())
+    );
+
+    private OrderStatusTransition() {
+    }
+
+    public static boolean canTransition(String fromStatus, String toStatus) {
+        if (toStatus == null) {
+            return false;
+        }
+        if (fromStatus == null || fromStatus.equals(toStatus)) {
+            return true;
+        }
+        Set<String> allowed = ALLOWED.get(fromStatus);
+        return allowed == null || allowed.contains(toStatus);
+    }
+
+    /**
+     * 사용자 취소 가능 여부
+     */
+    public static boolean isCancellable(String status) {
+        return ALLOWED.getOrDefault(status, Set.of()).contains(CANCELLED);
+    }
+
+    /**
+     * 취소·만료 상태 여부 (재고 복원, 구매 금액 제외 대상)
+     */
+    public static boolean isCancelledStatus(String status) {
+        return CANCELLED.equals(status) || CANCELLED_BY_WITHDRAWAL.equals(status) || EXPIRED.equals(status);
+    }
+
+    /**
+     * 결제 이후 상태 여부 (누적 구매 금액 집계 대상: 결제완료 ~ 배송완료)
+     */
+    public static boolean isPurchasedStatus(String status) {
+        return LEGACY_PAID.equals(status) || PAYMENT_COMPLETED.equals(status) || PREPARING.equals(status)
+                || SHIPPING.equals(status) || SHIPPED.equals(status) || DELIVERED.equals(status)
+                || SHIPPING_MEMBER_WITHDRAWN.equals(status) || DELIVERED_MEMBER_WITHDRAWN.equals(status);
+    }
+
+    /**
+     * 결제 대기 상태 여부 (재고 예약 만료 시 EXPIRED 처리 대상)
+     */
+    public static boolean isAwaitingPayment(String status) {
+        return PENDING.equals(status) || ORDERED.equals(status) || ORDER_COMPLETED.equals(status);
+    }
+}
@@ -0,0 +1,11 @@
+package org.kosa.commerceservice.service.order;
+
+/**
+ * 허용되지 않는 주문 상태 변경 (DB 변경 전에만 발생 → 호출 트랜잭션을 롤백하지 않음)
+ */
+public class OrderStatusTransitionException extends IllegalStateException {
+
+    public OrderStatusTransitionException(String message) {
+        super(message);
+    }
+}
@@ -4,21 +4,28 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.kosa.commerceservice.dto.order.OrderDTO;
+import org.kosa.commerceservice.dto.order.OrderStatusBatchResultDTO;
 import org.kosa.commerceservice.dto.order.UserWithdrawalEvent;
 import org.kosa.commerceservice.service.notification.NotificationService;
 import org.kosa.commerceservice.service.payment.PaymentRefundService;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
+/**
+ * 탈퇴 회원 주문 정리
+ * - 클래스 트랜잭션 없음: 상태 그룹별 전환이 각자 커밋되고, 한 그룹의 실패가 다른 그룹·환불 처리를 롤백시키지 않음
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
-@Transactional
 public class OrderWithdrawalService {
 
     private final OrderService orderService;
@@ -65,15 +72,8 @@ public class OrderWithdrawalService {
 
         log.info("결제 대기 주문 처리: {}건", orders.size());
 
-        for (OrderDTO order : orders) {
-            try {
-                orderService.updateOrderStatus(order.getOrderId(), "CANCELLED_BY_WITHDRAWAL");
-                log.info("결제 대기 주문 취소: orderId={}", order.getOrderId());
-            } catch (Exception e) {
-                log.error("결제 대기 주문 취소 실패: orderId={}, error={}",
-                        order.getOrderId(), e.getMessage());
-            }
-        }
+        OrderStatusBatchResultDTO result = transitionOrders(orders, OrderStatusTransition.CANCELLED_BY_WITHDRAWAL);
+        log.info("결제 대기 주문 취소: {}건", result.getUpdatedCount());
     }
 
     private void processPreparingOrders(List<OrderDTO> orders, String userId) {
@@ -81,10 +81,10 @@ public class OrderWithdrawalService {
 
         log.info("준비 중 주문 처리: {}건", orders.size());
 
-        for (OrderDTO order : orders) {
-            try {
-                orderService.updateOrderStatus(order.getOrderId(), "CANCELLED_BY_WITHDRAWAL");
+        OrderStatusBatchResultDTO result = transitionOrders(orders, OrderStatusTransition.CANCELLED_BY_WITHDRAWAL);
 
+        for (OrderDTO order : updatedOrders(orders, result)) {
+            try {
                 if (order.getTotalPrice() > 0) {
                     paymentRefundService.processRefund(
                             order.getOrderId(),
@@ -108,10 +108,10 @@ public class OrderWithdrawalService {
 
         log.info("결제 완료 주문 처리: {}건", orders.size());
 
-        for (OrderDTO order : orders) {
-            try {
-                orderService.updateOrderStatus(order.getOrderId(), "CANCELLED_BY_WITHDRAWAL");
+        OrderStatusBatchResultDTO result = transitionOrders(orders, OrderStatusTransition.CANCELLED_BY_WITHDRAWAL);
 
+        for (OrderDTO order : updatedOrders(orders, result)) {
+            try {
                 paymentRefundService.processRefund(
                         order.getOrderId(),
                         order.getTotalPrice(),
@@ -133,10 +133,10 @@ public class OrderWithdrawalService {
 
         log.info(" 배송 중 주문 처리: {}건 (고객센터 알림)", orders.size());
 
-        for (OrderDTO order : orders) {
-            try {
-                orderService.updateOrderStatus(order.getOrderId(), "SHIPPING_MEMBER_WITHDRAWN");
+        OrderStatusBatchResultDTO result = transitionOrders(orders, OrderStatusTransition.SHIPPING_MEMBER_WITHDRAWN);
 
+        for (OrderDTO order : updatedOrders(orders, result)) {
+            try {
                 notificationService.notifyCustomerService(
                         "탈퇴 회원 배송 중 주문",
                         String.format("주문번호: %s, 회원ID: %s, 탈퇴일: %s\n배송 완료 후 환불 처리 필요",
@@ -157,17 +157,59 @@ public class OrderWithdrawalService {
 
         log.info("배송 완료 주문 처리: {}건 (개인정보 마스킹)", orders.size());
 
-        for (OrderDTO order : orders) {
-            try {
-                orderService.updateOrderStatus(order.getOrderId(), "DELIVERED_MEMBER_WITHDRAWN");
+        OrderStatusBatchResultDTO result = transitionOrders(orders, OrderStatusTransition.DELIVERED_MEMBER_WITHDRAWN);
+        log.info("배송 완료 주문 개인정보 마스킹: {}건", result.getUpdatedCount());
+    }
 
-                log.info("배송 완료 주문 개인정보 마스킹: orderId={}", order.getOrderId());
+    // 같은 상태 그룹의 주문을 한 번에 전환 (거부된 주문은 로그만 남기고 나머지 처리 계속)
+    // 일괄 전환 자체가 실패(재고 복원 오류 등)하면 그룹이 롤백되므로 주문별로 다시 시도해 실패를 해당 주문에 한정
+    private OrderStatusBatchResultDTO transitionOrders(List<OrderDTO> orders, String newStatus) {
+        List<String> orderIds = orders.stream()
+                .map(OrderDTO::getOrderId)
+                .collect(Collectors.toList());
 
+        OrderStatusBatchResultDTO result;
+        try {
+            result = orderService.updateOrderStatuses(orderIds, newStatus);
+        } catch (Exception e) {
+            log.warn("탈퇴 주문 일괄 상태 변경 실패, 주문별 재시도: status={}, 주문 수={}, error={}",
+                    newStatus, orderIds.size(), e.getMessage());
+            result = transitionEachOrder(orderIds, newStatus);
+        }
+
+        result.getRejectedOrders().forEach((orderId, reason) ->
+                log.error("탈퇴 주문 상태 변경 거부: orderId={}, reason={}", orderId, reason));
+        return result;
+    }
+
+    private OrderStatusBatchResultDTO transitionEachOrder(List<String> orderIds, String newStatus) {
+        List<String> updatedIds = new ArrayList<>();
+        Map<String, String> rejected = new LinkedHashMap<>();
+
+        for (String orderId : orderIds) {
+            try {
+                OrderStatusBatchResultDTO single = orderService.updateOrderStatuses(List.of(orderId), newStatus);
+                updatedIds.addAll(single.getUpdatedOrderIds());
+                rejected.putAll(single.getRejectedOrders());
             } catch (Exception e) {
-                log.error("배송 완료 주문 처리 실패: orderId={}, error={}",
-                        order.getOrderId(), e.getMessage());
+                rejected.put(orderId, "상태 변경 실패: " + e.getMessage());
             }
         }
+
+        return OrderStatusBatchResultDTO.builder()
+                .status(newStatus)
+                .requestedCount(orderIds.size())
+                .updatedCount(updatedIds.size())
+                .updatedOrderIds(updatedIds)
+                .rejectedOrders(rejected)
+                .build();
+    }
+
+    private List<OrderDTO> updatedOrders(List<OrderDTO> orders, OrderStatusBatchResultDTO result) {
+        Set<String> updatedIds = new HashSet<>(result.getUpdatedOrderIds());
+        return orders.stream()
+                .filter(order -> updatedIds.contains(order.getOrderId()))
+                .collect(Collectors.toList());
     }
 
     private void processPersonalDataMasking(String userId, UserWithdrawalEvent event) {
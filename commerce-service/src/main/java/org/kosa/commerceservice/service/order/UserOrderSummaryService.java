@@ -0,0 +1,149 @@
+package org.kosa.commerceservice.service.order;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.commerceservice.dto.order.MemberPurchaseAmountEvent;
+import org.kosa.commerceservice.dto.order.UserOrderSummaryDTO;
+import org.kosa.commerceservice.entity.order.Order;
+import org.kosa.commerceservice.entity.order.UserOrderSummary;
+import org.kosa.commerceservice.repository.order.UserOrderSummaryRepository;
+import org.kosa.commerceservice.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+/**
+ * 사용자별 주문 집계 서비스
+ * - 주문 생성/상태 변경 트랜잭션 안에서 상태별 주문 수·금액을 증감 → 주문과 집계가 함께 커밋/롤백
+ * - 조회는 사용자당 상태 수만큼의 집계 행만 읽음 (주문 테이블 스캔 없음)
+ * - 누적 구매 금액이 바뀌면 커밋 후 user-service로 이벤트 발행 → 회원 등급 갱신
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class UserOrderSummaryService {
+
+    private final UserOrderSummaryRepository userOrderSummaryRepository;
+    private final KafkaTemplate<String, Object> kafkaTemplate;
+
+    @Value("${kafka.topic.member-purchase-amount:member-purchase-amount-topic}")
+    private String memberPurchaseAmountTopic;
+
+    /**
+     * 주문 생성 반영
+     */
+    public void recordOrderCreated(String userId, String orderStatus, Integer totalPrice) {
+        userOrderSummaryRepository.applyDelta(userId, orderStatus, 1, toAmount(totalPrice));
+        if (OrderStatusTransition.isPurchasedStatus(orderStatus)) {
+            publishPurchaseAmountAfterCommit(Set.of(userId));
+        }
+    }
+
+    /**
+     * 주문 상태 변경 반영 (이전 상태 행에서 현재 상태 행으로 이동)
+     * - orders는 변경 전 상태를 가진 주문, 사용자·이전 상태별로 합산해 upsert 횟수 최소화
+     */
+    public void recordStatusChanged(List<Order> orders, String toStatus) {
+        // userId → 이전 상태 → [주문 수, 금액]
+        Map<String, Map<String, long[]>> deltas = new TreeMap<>();
+        Set<String> purchaseChangedUsers = new TreeSet<>();
+        for (Order order : orders) {
+            String fromStatus = order.getOrderStatus();
+            if (fromStatus == null || fromStatus.equals(toStatus)) {
+                continue;
+            }
+            if (OrderStatusTransition.isPurchasedStatus(fromStatus) != OrderStatusTransition.isPurchasedStatus(toStatus)) {
+                purchaseChangedUsers.add(order.getUserId());
+            }
+            long[] delta = deltas.computeIfAbsent(order.getUserId(), userId -> new TreeMap<>())
+                    .computeIfAbsent(fromStatus, status -> new long[2]);
+            delta[0]++;
+            delta[1] += toAmount(order.getTotalPrice());
+        }
+
+        deltas.forEach((userId, byStatus) -> {
+            long count = 0;
+            long amount = 0;
+            for (Map.Entry<String, long[]> entry : byStatus.entrySet()) {
+                long[] delta = entry.getValue();
+                userOrderSummaryRepository.applyDelta(userId, entry.getKey(), -delta[0], -delta[1]);
+                count += delta[0];
+                amount += delta[1];
+            }
+            userOrderSummaryRepository.applyDelta(userId, toStatus, count, amount);
+        });
+
+        if (!purchaseChangedUsers.isEmpty()) {
+            publishPurchaseAmountAfterCommit(purchaseChangedUsers);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public UserOrderSummaryDTO getSummary(String userId) {
+        List<UserOrderSummary> rows = userOrderSummaryRepository.findByUserId(userId);
+
+        Map<String, Long> statusCounts = new TreeMap<>();
+        long totalOrderCount = 0;
+        long totalPurchaseAmount = 0;
+
+        for (UserOrderSummary row : rows) {
+            if (row.getOrderCount() <= 0) {
+                continue;
+            }
+            statusCounts.put(row.getOrderStatus(), row.getOrderCount());
+            totalOrderCount += row.getOrderCount();
+            if (OrderStatusTransition.isPurchasedStatus(row.getOrderStatus())) {
+                totalPurchaseAmount += row.getPurchaseAmount();
+            }
+        }
+
+        return UserOrderSummaryDTO.builder()
+                .userId(userId)
+                .totalOrderCount(totalOrderCount)
+                .statusCounts(statusCounts)
+                .totalPurchaseAmount(totalPurchaseAmount)
+                .build();
+    }
+
+    /**
+     * 커밋된 집계로 누적 구매 금액 이벤트 발행 (롤백 시 발행하지 않음, 게스트 주문 제외)
+     */
+    private void publishPurchaseAmountAfterCommit(Set<String> userIds) {
+        TransactionCallbacks.afterCommit(() -> {
+            for (String userId : userIds) {
+                if (userId == null || userId.startsWith("guest_")) {
+                    continue;
+                }
+                try {
+                    MemberPurchaseAmountEvent event = MemberPurchaseAmountEvent.builder()
+                            .userId(userId)
+                            .totalPurchaseAmount(getSummary(userId).getTotalPurchaseAmount())
+                            .eventTimestamp(LocalDateTime.now())
+                            .build();
+
+                    kafkaTemplate.send(memberPurchaseAmountTopic, userId, event)
+                            .whenComplete((result, ex) -> {
+                                if (ex != null) {
+                                    log.error("누적 구매 금액 이벤트 발행 실패: userId={}, error={}", userId, ex.getMessage());
+                                }
+                            });
+                } catch (Exception e) {
+                    log.error("누적 구매 금액 이벤트 생성 실패: userId={}, error={}", userId, e.getMessage(), e);
+                }
+            }
+        });
+    }
+
+    private long toAmount(Integer totalPrice) {
+        return totalPrice != null ? totalPrice : 0L;
+    }
+}
@@ -11,20 +11,24 @@ import com.siot.IamportRestClient.response.IamportResponse;
 import com.siot.IamportRestClient.response.Prepare;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.kosa.common.id.IdGenerator;
 import org.kosa.commerceservice.dto.payment.*;
 import org.kosa.commerceservice.entity.order.Order;
 import org.kosa.commerceservice.entity.payment.Payment;
 import org.kosa.commerceservice.repository.order.OrderRepository;
 import org.kosa.commerceservice.repository.payment.PaymentRepository;
 import org.kosa.commerceservice.service.order.OrderService;
+import org.kosa.commerceservice.service.order.OrderStatusTransition;
+import org.kosa.commerceservice.service.stock.StockReservationService;
+import org.kosa.commerceservice.util.TransactionCallbacks;
 import org.springframework.context.ApplicationContext;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.io.IOException;
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 
 @Service
@@ -35,6 +39,8 @@ public class PaymentService {
     private final PaymentRepository paymentRepository;
     private final OrderRepository orderRepository;
     private final IamportClient iamportClient;
+    private final StockReservationService stockReservationService;
+    private final IdGenerator idGenerator;
     private final ApplicationContext applicationContext;
 
     @CircuitBreaker(name = "paymentService", fallbackMethod = "cancelPaymentByImpUidFallback")
@@ -102,7 +108,8 @@ public class PaymentService {
                 throw new RuntimeException("결제가 완료되지 않았습니다. 상태: " + iamportPayment.getStatus());
             }
 
-            Order orderInfo = getOrderByMerchantUid(request.getMerchantUid());
+            // 주문 행 잠금 → 예약 만료 정리(EXPIRED 전환·재고 복원)와 직렬화
+            Order orderInfo = getOrderForUpdate(request.getMerchantUid());
             if (orderInfo == null) {
                 throw new RuntimeException("주문 정보를 찾을 수 없습니다.");
             }
@@ -114,10 +121,26 @@ public class PaymentService {
                 log.error("금액 불일치 - 주문금액: {}, 결제금액: {}, impUid: {}",
                         orderAmount, paidAmount, request.getImpUid());
 
-                cancelPaymentAuto(request.getImpUid(), "금액 불일치로 인한 자동 취소");
+                cancelPaymentAfterCompletion(request.getImpUid(), "금액 불일치로 인한 자동 취소");
                 throw new RuntimeException("결제 금액이 주문 금액과 일치하지 않습니다.");
             }
 
+            // 만료·취소되어 재고가 복원된 주문은 결제 불가 (이미 승인된 결제는 자동 취소)
+            if (!OrderStatusTransition.canTransition(orderInfo.getOrderStatus(), OrderStatusTransition.PAYMENT_COMPLETED)) {
+                log.warn("결제 불가 주문 상태 - orderId: {}, status: {}, impUid: {}",
+                        orderInfo.getOrderId(), orderInfo.getOrderStatus(), request.getImpUid());
+                cancelPaymentAfterCompletion(request.getImpUid(), "결제 기한 만료 또는 취소된 주문으로 인한 자동 취소");
+                throw new RuntimeException("결제할 수 없는 주문입니다. 주문 상태: " + orderInfo.getOrderStatus());
+            }
+
+            // 예약 확정 (해제된 예약은 재고 재차감, 부족하면 예외 → 트랜잭션 롤백 후 결제 취소)
+            try {
+                stockReservationService.confirm(orderInfo.getOrderId());
+            } catch (IllegalStateException e) {
+                cancelPaymentAfterCompletion(request.getImpUid(), "재고 부족으로 인한 자동 취소");
+                throw new RuntimeException("재고가 부족하여 결제가 취소되었습니다.");
+            }
+
             Payment payment = createPayment(orderInfo, iamportPayment, request.getImpUid());
             paymentRepository.save(payment);
 
@@ -353,6 +376,12 @@ public class PaymentService {
     }
 
     // Private Helper Methods
+    // 주문 행 잠금을 잡은 채 PG 왕복을 기다리지 않도록 트랜잭션 종료(롤백) 후 취소
+    private void cancelPaymentAfterCompletion(String impUid, String reason) {
+        log.info("자동 취소 예약 (트랜잭션 종료 후 실행) - impUid: {}, 사유: {}", impUid, reason);
+        TransactionCallbacks.afterCompletion(() -> cancelPaymentAuto(impUid, reason));
+    }
+
     private void cancelPaymentAuto(String impUid, String reason) {
         try {
             CancelData cancelData = new CancelData(impUid, true);
@@ -368,6 +397,12 @@ public class PaymentService {
         return orderRepository.findById(merchantUid).orElse(null);
     }
 
+    private Order getOrderForUpdate(String merchantUid) {
+        return orderRepository.findAllByOrderIdInForUpdate(List.of(merchantUid)).stream()
+                .findFirst()
+                .orElse(null);
+    }
+
     private Payment createPayment(Order orderInfo, com.siot.IamportRestClient.response.Payment iamportPayment, String impUid) {
         return Payment.builder()
                 .paymentId(generatePaymentId())
@@ -384,7 +419,6 @@ public class PaymentService {
     }
 
     private String generatePaymentId() {
-        return "PAY_" + System.currentTimeMillis() + "_" +
-                UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+        return idGenerator.nextId("PAY_");
     }
 }
\ No newline at end of file
@@ -14,55 +14,37 @@ public class EnhancedProductService {
 
     private final ProductService productService;
 
+    // 상세·목록 모두 캐시 적재 시 이미지까지 첨부하므로 다시 첨부하지 않음 (캐시 값 공유, 수정 금지)
     public ProductDTO getProductDetail(Integer productId) {
-        ProductDTO product = productService.getProductById(productId);
-        if (product == null) {
-            return null;
-        }
-        productService.attachImagesToProduct(product);
-        return product;
+        return productService.getProductById(productId);
     }
 
     public List<ProductDTO> getProductList(int limit) {
-        List<ProductDTO> products = productService.getAllProducts(limit);
-        productService.attachMainImagesToProducts(products);
-        return products;
+        return productService.getAllProducts(limit);
     }
 
     public List<ProductDTO> getProductsByCategory(Integer categoryId, int limit) {
-        List<ProductDTO> products = productService.getProductsByCategory(categoryId, limit);
-        productService.attachMainImagesToProducts(products);
-        return products;
+        return productService.getProductsByCategory(categoryId, limit);
     }
 
     public List<ProductDTO> getRelatedProducts(Integer productId, int limit) {
-        List<ProductDTO> products = productService.getRelatedProducts(productId, limit);
-        productService.attachMainImagesToProducts(products);
-        return products;
+        return productService.getRelatedProducts(productId, limit);
     }
 
     public List<ProductDTO> getProductsByHost(Long hostId, int limit) {
-        List<ProductDTO> products = productService.getProductsByHost(hostId, limit);
-        productService.attachMainImagesToProducts(products);
-        return products;
+        return productService.getProductsByHost(hostId, limit);
     }
 
     public List<ProductDTO> getProductsInStock(int limit) {
-        List<ProductDTO> products = productService.getProductsInStock(limit);
-        productService.attachMainImagesToProducts(products);
-        return products;
+        return productService.getProductsInStock(limit);
     }
 
     public List<ProductDTO> getDiscountedProducts(int limit) {
-        List<ProductDTO> products = productService.getDiscountedProducts(limit);
-        productService.attachMainImagesToProducts(products);
-        return products;
+        return productService.getDiscountedProducts(limit);
     }
 
     public List<ProductDTO> getPopularProducts(int limit) {
-        List<ProductDTO> products = productService.getPopularProducts(limit);
-        productService.attachMainImagesToProducts(products);
-        return products;
+        return productService.getPopularProducts(limit);
     }
 
     public void attachMainImagesToProducts(List<ProductDTO> products) {
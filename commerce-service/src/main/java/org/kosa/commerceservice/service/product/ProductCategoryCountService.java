@@ -0,0 +1,160 @@
+package org.kosa.commerceservice.service.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.commerceservice.repository.product.ProductRepository;
+import org.kosa.commerceservice.service.category.CategoryService;
+import org.kosa.commerceservice.service.category.CategoryTree;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카테고리별 판매중·노출 상품 수 집계 (메모리 보관)
+ * - 최초 조회 시 GROUP BY 1회로 적재, 이후 상품 상태/노출/카테고리 변경을 증분 반영
+ * - 하위 카테고리 상품 수는 카테고리 트리를 따라 상위 카테고리에 누적(rollup)
+ * - 다른 인스턴스·외부 변경분은 주기적 전체 재집계로 보정
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductCategoryCountService {
+
+    private final ProductRepository productRepository;
+    private final CategoryService categoryService;
+
+    private volatile CountSnapshot snapshot;
+
+    /**
+     * 카테고리 직속 상품 수
+     */
+    public long getDirectCount(Integer categoryId) {
+        AtomicLong count = getSnapshot().direct.get(categoryId);
+        return count != null ? count.get() : 0L;
+    }
+
+    /**
+     * 카테고리 + 모든 하위 카테고리 상품 수
+     */
+    public long getRollupCount(Integer categoryId) {
+        AtomicLong count = getSnapshot().rollup.get(categoryId);
+        return count != null ? count.get() : 0L;
+    }
+
+    public long getTotalCount() {
+        return getSnapshot().total.get();
+    }
+
+    /**
+     * 카테고리 ID → 직속 상품 수 (상품이 있는 카테고리만)
+     */
+    public Map<Integer, Long> getDirectCounts() {
+        Map<Integer, Long> result = new HashMap<>();
+        getSnapshot().direct.forEach((categoryId, count) -> {
+            long value = count.get();
+            if (value > 0) {
+                result.put(categoryId, value);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * 상품의 집계 대상 카테고리 변경 반영 (null = 집계 대상 아님: 판매중지/비노출/삭제)
+     */
+    public void applyChange(Integer fromCategoryId, Integer toCategoryId) {
+        CountSnapshot current = snapshot;
+        // 아직 적재 전이면 최초 조회 시 DB 기준으로 적재되므로 무시
+        if (current == null || Objects.equals(fromCategoryId, toCategoryId)) {
+            return;
+        }
+
+        CategoryTree tree = categoryService.getCategoryTree();
+        if (fromCategoryId != null) {
+            current.add(fromCategoryId, -1L, tree);
+        }
+        if (toCategoryId != null) {
+            current.add(toCategoryId, 1L, tree);
+        }
+        log.debug("카테고리 상품 수 반영: {} -> {}", fromCategoryId, toCategoryId);
+    }
+
+    /**
+     * DB 기준 전체 재집계 후 스냅샷 교체
+     */
+    @Scheduled(fixedDelayString = "${product.category-count.reconcile-interval-ms:600000}",
+               initialDelayString = "${product.category-count.reconcile-interval-ms:600000}")
+    public void reconcile() {
+        try {
+            CountSnapshot previous = snapshot;
+            CountSnapshot reloaded = loadSnapshot();
+            snapshot = reloaded;
+
+            if (previous != null && previous.total.get() != reloaded.total.get()) {
+                log.info("카테고리 상품 수 재집계 보정: 전체 {} -> {}", previous.total.get(), reloaded.total.get());
+            }
+        } catch (Exception e) {
+            log.error("카테고리 상품 수 재집계 실패: {}", e.getMessage());
+        }
+    }
+
+    private CountSnapshot getSnapshot() {
+        CountSnapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = loadSnapshot();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    private CountSnapshot loadSnapshot() {
+        List<Object[]> rows = productRepository.getProductCountsByCategory();
+        CategoryTree tree = categoryService.getCategoryTree();
+
+        CountSnapshot loaded = new CountSnapshot();
+        for (Object[] row : rows) {
+            long count = ((Number) row[1]).longValue();
+            if (row[0] == null) {
+                // 카테고리 미지정 상품은 전체 수에만 포함
+                loaded.total.addAndGet(count);
+                continue;
+            }
+            loaded.add(((Number) row[0]).intValue(), count, tree);
+        }
+
+        log.info("카테고리 상품 수 적재 완료: 카테고리 {}개, 전체 {}개", loaded.direct.size(), loaded.total.get());
+        return loaded;
+    }
+
+    private static class CountSnapshot {
+        private final ConcurrentHashMap<Integer, AtomicLong> direct = new ConcurrentHashMap<>();
+        private final ConcurrentHashMap<Integer, AtomicLong> rollup = new ConcurrentHashMap<>();
+        private final AtomicLong total = new AtomicLong();
+
+        // 직속 카테고리와 모든 상위 카테고리에 반영 (순환 참조 방지)
+        private void add(Integer categoryId, long delta, CategoryTree tree) {
+            direct.computeIfAbsent(categoryId, id -> new AtomicLong()).addAndGet(delta);
+            total.addAndGet(delta);
+
+            Set<Integer> visited = new HashSet<>();
+            Integer current = categoryId;
+            while (current != null && visited.add(current)) {
+                rollup.computeIfAbsent(current, id -> new AtomicLong()).addAndGet(delta);
+                current = tree.getParentId(current);
+            }
+        }
+    }
+}
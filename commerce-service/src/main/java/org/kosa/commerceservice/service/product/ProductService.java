@@ -9,20 +9,25 @@ import lombok.extern.slf4j.Slf4j;
 import org.kosa.commerceservice.dto.cart.GuestCartItemDTO;
 import org.kosa.commerceservice.dto.product.ProductDTO;
 import org.kosa.commerceservice.dto.product.ProductDetailDTO;
+import org.kosa.commerceservice.dto.product.ProductPageDTO;
 import org.kosa.commerceservice.dto.productImage.ProductImageDto;
 import org.kosa.commerceservice.entity.product.Product;
 import org.kosa.commerceservice.repository.product.ProductRepository;
 import org.kosa.commerceservice.service.category.CategoryService;
 import org.kosa.commerceservice.service.productImage.ProductImageService;
+import org.kosa.commerceservice.util.KeysetCursor;
+import org.kosa.commerceservice.util.SegmentCursor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.annotation.Caching;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Service
@@ -34,7 +39,15 @@ public class ProductService {
     private final ProductRepository productRepository;
     private final CategoryService categoryService;
     private final ProductImageService productImageService;
-    private final RedisTemplate<String, Object> redisTemplate;
+    private final CacheManager cacheManager;
+    private final ProductViewCountService productViewCountService;
+    private final ProductCategoryCountService productCategoryCountService;
+
+    private static final String PRODUCT_PAGE_CACHE = "productPages";
+    private static final int PRODUCT_PAGE_SEGMENT_SIZE = 20;
+    private static final int MAX_PRODUCT_PAGE_SIZE = 100;
+
+    // 목록 캐시 값은 메인 이미지까지 채운 완성본 (L1과 참조를 공유하므로 호출자는 수정 금지)
 
     @CircuitBreaker(name = "productService", fallbackMethod = "getProductByIdFallback")
     @Retry(name = "productService")
@@ -87,6 +100,7 @@ public class ProductService {
         List<ProductDTO> result = relatedProducts.stream()
                 .map(this::convertToDto)
                 .collect(Collectors.toList());
+        attachMainImagesToProducts(result);
 
         log.info("관련 상품 조회 완료: {}개", result.size());
         return result;
@@ -94,7 +108,7 @@ public class ProductService {
 
     @CircuitBreaker(name = "productService", fallbackMethod = "getAllProductsFallback")
     @Retry(name = "productService")
-    @Cacheable(value = "productList", key = "'all:' + #limit")
+    @Cacheable(value = "productList", key = "'all:' + #limit", sync = true)
     public List<ProductDTO> getAllProducts(int limit) {
         try {
             log.info("전체 상품 조회: limit {}", limit);
@@ -103,6 +117,7 @@ public class ProductService {
             List<Product> products = productRepository.findAllActiveProducts(pageable);
 
             List<ProductDTO> result = convertToDtoList(products);
+            attachMainImagesToProducts(result);
             log.info("전체 상품 조회 완료: {}개", result.size());
             return result;
         } catch (Exception e) {
@@ -113,38 +128,20 @@ public class ProductService {
 
     @CircuitBreaker(name = "productService", fallbackMethod = "getProductsByCategoryFallback")
     @Retry(name = "productService")
-    @Cacheable(value = "productsByCategory", key = "#categoryId + ':' + #limit")
+    @Cacheable(value = "productsByCategory", key = "#categoryId + ':' + #limit", sync = true)
     public List<ProductDTO> getProductsByCategory(Integer categoryId, int limit) {
         try {
             log.info("카테고리별 상품 조회 - categoryId: {}, limit: {}", categoryId, limit);
 
             Pageable pageable = PageRequest.of(0, limit);
-            List<Product> products = new ArrayList<>();
-
-            if (isMainCategory(categoryId)) {
-                log.info("메인 카테고리 감지: {}", categoryId);
-
-                try {
-                    List<Integer> childrenCategoryIds = getCachedChildrenCategoryIds(categoryId);
-                    log.info("하위 카테고리 ID들: {}", childrenCategoryIds);
-
-                    if (childrenCategoryIds != null && !childrenCategoryIds.isEmpty()) {
-                        List<Integer> allCategoryIds = new ArrayList<>();
-                        allCategoryIds.add(categoryId);
-                        allCategoryIds.addAll(childrenCategoryIds);
-
-                        log.info("통합 카테고리 조회 대상: {}", allCategoryIds);
-                        products = productRepository.findByMultipleCategoriesActive(allCategoryIds, pageable);
-                    } else {
-                        log.info("하위 카테고리 없음. 메인 카테고리만 조회: {}", categoryId);
-                        products = productRepository.findByCategoryIdActive(categoryId, pageable);
-                    }
-                } catch (Exception e) {
-                    log.error("카테고리 서비스 호출 실패. 단일 카테고리 조회: {}", categoryId, e);
-                    products = productRepository.findByCategoryIdActive(categoryId, pageable);
-                }
+            List<Product> products;
+
+            List<Integer> categoryIds = resolveCategoryIds(categoryId);
+            if (categoryIds.size() > 1) {
+                log.info("하위 카테고리 포함 조회 대상: {}", categoryIds);
+                products = productRepository.findByMultipleCategoriesActive(categoryIds, pageable);
             } else {
-                log.info("하위/일반 카테고리 조회: {}", categoryId);
+                log.info("단일 카테고리 조회: {}", categoryId);
                 products = productRepository.findByCategoryIdActive(categoryId, pageable);
             }
 
@@ -157,27 +154,26 @@ public class ProductService {
                         log.info("  - 카테고리 {}: {}개", catId, count)
                 );
 
-                if (!isMainCategory(categoryId)) {
-                    long wrongCategoryCount = products.stream()
-                            .filter(p -> !p.getCategoryId().equals(categoryId))
-                            .count();
-
-                    if (wrongCategoryCount > 0) {
-                        log.error("심각한 문제: 카테고리 {} 요청했는데 다른 카테고리 상품 {}개가 조회됨!",
-                                categoryId, wrongCategoryCount);
-
-                        products.stream()
-                                .filter(p -> !p.getCategoryId().equals(categoryId))
-                                .limit(5)
-                                .forEach(p -> log.error("  - 잘못된 상품: ID={}, 이름={}, 카테고리={}",
-                                        p.getProductId(), p.getName(), p.getCategoryId()));
-                    }
+                long wrongCategoryCount = products.stream()
+                        .filter(p -> !categoryIds.contains(p.getCategoryId()))
+                        .count();
+
+                if (wrongCategoryCount > 0) {
+                    log.error("심각한 문제: 카테고리 {} 요청했는데 다른 카테고리 상품 {}개가 조회됨!",
+                            categoryId, wrongCategoryCount);
+
+                    products.stream()
+                            .filter(p -> !categoryIds.contains(p.getCategoryId()))
+                            .limit(5)
+                            .forEach(p -> log.error("  - 잘못된 상품: ID={}, 이름={}, 카테고리={}",
+                                    p.getProductId(), p.getName(), p.getCategoryId()));
                 }
             } else {
                 log.warn("카테고리 {}에서 조회된 상품이 없습니다", categoryId);
             }
 
             List<ProductDTO> result = convertToDtoList(products);
+            attachMainImagesToProducts(result);
             log.info("카테고리별 상품 조회 완료: {}개", result.size());
             return result;
 
@@ -198,6 +194,7 @@ public class ProductService {
             List<Product> products = productRepository.findByHostIdAndProductStatus(hostId, "판매중", pageable);
 
             List<ProductDTO> result = convertToDtoList(products);
+            attachMainImagesToProducts(result);
             log.info("HOST별 상품 조회 완료: {}개", result.size());
             return result;
         } catch (Exception e) {
@@ -217,6 +214,7 @@ public class ProductService {
             List<Product> products = productRepository.findByStockGreaterThanZeroAndProductStatus("판매중", pageable);
 
             List<ProductDTO> result = convertToDtoList(products);
+            attachMainImagesToProducts(result);
             log.info("재고 있는 상품 조회 완료: {}개", result.size());
             return result;
         } catch (Exception e) {
@@ -227,7 +225,7 @@ public class ProductService {
 
     @CircuitBreaker(name = "productService", fallbackMethod = "getDiscountedProductsFallback")
     @Retry(name = "productService")
-    @Cacheable(value = "discountedProducts", key = "'discount:' + #limit")
+    @Cacheable(value = "discountedProducts", key = "'discount:' + #limit", sync = true)
     public List<ProductDTO> getDiscountedProducts(int limit) {
         try {
             log.info("할인 상품 조회: limit {}", limit);
@@ -236,6 +234,7 @@ public class ProductService {
             List<Product> products = productRepository.findDiscountedProducts("판매중", pageable);
 
             List<ProductDTO> result = convertToDtoList(products);
+            attachMainImagesToProducts(result);
             log.info("할인 상품 조회 완료: {}개", result.size());
             return result;
         } catch (Exception e) {
@@ -246,7 +245,7 @@ public class ProductService {
 
     @CircuitBreaker(name = "productService", fallbackMethod = "getPopularProductsFallback")
     @Retry(name = "productService")
-    @Cacheable(value = "popularProducts", key = "'popular:' + #limit")
+    @Cacheable(value = "popularProducts", key = "'popular:' + #limit", sync = true)
     public List<ProductDTO> getPopularProducts(int limit) {
         try {
             log.info("인기 상품 조회: limit {}", limit);
@@ -255,6 +254,7 @@ public class ProductService {
             List<Product> products = productRepository.findPopularProducts("판매중", pageable);
 
             List<ProductDTO> result = convertToDtoList(products);
+            attachMainImagesToProducts(result);
             log.info("인기 상품 조회 완료: {}개", result.size());
             return result;
         } catch (Exception e) {
@@ -263,57 +263,187 @@ public class ProductService {
         }
     }
 
-    @CircuitBreaker(name = "categoryService", fallbackMethod = "getCachedChildrenCategoryIdsFallback")
-    @Retry(name = "categoryService")
-    private List<Integer> getCachedChildrenCategoryIds(Integer categoryId) {
-        String cacheKey = "category:children:" + categoryId;
-
-        try {
-            @SuppressWarnings("unchecked")
-            List<Integer> cachedIds = (List<Integer>) redisTemplate.opsForValue().get(cacheKey);
+    /**
+     * 키셋 기반 상품 목록 페이지 (CREATED_DATE, PRODUCT_ID 내림차순, categoryId가 null이면 전체)
+     * - 커서 위치별 고정 크기 세그먼트 단위로 캐시 → limit 값마다 캐시 키가 늘어나지 않음
+     * - 페이지 커서는 세그먼트 시작 커서 + 오프셋 → 세그먼트 중간에서 끝난 페이지도 다음 요청이 같은 세그먼트 캐시 사용
+     * - 페이지 깊이와 무관하게 조회 비용은 페이지 크기에 비례
+     */
+    public ProductPageDTO getProductPage(Integer categoryId, String cursor, Integer size) {
+        int pageSize = (size == null || size <= 0) ? PRODUCT_PAGE_SEGMENT_SIZE : Math.min(size, MAX_PRODUCT_PAGE_SIZE);
+        // 잘못된 커서는 캐시 조회 전에 거부 (IllegalArgumentException)
+        SegmentCursor start = (cursor == null || cursor.isBlank())
+                ? null
+                : SegmentCursor.decode(cursor, PRODUCT_PAGE_SEGMENT_SIZE);
+        String segmentCursor = start == null ? null : start.getSegmentCursor();
+        int offset = start == null ? 0 : start.getOffset();
+
+        List<ProductDTO> products = new ArrayList<>();
+        boolean hasNext = true;
+
+        while (products.size() < pageSize) {
+            ProductPageDTO segment = getProductSegment(categoryId, segmentCursor);
+            List<ProductDTO> segmentProducts = segment.getProducts();
+            List<ProductDTO> available = segmentProducts.subList(Math.min(offset, segmentProducts.size()), segmentProducts.size());
+            int remaining = pageSize - products.size();
+
+            if (available.size() > remaining) {
+                // 세그먼트 중간에서 페이지가 끝나면 같은 세그먼트 + 오프셋을 다음 커서로 사용
+                products.addAll(available.subList(0, remaining));
+                offset += remaining;
+                break;
+            }
 
-            if (cachedIds != null) {
-                log.info("캐시에서 하위 카테고리 ID 조회: {}", cachedIds);
-                return cachedIds;
+            products.addAll(available);
+            offset = 0;
+            if (!segment.isHasNext()) {
+                hasNext = false;
+                break;
             }
+            segmentCursor = segment.getNextCursor();
+        }
+
+        log.info("상품 페이지 조회 - categoryId: {}, size: {}, hasNext: {}", categoryId, products.size(), hasNext);
+        return ProductPageDTO.builder()
+                .products(products)
+                .nextCursor(hasNext ? SegmentCursor.encode(segmentCursor, offset) : null)
+                .hasNext(hasNext)
+                .size(products.size())
+                .build();
+    }
 
-            List<Integer> childrenIds = categoryService.getAllChildrenIds(categoryId);
+    private ProductPageDTO getProductSegment(Integer categoryId, String cursor) {
+        String key = (categoryId == null ? "all" : categoryId.toString()) + ":" + (cursor == null ? "first" : cursor);
 
-            if (childrenIds != null) {
-                redisTemplate.opsForValue().set(cacheKey, childrenIds, 30, TimeUnit.MINUTES);
-                log.info("하위 카테고리 ID 캐시 저장: {}", childrenIds);
-            }
+        Cache cache = cacheManager.getCache(PRODUCT_PAGE_CACHE);
+        if (cache == null) {
+            return loadProductSegment(categoryId, cursor);
+        }
+        return cache.get(key, () -> loadProductSegment(categoryId, cursor));
+    }
+
+    // 세그먼트 크기+1건 조회로 다음 세그먼트 여부 판단, 메인 이미지는 세그먼트 단위 IN 조회 1회
+    private ProductPageDTO loadProductSegment(Integer categoryId, String cursor) {
+        Pageable limit = PageRequest.of(0, PRODUCT_PAGE_SEGMENT_SIZE + 1);
+        KeysetCursor keyset = cursor == null ? null : KeysetCursor.decode(cursor);
+
+        List<Product> products;
+        if (categoryId == null) {
+            products = keyset == null
+                    ? productRepository.findActiveProductsFirstPage(limit)
+                    : productRepository.findActiveProductsAfterCursor(keyset.getSortDate(), keyset.getIdAsInteger(), limit);
+        } else {
+            List<Integer> categoryIds = resolveCategoryIds(categoryId);
+            products = keyset == null
+                    ? productRepository.findActiveProductsInCategoriesFirstPage(categoryIds, limit)
+                    : productRepository.findActiveProductsInCategoriesAfterCursor(
+                            categoryIds, keyset.getSortDate(), keyset.getIdAsInteger(), limit);
+        }
+
+        boolean hasNext = products.size() > PRODUCT_PAGE_SEGMENT_SIZE;
+        String nextCursor = null;
+        if (hasNext) {
+            products = products.subList(0, PRODUCT_PAGE_SEGMENT_SIZE);
+            Product last = products.get(PRODUCT_PAGE_SEGMENT_SIZE - 1);
+            nextCursor = KeysetCursor.encode(last.getCreatedDate(), last.getProductId());
+        }
 
-            return childrenIds;
+        List<ProductDTO> result = convertToDtoList(products);
+        attachMainImagesToProducts(result);
 
+        return ProductPageDTO.builder()
+                .products(result)
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .size(result.size())
+                .build();
+    }
+
+    // 하위 카테고리가 있으면 모두 포함 (메모리 카테고리 트리 기준)
+    private List<Integer> resolveCategoryIds(Integer categoryId) {
+        try {
+            return categoryService.getSelfAndDescendantIds(categoryId);
         } catch (Exception e) {
-            log.error("하위 카테고리 ID 조회 실패: {}", categoryId, e);
-            throw new RuntimeException("하위 카테고리 조회 중 오류가 발생했습니다.");
+            log.error("카테고리 트리 조회 실패. 단일 카테고리 조회: {}", categoryId, e);
+            return List.of(categoryId);
         }
     }
 
-    @Transactional
+    /**
+     * 조회수 증가 (메모리 카운터에 누적, ProductViewCountService가 주기적으로 DB 반영)
+     */
     public void increaseViewCount(Integer productId) {
-        Optional<Product> productOpt = productRepository.findByProductIdAndProductStatus(productId, "판매중");
-        productOpt.ifPresent(product -> {
-            log.debug("조회수 증가: {}", productId);
-        });
+        productViewCountService.increment(productId);
+    }
+
+    /**
+     * 상품 변경 시 상세/목록 캐시 무효화 (L1은 pub/sub으로 다른 인스턴스까지 전파)
+     * - ProductCacheEvictListener가 Product 저장/삭제 커밋 후 호출
+     */
+    @Caching(evict = {
+            @CacheEvict(value = "productDetail", key = "#productId"),
+            @CacheEvict(value = "productList", allEntries = true),
+            @CacheEvict(value = "productsByCategory", allEntries = true),
+            @CacheEvict(value = "productPages", allEntries = true),
+            @CacheEvict(value = "popularProducts", allEntries = true),
+            @CacheEvict(value = "discountedProducts", allEntries = true),
+            @CacheEvict(value = "productsInStock", allEntries = true),
+            @CacheEvict(value = "relatedProducts", allEntries = true),
+            @CacheEvict(value = "productsByHost", allEntries = true)
+    })
+    public void evictProductCache(Integer productId) {
+        log.info("상품 캐시 무효화: {}", productId);
+    }
+
+    /**
+     * 재고 변경 시 상세 캐시만 무효화 (주문마다 목록 캐시를 비우지 않도록 목록은 TTL로 갱신)
+     */
+    @CacheEvict(value = "productDetail", key = "#productId")
+    public void evictProductDetail(Integer productId) {
+        log.debug("상품 상세 캐시 무효화: {}", productId);
+    }
+
+    /**
+     * 카테고리 직속 상품 수 (메모리 집계)
+     */
+    public Long getProductCountByCategory(Integer categoryId) {
+        return productCategoryCountService.getDirectCount(categoryId);
     }
 
-    public Long getProductCountByCategory(Integer categoryId) {
-        return productRepository.countByCategoryActive(categoryId);
+    /**
+     * 카테고리 상품 수 (하위 카테고리 포함, 메모리 집계)
+     */
+    public Long getProductCountByCategoryWithDescendants(Integer categoryId) {
+        return productCategoryCountService.getRollupCount(categoryId);
     }
 
     public Long getTotalActiveProductCount() {
-        return productRepository.countAllActiveProducts();
+        return productCategoryCountService.getTotalCount();
     }
 
+    /**
+     * 카테고리 ID → 직속 상품 수 (메모리 집계)
+     */
     public Map<Integer, Long> getProductCountsByAllCategories() {
-        List<Object[]> results = productRepository.getProductCountsByCategory();
-        return results.stream().collect(Collectors.toMap(
-                result -> (Integer) result[0],
-                result -> ((Number) result[1]).longValue()
-        ));
+        return productCategoryCountService.getDirectCounts();
+    }
+
+    /**
+     * 여러 상품 일괄 조회 (장바구니 등) - 상품/메인 이미지 각각 IN 조회 1회
+     */
+    public Map<Integer, ProductDTO> getProductsByIds(List<Integer> productIds) {
+        if (productIds == null || productIds.isEmpty()) return new HashMap<>();
+
+        List<Integer> distinctIds = productIds.stream()
+                .distinct()
+                .collect(Collectors.toList());
+
+        List<ProductDTO> products = convertToDtoList(
+                productRepository.findByProductIdInAndProductStatus(distinctIds, "판매중"));
+        attachMainImagesToProducts(products);
+
+        return products.stream()
+                .collect(Collectors.toMap(ProductDTO::getProductId, product -> product));
     }
 
     public List<ProductDetailDTO> getProductsForGuestCart(List<GuestCartItemDTO> cartItems) {
@@ -402,12 +532,10 @@ public class ProductService {
         return new ArrayList<>();
     }
 
-    public List<Integer> getCachedChildrenCategoryIdsFallback(Integer categoryId, Exception ex) {
-        log.error("하위 카테고리 조회 서킷브레이커 동작 - categoryId: {}, error: {}", categoryId, ex.getMessage());
-        return new ArrayList<>();
-    }
-
     // Image processing methods
+    /**
+     * 상품 상세용 이미지 첨부 - 갤러리 1회 조회(캐시 우선), 메인 이미지는 갤러리에서 추출
+     */
     public void attachImagesToProduct(ProductDTO product) {
         try {
             Integer productId = product.getProductId();
@@ -418,7 +546,7 @@ public class ProductService {
                     .map(ProductImageDto::getImageUrl)
                     .collect(Collectors.toList()));
 
-            ProductImageDto mainImage = productImageService.getMainImageDto(productId);
+            ProductImageDto mainImage = productImageService.findMainImage(images);
             if (mainImage != null) {
                 product.setMainImage(mainImage.getImageUrl());
                 product.setImage(mainImage.getImageUrl());
@@ -446,6 +574,7 @@ public class ProductService {
                 product.setMainImage(imageUrl);
                 product.setImage(imageUrl);
                 product.setImages(Collections.singletonList(imageUrl));
+                product.setThumbnailUrl(toThumbnailUrl(imageUrl));
             } else {
                 setDefaultImage(product);
             }
@@ -453,13 +582,6 @@ public class ProductService {
     }
 
     // Utility methods
-    private boolean isMainCategory(Integer categoryId) {
-        if (categoryId == null) {
-            return false;
-        }
-        return categoryId < 100;
-    }
-
     private ProductDTO convertToDto(Product product) {
         Integer discount = calculateDiscountRate(product.getPrice(), product.getSalePrice());
         return ProductDTO.builder()
@@ -534,6 +656,14 @@ public class ProductService {
         product.setImages(Collections.singletonList(defaultImageUrl));
     }
 
+    // 로컬 상품 이미지만 썸네일 변형 URL로 변환 (외부 URL은 그대로)
+    private String toThumbnailUrl(String imageUrl) {
+        if (imageUrl != null && imageUrl.contains("/api/images/products/")) {
+            return imageUrl + "/thumb";
+        }
+        return imageUrl;
+    }
+
     private String getDefaultImageUrl() {
         return "data:image/svg+xml;base64,PHN2ZyB3aWR0aD0iMzAwIiBoZWlnaHQ9IjIwMCIgeG1sbnM9Imh0dHA6Ly93d3cudzMub3JnLzIwMDAvc3ZnIj48cmVjdCB3aWR0aD0iMTAwJSIgaGVpZ2h0PSIxMDAlIiBmaWxsPSIjZGRkIi8+PHRleHQgeD0iNTAlIiB5PSI1MCUiIGZvbnQtZmFtaWx5PSJBcmlhbCIgZm9udC1zaXplPSIxNCIgZmlsbD0iIzk5OSIgdGV4dC1hbmNob3I9Im1pZGRsZSIgZHk9Ii4zZW0iPk5vIEltYWdlPC90ZXh0Pjwvc3ZnPg==";
     }
@@ -0,0 +1,82 @@
+package org.kosa.commerceservice.service.product;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 상품 조회수 write-behind 카운터
+ * - 조회 시 메모리 카운터(LongAdder)만 증가 → 조회당 DB 쓰기 없음
+ * - 주기적으로 누적분을 JDBC 배치 UPDATE 한 번으로 VIEW_COUNT에 반영 (한 트랜잭션 → 실패 시 전부 롤백 후 재시도, 중복 반영 없음)
+ * - 인기 상품 캐시는 비우지 않고 캐시 갱신 정책(조기 갱신)으로 새 순위 반영 → 트래픽 급증 시 재적재 폭주 방지
+ * - 인스턴스별로 자기 증가분만 더하므로 다중 인스턴스에서도 합산 결과가 맞음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ProductViewCountService {
+
+    private static final String FLUSH_SQL = "UPDATE tb_product SET VIEW_COUNT = VIEW_COUNT + ? WHERE PRODUCT_ID = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    // 상품 ID별 미반영 조회수 (키는 상품 수만큼만 생성되고 플러시 후에도 재사용)
+    private final ConcurrentHashMap<Integer, LongAdder> pendingCounts = new ConcurrentHashMap<>();
+
+    public void increment(Integer productId) {
+        if (productId == null) {
+            return;
+        }
+        pendingCounts.computeIfAbsent(productId, id -> new LongAdder()).increment();
+    }
+
+    @Scheduled(fixedDelayString = "${product.view-count.flush-interval-ms:10000}")
+    public void flush() {
+        // 상품 ID 순으로 정렬해 다른 인스턴스의 플러시와 행 잠금 순서를 맞춤
+        Map<Integer, Long> deltas = new TreeMap<>();
+        pendingCounts.forEach((productId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta > 0) {
+                deltas.put(productId, delta);
+            }
+        });
+
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> batchArgs = new ArrayList<>(deltas.size());
+        deltas.forEach((productId, delta) -> batchArgs.add(new Object[]{delta, productId}));
+
+        try {
+            // 자동 커밋이면 일부 문장만 반영된 뒤 실패할 수 있어 배치 전체를 한 트랜잭션으로 묶음
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+        } catch (Exception e) {
+            // 롤백된 배치 전체를 카운터에 되돌려 다음 주기에 재시도
+            deltas.forEach((productId, delta) ->
+                    pendingCounts.computeIfAbsent(productId, id -> new LongAdder()).add(delta));
+            log.error("조회수 반영 실패 - 상품 {}개, 다음 주기에 재시도: {}", deltas.size(), e.getMessage());
+            return;
+        }
+
+        log.info("조회수 반영 완료 - 상품 {}개, 총 {}회", deltas.size(),
+                deltas.values().stream().mapToLong(Long::longValue).sum());
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
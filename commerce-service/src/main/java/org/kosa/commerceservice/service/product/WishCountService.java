@@ -0,0 +1,205 @@
+package org.kosa.commerceservice.service.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.commerceservice.repository.product.WishRepository;
+import org.kosa.commerceservice.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 상품별 찜 개수 (Redis Hash, 찜 추가/해제 시 HINCRBY로 증분 반영)
+ * - 전체 재집계 결과를 임시 키에 만든 뒤 RENAME으로 교체 → 적재 표시 필드가 있는 해시는 모든 상품을 포함
+ * - 여러 상품 조회는 HMGET 1회 (없는 필드 = 찜 0개), Redis 장애 시 DB GROUP BY 1회로 대체
+ * - 재집계는 SET NX 락으로 인스턴스 전체에서 하나만 수행, 락을 못 잡은 조회는 재집계가 끝날 때까지 DB로 응답
+ * - 재집계 중 반영된 증분은 별도 목록에 기록했다가 교체 직전에 새 해시에 다시 적용
+ *   (재집계 조회 직전에 커밋됐지만 반영이 늦은 증분은 두 번 셀 수 있음 → 다음 정기 재집계에서 보정)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WishCountService {
+
+    private static final String KEY = "wish:product-counts";
+    private static final String LOADED_FIELD = "_loaded";
+    private static final String LOCK_KEY = KEY + ":rebuild-lock";
+    private static final String REBUILDING_KEY = KEY + ":rebuilding";
+    private static final String PENDING_KEY = KEY + ":pending";
+
+    // 증분 반영, 재집계 중이면 "상품ID:증분"을 목록에도 기록
+    private static final DefaultRedisScript<Long> APPLY_DELTA_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('hincrby', KEYS[1], ARGV[1], ARGV[2]) "
+                    + "if redis.call('exists', KEYS[2]) == 1 then redis.call('rpush', KEYS[3], ARGV[1] .. ':' .. ARGV[2]) end "
+                    + "return 1",
+            Long.class);
+
+    // 기록된 증분을 새 해시에 적용한 뒤 교체 (증분 반영과 원자적으로 실행되어 사이에 빠지는 증분 없음)
+    private static final DefaultRedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>(
+            "local pending = redis.call('lrange', KEYS[3], 0, -1) "
+                    + "for _, entry in ipairs(pending) do "
+                    + "local sep = string.find(entry, ':', 1, true) "
+                    + "redis.call('hincrby', KEYS[1], string.sub(entry, 1, sep - 1), tonumber(string.sub(entry, sep + 1))) "
+                    + "end "
+                    + "redis.call('rename', KEYS[1], KEYS[2]) "
+                    + "redis.call('del', KEYS[3], KEYS[4]) "
+                    + "return #pending",
+            Long.class);
+
+    // 자신이 잡은 락만 해제
+    private static final DefaultRedisScript<Long> RELEASE_LOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final WishRepository wishRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${wish.count.rebuild-lock-seconds:60}")
+    private long rebuildLockSeconds;
+
+    public long getCount(Integer productId) {
+        return getCounts(List.of(productId)).getOrDefault(productId, 0L);
+    }
+
+    /**
+     * 여러 상품의 찜 개수 (요청 순서 유지)
+     */
+    public Map<Integer, Long> getCounts(Collection<Integer> productIds) {
+        Map<Integer, Long> result = new LinkedHashMap<>();
+        if (productIds == null || productIds.isEmpty()) {
+            return result;
+        }
+        List<Integer> distinctIds = List.copyOf(new LinkedHashSet<>(productIds));
+
+        try {
+            List<Object> fields = new ArrayList<>(distinctIds.size() + 1);
+            fields.add(LOADED_FIELD);
+            distinctIds.forEach(productId -> fields.add(String.valueOf(productId)));
+
+            List<Object> values = stringRedisTemplate.opsForHash().multiGet(KEY, fields);
+            if (values.get(0) == null) {
+                // 적재 전이거나 증분만 남은 해시 → 전체 재집계 후 다시 조회, 다른 인스턴스가 재집계 중이면 DB 조회
+                if (!rebuild()) {
+                    return fromDatabase(distinctIds);
+                }
+                values = stringRedisTemplate.opsForHash().multiGet(KEY, fields);
+            }
+
+            for (int i = 0; i < distinctIds.size(); i++) {
+                Object value = values.get(i + 1);
+                result.put(distinctIds.get(i), value != null ? Math.max(0L, Long.parseLong(value.toString())) : 0L);
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("찜 개수 캐시 조회 실패, DB 조회로 대체: {}", e.getMessage());
+        }
+        return fromDatabase(distinctIds);
+    }
+
+    public void increment(Integer productId) {
+        applyDelta(productId, 1L);
+    }
+
+    public void decrement(Integer productId) {
+        applyDelta(productId, -1L);
+    }
+
+    /**
+     * tb_wish 기준 전체 재집계 (매일 새벽, 적재 표시가 없을 때)
+     */
+    @Scheduled(cron = "${wish.count.reconcile-cron:0 30 3 * * *}")
+    public void reconcile() {
+        try {
+            if (!rebuild()) {
+                log.info("다른 인스턴스가 찜 개수 재집계 중, 건너뜀");
+            }
+        } catch (Exception e) {
+            log.error("상품 찜 개수 재집계 실패: {}", e.getMessage());
+        }
+    }
+
+    // 락을 잡은 경우에만 재집계 후 true
+    private boolean rebuild() {
+        String token = UUID.randomUUID().toString();
+        Duration lockTimeout = Duration.ofSeconds(rebuildLockSeconds);
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(LOCK_KEY, token, lockTimeout))) {
+            return false;
+        }
+
+        String tempKey = KEY + ":rebuild:" + token;
+        try {
+            // 이전 재집계가 중단되며 남긴 기록 정리 후, DB 조회 직전부터 증분 기록 시작
+            stringRedisTemplate.delete(PENDING_KEY);
+            stringRedisTemplate.opsForValue().set(REBUILDING_KEY, token, lockTimeout);
+
+            Map<Integer, Long> counts = toCountMap(wishRepository.countAllGroupByProductId());
+
+            Map<String, String> entries = new HashMap<>();
+            counts.forEach((productId, count) -> entries.put(String.valueOf(productId), String.valueOf(count)));
+            entries.put(LOADED_FIELD, "1");
+            stringRedisTemplate.opsForHash().putAll(tempKey, entries);
+
+            Long replayed = stringRedisTemplate.execute(PUBLISH_SCRIPT,
+                    List.of(tempKey, KEY, PENDING_KEY, REBUILDING_KEY));
+            log.info("상품 찜 개수 재집계 완료: 상품 {}개, 재적용 증분 {}건", counts.size(), replayed);
+            return true;
+        } catch (RuntimeException e) {
+            try {
+                stringRedisTemplate.delete(List.of(tempKey, PENDING_KEY, REBUILDING_KEY));
+            } catch (Exception ignored) {
+                // 만료 시간 후 정리
+            }
+            throw e;
+        } finally {
+            try {
+                stringRedisTemplate.execute(RELEASE_LOCK_SCRIPT, List.of(LOCK_KEY), token);
+            } catch (Exception e) {
+                // 해제 실패 시 rebuild-lock-seconds 경과 후 만료
+            }
+        }
+    }
+
+    private Map<Integer, Long> fromDatabase(List<Integer> productIds) {
+        Map<Integer, Long> counts = toCountMap(wishRepository.countByProductIdIn(productIds));
+        Map<Integer, Long> result = new LinkedHashMap<>();
+        productIds.forEach(productId -> result.put(productId, counts.getOrDefault(productId, 0L)));
+        return result;
+    }
+
+    // 커밋 이후 반영, 실패 시 해시를 지워 다음 조회에서 재집계
+    private void applyDelta(Integer productId, long delta) {
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                stringRedisTemplate.execute(APPLY_DELTA_SCRIPT, List.of(KEY, REBUILDING_KEY, PENDING_KEY),
+                        String.valueOf(productId), String.valueOf(delta));
+            } catch (Exception e) {
+                log.warn("찜 개수 반영 실패 - productId: {}, error: {}", productId, e.getMessage());
+                try {
+                    stringRedisTemplate.delete(KEY);
+                } catch (Exception ignored) {
+                    // Redis 장애 시 복구 후 재집계
+                }
+            }
+        });
+    }
+
+    private Map<Integer, Long> toCountMap(List<Object[]> rows) {
+        Map<Integer, Long> counts = new HashMap<>();
+        for (Object[] row : rows) {
+            counts.put(((Number) row[0]).intValue(), ((Number) row[1]).longValue());
+        }
+        return counts;
+    }
+}
@@ -0,0 +1,163 @@
+package org.kosa.commerceservice.service.product;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.commerceservice.repository.product.WishRepository;
+import org.kosa.commerceservice.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * 사용자별 찜 상품 ID 집합 (Redis Set, tb_wish write-through)
+ * - 최초 조회 시 사용자의 찜 상품 ID를 한 번에 적재하고, 이후 여러 상품 확인은 SMISMEMBER 1회
+ * - 빈 찜 목록도 캐시하도록 상품 ID로 쓰이지 않는 0을 적재 표시로 함께 저장
+ * - 찜 추가/해제는 DB 커밋 후 집합에 반영, Redis 장애 시 DB IN 조회로 대체
+ * - 적재는 임시 키에 채운 뒤 RENAME, 적재 도중 변경(버전 증가)이 있었으면 버리고 DB 결과로 응답
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class WishMembershipService {
+
+    private static final String KEY_PREFIX = "wish:user:";
+    private static final String VERSION_SUFFIX = ":ver";
+    private static final String LOADED_MARKER = "0";
+
+    // 적재 시작 시점의 버전이 그대로일 때만 임시 키를 본 키로 교체 (아니면 임시 키 삭제)
+    private static final DefaultRedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[1]) or '0') == ARGV[1] then "
+                    + "redis.call('rename', KEYS[2], KEYS[3]) return 1 "
+                    + "else redis.call('del', KEYS[2]) return 0 end",
+            Long.class);
+
+    private final WishRepository wishRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    @Value("${wish.membership.ttl-hours:24}")
+    private long ttlHours;
+
+    /**
+     * 여러 상품의 찜 여부 (요청 순서 유지)
+     */
+    public Map<Integer, Boolean> areWishlisted(String userId, Collection<Integer> productIds) {
+        Map<Integer, Boolean> result = new LinkedHashMap<>();
+        if (productIds == null || productIds.isEmpty()) {
+            return result;
+        }
+        List<Integer> distinctIds = List.copyOf(new LinkedHashSet<>(productIds));
+
+        try {
+            String key = ensureLoaded(userId);
+            if (key == null) {
+                // 적재 도중 변경되어 캐시하지 않음 → 이번 요청은 DB 조회
+                return fromDatabase(userId, distinctIds);
+            }
+            Object[] members = distinctIds.stream().map(String::valueOf).toArray();
+            Map<Object, Boolean> membership = stringRedisTemplate.opsForSet().isMember(key, members);
+            for (Integer productId : distinctIds) {
+                result.put(productId, membership != null && Boolean.TRUE.equals(membership.get(String.valueOf(productId))));
+            }
+            return result;
+        } catch (Exception e) {
+            log.warn("찜 집합 조회 실패, DB 조회로 대체 - userId: {}, error: {}", userId, e.getMessage());
+        }
+        return fromDatabase(userId, distinctIds);
+    }
+
+    public void onAdded(String userId, Integer productId) {
+        afterCommit(userId, key -> {
+            stringRedisTemplate.opsForSet().add(key, String.valueOf(productId));
+            stringRedisTemplate.expire(key, Duration.ofHours(ttlHours));
+        });
+    }
+
+    public void onRemoved(String userId, Integer productId) {
+        afterCommit(userId, key -> stringRedisTemplate.opsForSet().remove(key, String.valueOf(productId)));
+    }
+
+    public void onCleared(String userId) {
+        afterCommit(userId, stringRedisTemplate::delete);
+    }
+
+    private Map<Integer, Boolean> fromDatabase(String userId, List<Integer> productIds) {
+        Set<Integer> wished = new HashSet<>(wishRepository.findProductIdsByUserIdAndProductIdIn(userId, productIds));
+        Map<Integer, Boolean> result = new LinkedHashMap<>();
+        for (Integer productId : productIds) {
+            result.put(productId, wished.contains(productId));
+        }
+        return result;
+    }
+
+    /**
+     * 적재 표시가 없으면 DB에서 전체 적재 후 본 키 반환, 적재 도중 변경이 있었으면 null
+     * - DB 조회와 교체 사이에 반영된 변경을 오래된 스냅샷이 덮어쓰지 않도록 버전 비교 후 RENAME
+     */
+    private String ensureLoaded(String userId) {
+        String key = key(userId);
+        if (Boolean.TRUE.equals(stringRedisTemplate.opsForSet().isMember(key, LOADED_MARKER))) {
+            return key;
+        }
+
+        String versionKey = key + VERSION_SUFFIX;
+        String version = stringRedisTemplate.opsForValue().get(versionKey);
+        List<Integer> productIds = wishRepository.findProductIdsByUserId(userId);
+
+        String[] members = new String[productIds.size() + 1];
+        members[0] = LOADED_MARKER;
+        for (int i = 0; i < productIds.size(); i++) {
+            members[i + 1] = String.valueOf(productIds.get(i));
+        }
+        String loadingKey = key + ":loading:" + UUID.randomUUID();
+        stringRedisTemplate.opsForSet().add(loadingKey, members);
+        stringRedisTemplate.expire(loadingKey, Duration.ofHours(ttlHours));
+
+        Long published = stringRedisTemplate.execute(PUBLISH_SCRIPT, List.of(versionKey, loadingKey, key),
+                version == null ? "0" : version);
+        if (published == null || published != 1L) {
+            log.debug("찜 집합 적재 중 변경 발생, 적재 취소 - userId: {}", userId);
+            return null;
+        }
+        log.debug("찜 집합 적재 - userId: {}, {}개", userId, productIds.size());
+        return key;
+    }
+
+    /**
+     * 롤백된 변경이 집합에 남지 않도록 커밋 이후 반영, 실패 시 집합 삭제로 다음 조회에 재적재
+     * - 반영 전에 버전을 올려 진행 중인 적재가 이전 스냅샷으로 집합을 교체하지 못하게 함
+     */
+    private void afterCommit(String userId, Consumer<String> action) {
+        String key = key(userId);
+        TransactionCallbacks.afterCommit(() -> {
+            try {
+                String versionKey = key + VERSION_SUFFIX;
+                stringRedisTemplate.opsForValue().increment(versionKey);
+                stringRedisTemplate.expire(versionKey, Duration.ofHours(ttlHours));
+                action.accept(key);
+            } catch (Exception e) {
+                log.warn("찜 집합 반영 실패 - userId: {}, error: {}", userId, e.getMessage());
+                try {
+                    stringRedisTemplate.delete(key);
+                } catch (Exception ignored) {
+                    // Redis 장애 시 TTL 만료 후 재적재
+                }
+            }
+        });
+    }
+
+    private String key(String userId) {
+        return KEY_PREFIX + userId;
+    }
+}
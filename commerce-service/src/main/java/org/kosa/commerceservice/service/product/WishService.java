@@ -3,15 +3,16 @@ package org.kosa.commerceservice.service.product;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.kosa.commerceservice.dto.product.WishDTO;
-import org.kosa.commerceservice.entity.product.Wish;
 import org.kosa.commerceservice.repository.product.WishRepository;
+import org.kosa.commerceservice.util.IdGenerators;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 @Service
 @Transactional(readOnly = true)
@@ -20,27 +21,22 @@ import java.util.Optional;
 public class WishService {
 
     private final WishRepository wishRepository;
+    private final WishMembershipService wishMembershipService;
+    private final WishCountService wishCountService;
 
     /**
-     * 찜하기 추가
+     * 찜하기 추가 (단일 INSERT, 이미 찜한 상품이면 false)
      */
     @Transactional
     public boolean addToWishlist(String userId, Integer productId) {
         try {
-            // 이미 찜한 상품인지 확인
-            Optional<Wish> existingWish = wishRepository.findByUserIdAndProductId(userId, productId);
-            if (existingWish.isPresent()) {
+            int inserted = wishRepository.insertIfAbsent(IdGenerators.next("WISH_"), userId, productId);
+            if (inserted == 0) {
                 return false; // 이미 찜한 상품
             }
 
-            // 새로운 찜하기 생성
-            Wish wish = Wish.builder()
-                    .userId(userId)
-                    .productId(productId)
-                    .createdDate(LocalDateTime.now())
-                    .build();
-
-            wishRepository.save(wish);
+            wishMembershipService.onAdded(userId, productId);
+            wishCountService.increment(productId);
             return true;
         } catch (Exception e) {
             log.error("찜하기 추가 실패 - userId: {}, productId: {}", userId, productId, e);
@@ -54,12 +50,13 @@ public class WishService {
     @Transactional
     public boolean removeFromWishlist(String userId, Integer productId) {
         try {
-            Optional<Wish> wish = wishRepository.findByUserIdAndProductId(userId, productId);
-            if (wish.isPresent()) {
-                wishRepository.delete(wish.get());
-                return true;
+            if (wishRepository.deleteWish(userId, productId) == 0) {
+                return false; // 찜하지 않은 상품
             }
-            return false; // 찜하지 않은 상품
+
+            wishMembershipService.onRemoved(userId, productId);
+            wishCountService.decrement(productId);
+            return true;
         } catch (Exception e) {
             log.error("찜하기 해제 실패 - userId: {}, productId: {}", userId, productId, e);
             return false;
@@ -70,11 +67,18 @@ public class WishService {
      * 찜하기 상태 확인
      */
     public boolean isWishlisted(String userId, Integer productId) {
+        return Boolean.TRUE.equals(areWishlisted(userId, List.of(productId)).get(productId));
+    }
+
+    /**
+     * 여러 상품 찜하기 상태 일괄 확인 (상품 목록 하트 표시용, 찜 집합 조회 1회)
+     */
+    public Map<Integer, Boolean> areWishlisted(String userId, Collection<Integer> productIds) {
         try {
-            return wishRepository.findByUserIdAndProductId(userId, productId).isPresent();
+            return wishMembershipService.areWishlisted(userId, productIds);
         } catch (Exception e) {
-            log.error("찜하기 상태 확인 실패 - userId: {}, productId: {}", userId, productId, e);
-            return false;
+            log.error("찜하기 상태 일괄 확인 실패 - userId: {}, 상품 수: {}", userId, productIds.size(), e);
+            return Map.of();
         }
     }
 
@@ -125,20 +129,35 @@ public class WishService {
      */
     public Long getProductWishCount(Integer productId) {
         try {
-            return wishRepository.countByProductId(productId);
+            return wishCountService.getCount(productId);
         } catch (Exception e) {
             log.error("상품 찜 개수 조회 실패 - productId: {}", productId, e);
             return 0L;
         }
     }
 
+    /**
+     * 여러 상품의 찜 개수 (상품 목록 표시용, 캐시 조회 1회)
+     */
+    public Map<Integer, Long> getProductWishCounts(Collection<Integer> productIds) {
+        try {
+            return wishCountService.getCounts(productIds);
+        } catch (Exception e) {
+            log.error("상품 찜 개수 일괄 조회 실패 - 상품 수: {}", productIds.size(), e);
+            return Map.of();
+        }
+    }
+
     /**
      * 사용자의 모든 찜하기 삭제
      */
     @Transactional
     public boolean clearUserWishlist(String userId) {
         try {
+            List<Integer> productIds = wishRepository.findProductIdsByUserId(userId);
             wishRepository.deleteByUserId(userId);
+            wishMembershipService.onCleared(userId);
+            productIds.forEach(wishCountService::decrement);
             return true;
         } catch (Exception e) {
             log.error("찜하기 전체 삭제 실패 - userId: {}", userId, e);
@@ -0,0 +1,115 @@
+package org.kosa.commerceservice.service.productImage;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 이미지 파일 메타데이터(경로, 크기, 수정 시각, ETag) 메모리 캐시
+ * - 요청마다 파일 stat 반복 없이 조건부 요청/Range 응답 헤더를 계산
+ * - 파일 교체를 반영하도록 짧은 TTL 유지, 없는 파일은 캐시하지 않음
+ */
+@Service
+@Slf4j
+public class ImageFileService {
+
+    private final Path basePath;
+    private final Cache<String, ImageFileMetadata> metadataCache;
+
+    public ImageFileService(@Value("${image.upload.path:/uploads/images/}") String uploadPath,
+                            @Value("${image.file-cache.max-size:20000}") long maxSize,
+                            @Value("${image.file-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.basePath = Paths.get(uploadPath).toAbsolutePath().normalize();
+        this.metadataCache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public Path getBasePath() {
+        return basePath;
+    }
+
+    /**
+     * 업로드 경로 기준 파일 메타데이터 조회 (없거나 경로를 벗어나면 empty)
+     */
+    public Optional<ImageFileMetadata> getMetadata(String fileName) {
+        Path filePath = basePath.resolve(fileName).normalize();
+        // ../ 등으로 업로드 경로 밖의 파일에 접근하지 못하도록 차단
+        if (!filePath.startsWith(basePath)) {
+            log.warn("업로드 경로를 벗어난 이미지 요청 차단: {}", fileName);
+            return Optional.empty();
+        }
+        return getMetadata(filePath);
+    }
+
+    /**
+     * 검증된 절대 경로의 파일 메타데이터 조회 (변형 이미지 캐시 파일 등)
+     */
+    public Optional<ImageFileMetadata> getMetadata(Path filePath) {
+        String key = filePath.toString();
+        ImageFileMetadata cached = metadataCache.getIfPresent(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<ImageFileMetadata> loaded = loadMetadata(filePath);
+        loaded.ifPresent(metadata -> metadataCache.put(key, metadata));
+        return loaded;
+    }
+
+    public void evict(Path filePath) {
+        metadataCache.invalidate(filePath.toString());
+    }
+
+    private Optional<ImageFileMetadata> loadMetadata(Path filePath) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(filePath, BasicFileAttributes.class);
+            if (!attributes.isRegularFile() || !Files.isReadable(filePath)) {
+                return Optional.empty();
+            }
+
+            long size = attributes.size();
+            long lastModified = attributes.lastModifiedTime().toMillis();
+            String etag = "\"" + size + "-" + lastModified + "\"";
+            return Optional.of(new ImageFileMetadata(filePath, size, lastModified, etag,
+                    determineContentType(filePath.getFileName().toString())));
+        } catch (IOException e) {
+            log.debug("이미지 파일 없음: {}", filePath);
+            return Optional.empty();
+        }
+    }
+
+    private String determineContentType(String fileName) {
+        String extension = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
+        return switch (extension) {
+            case "jpg", "jpeg" -> "image/jpeg";
+            case "png" -> "image/png";
+            case "gif" -> "image/gif";
+            case "webp" -> "image/webp";
+            default -> "application/octet-stream";
+        };
+    }
+
+    @Getter
+    @AllArgsConstructor
+    public static class ImageFileMetadata {
+        private final Path path;
+        private final long size;
+        private final long lastModified;
+        private final String etag;
+        private final String contentType;
+    }
+}
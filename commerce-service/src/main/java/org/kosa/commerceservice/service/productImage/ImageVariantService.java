@@ -0,0 +1,354 @@
+package org.kosa.commerceservice.service.productImage;
+
+import jakarta.annotation.PreDestroy;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.commerceservice.service.productImage.ImageFileService.ImageFileMetadata;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Stream;
+
+/**
+ * 상품 이미지 변형(리사이즈/재인코딩) 생성 및 디스크 캐시
+ * - 최초 요청 시 고정 폭 버킷·품질 단계로 JPEG 변형을 생성, 이후에는 디스크 파일을 그대로 서빙
+ * - 캐시 파일명은 원본 ETag + 변형 조건의 SHA-256 → 원본이 바뀌면 자동으로 새 변형 생성
+ * - 생성은 크기가 제한된 전용 풀에서 수행하고, 같은 변형에 대한 동시 요청은 하나의 작업을 공유
+ * - 마지막 사용 시각은 메모리에 따로 기록 (파일 수정 시각은 ETag/Last-Modified에 쓰이므로 건드리지 않음)
+ * - 주기적으로 오래된 변형·용량 초과분(LRU)을 삭제, 재시작 후 아직 사용되지 않은 변형은 생성 시각 기준
+ */
+@Service
+@Slf4j
+public class ImageVariantService {
+
+    private static final int[] WIDTH_BUCKETS = {160, 320, 640, 1024};
+    private static final Map<String, Float> QUALITY_TIERS = Map.of(
+            "low", 0.6f,
+            "medium", 0.75f,
+            "high", 0.85f
+    );
+    public static final int THUMBNAIL_WIDTH = 320;
+    public static final String DEFAULT_QUALITY = "medium";
+
+    private static final Duration STALE_TEMP_AGE = Duration.ofHours(1);
+
+    private final ImageFileService imageFileService;
+    private final Path variantPath;
+    private final long generationTimeoutMs;
+    private final Duration maxAge;
+    private final long maxTotalBytes;
+    private final ThreadPoolExecutor executor;
+
+    // 생성 중인 변형 (캐시 파일명 → 작업), 완료 시 제거
+    private final ConcurrentHashMap<String, CompletableFuture<Path>> inFlight = new ConcurrentHashMap<>();
+
+    // 변형 파일 경로 → 마지막 사용 시각(ms), 정리 시 삭제된 파일은 함께 제거
+    private final ConcurrentHashMap<Path, Long> lastUsed = new ConcurrentHashMap<>();
+
+    public ImageVariantService(ImageFileService imageFileService,
+                               @Value("${image.variant.path:}") String variantPath,
+                               @Value("${image.variant.pool-size:2}") int poolSize,
+                               @Value("${image.variant.queue-capacity:100}") int queueCapacity,
+                               @Value("${image.variant.timeout-ms:5000}") long generationTimeoutMs,
+                               @Value("${image.variant.max-age-hours:720}") long maxAgeHours,
+                               @Value("${image.variant.max-total-mb:2048}") long maxTotalMb) {
+        this.imageFileService = imageFileService;
+        // 별도 설정이 없으면 업로드 경로 옆의 variants 디렉토리 사용
+        this.variantPath = (variantPath == null || variantPath.isBlank())
+                ? imageFileService.getBasePath().resolveSibling("variants")
+                : Paths.get(variantPath).toAbsolutePath().normalize();
+        this.generationTimeoutMs = generationTimeoutMs;
+        this.maxAge = Duration.ofHours(maxAgeHours);
+        this.maxTotalBytes = maxTotalMb * 1024 * 1024;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 변형 이미지 파일 조회 (없으면 생성), 생성 불가·지연 시 empty → 호출부에서 원본으로 대체
+     */
+    public Optional<Path> getVariant(ImageFileMetadata original, int requestedWidth, String quality) {
+        int width = resolveWidthBucket(requestedWidth);
+        String tier = QUALITY_TIERS.containsKey(quality) ? quality : DEFAULT_QUALITY;
+        String variantFileName = buildVariantFileName(original, width, tier);
+        Path target = variantPath.resolve(variantFileName.substring(0, 2)).resolve(variantFileName);
+
+        if (Files.exists(target)) {
+            lastUsed.put(target, System.currentTimeMillis());
+            return Optional.of(target);
+        }
+
+        CompletableFuture<Path> created = new CompletableFuture<>();
+        CompletableFuture<Path> future = inFlight.putIfAbsent(variantFileName, created);
+        if (future == null) {
+            future = created;
+            try {
+                executor.execute(() -> {
+                    try {
+                        created.complete(generate(original, target, width, QUALITY_TIERS.get(tier)));
+                        lastUsed.put(target, System.currentTimeMillis());
+                    } catch (Throwable t) {
+                        created.completeExceptionally(t);
+                    } finally {
+                        inFlight.remove(variantFileName, created);
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                inFlight.remove(variantFileName, created);
+                created.completeExceptionally(e);
+                log.warn("이미지 변형 작업 대기열 초과, 원본으로 대체: {}", original.getPath().getFileName());
+                return Optional.empty();
+            }
+        }
+
+        try {
+            return Optional.ofNullable(future.get(generationTimeoutMs, TimeUnit.MILLISECONDS));
+        } catch (TimeoutException e) {
+            // 생성은 계속 진행되고 다음 요청부터 캐시 파일 사용
+            log.debug("이미지 변형 생성 대기 시간 초과, 원본으로 대체: {}", variantFileName);
+            return Optional.empty();
+        } catch (ExecutionException e) {
+            log.warn("이미지 변형 생성 실패 - file: {}, error: {}", original.getPath().getFileName(), e.getCause().getMessage());
+            return Optional.empty();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 변형 디렉토리 정리 - 마지막 사용 후 max-age가 지난 변형 삭제, 남은 용량이 상한을 넘으면 오래 안 쓴 순으로 삭제
+     */
+    @Scheduled(fixedDelayString = "${image.variant.sweep-interval-ms:3600000}",
+               initialDelayString = "${image.variant.sweep-interval-ms:3600000}")
+    public void sweepVariants() {
+        if (!Files.isDirectory(variantPath)) {
+            return;
+        }
+
+        List<VariantFile> files = new ArrayList<>();
+        long now = System.currentTimeMillis();
+        try (Stream<Path> paths = Files.walk(variantPath, 2)) {
+            paths.forEach(path -> collectVariantFile(path, now, files));
+        } catch (IOException e) {
+            log.warn("이미지 변형 디렉토리 조회 실패: {}", e.getMessage());
+            return;
+        }
+
+        files.sort(Comparator.comparingLong(VariantFile::getLastUsedMillis));
+        long totalBytes = files.stream().mapToLong(VariantFile::getSize).sum();
+        long expireBefore = now - maxAge.toMillis();
+        int deleted = 0;
+
+        for (VariantFile file : files) {
+            if (file.getLastUsedMillis() >= expireBefore && totalBytes <= maxTotalBytes) {
+                break;
+            }
+            if (delete(file.getPath())) {
+                totalBytes -= file.getSize();
+                deleted++;
+            }
+        }
+
+        if (deleted > 0) {
+            log.info("이미지 변형 정리 완료 - 삭제: {}개, 남은 용량: {}MB", deleted, totalBytes / (1024 * 1024));
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void collectVariantFile(Path path, long now, List<VariantFile> files) {
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            if (!attributes.isRegularFile()) {
+                return;
+            }
+            long modified = attributes.lastModifiedTime().toMillis();
+            if (path.getFileName().toString().endsWith(".tmp")) {
+                // 생성 도중 종료되어 남은 임시 파일
+                if (now - modified > STALE_TEMP_AGE.toMillis()) {
+                    delete(path);
+                }
+                return;
+            }
+            // 이번 기동 후 사용 기록이 없으면 생성(수정) 시각 기준
+            files.add(new VariantFile(path, attributes.size(), Math.max(modified, lastUsed.getOrDefault(path, 0L))));
+        } catch (IOException e) {
+            // 조회 도중 삭제된 파일
+        }
+    }
+
+    private boolean delete(Path path) {
+        try {
+            boolean deleted = Files.deleteIfExists(path);
+            lastUsed.remove(path);
+            imageFileService.evict(path);
+            return deleted;
+        } catch (IOException e) {
+            log.warn("이미지 변형 삭제 실패 - file: {}, error: {}", path.getFileName(), e.getMessage());
+            return false;
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class VariantFile {
+        private final Path path;
+        private final long size;
+        private final long lastUsedMillis;
+    }
+
+    // 요청 폭 이상인 가장 작은 버킷 (최대 버킷 초과 시 최대 버킷)
+    private int resolveWidthBucket(int requestedWidth) {
+        for (int bucket : WIDTH_BUCKETS) {
+            if (requestedWidth <= bucket) {
+                return bucket;
+            }
+        }
+        return WIDTH_BUCKETS[WIDTH_BUCKETS.length - 1];
+    }
+
+    private String buildVariantFileName(ImageFileMetadata original, int width, String tier) {
+        String source = original.getPath() + "|" + original.getEtag() + "|w" + width + "|" + tier;
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(source.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest) + ".jpg";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256을 사용할 수 없습니다.", e);
+        }
+    }
+
+    private Path generate(ImageFileMetadata original, Path target, int width, float quality) {
+        try {
+            BufferedImage source = readSubsampled(original.getPath(), width);
+            if (source == null) {
+                throw new IllegalStateException("지원하지 않는 이미지 형식입니다: " + original.getPath().getFileName());
+            }
+
+            BufferedImage resized = resize(source, Math.min(width, source.getWidth()));
+
+            // 같은 디렉토리의 임시 파일에 쓴 뒤 이동 → 다른 요청이 쓰다 만 파일을 읽지 않음
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), "variant-", ".tmp");
+            try {
+                writeJpeg(resized, temp, quality);
+                Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+
+            log.debug("이미지 변형 생성: {} -> {} ({}px, q={})", original.getPath().getFileName(), target.getFileName(), width, quality);
+            return target;
+        } catch (IOException e) {
+            throw new IllegalStateException("이미지 변형 생성 실패: " + e.getMessage(), e);
+        }
+    }
+
+    // 목표 폭의 2배 이상이면 디코딩 단계에서 서브샘플링해 메모리/CPU 사용을 줄임
+    private BufferedImage readSubsampled(Path path, int targetWidth) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(path.toFile())) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = reader.getWidth(0) / (targetWidth * 2);
+                if (subsampling > 1) {
+                    param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    // JPEG는 알파 채널이 없으므로 흰 배경 RGB로 그림
+    private BufferedImage resize(BufferedImage source, int width) {
+        int height = Math.max(1, Math.round((float) source.getHeight() * width / source.getWidth()));
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    private void writeJpeg(BufferedImage image, Path target, float quality) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try (ImageOutputStream output = ImageIO.createImageOutputStream(target.toFile())) {
+            writer.setOutput(output);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+    }
+}
@@ -6,13 +6,18 @@ import lombok.extern.slf4j.Slf4j;
 import org.kosa.commerceservice.dto.productImage.ProductImageDto;
 import org.kosa.commerceservice.entity.productImage.ProductImage;
 import org.kosa.commerceservice.repository.productImage.ProductImageRepository;
+import org.kosa.commerceservice.util.TransactionCallbacks;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -22,6 +27,15 @@ import java.util.HashMap;
 public class ProductImageService {
 
     private final ProductImageRepository imageRepository;
+    private final CacheManager cacheManager;
+
+    // 상품별 이미지 갤러리 캐시 (URL 완성된 DTO 목록, 이미지 변경 시 무효화)
+    private static final String PRODUCT_IMAGES_CACHE = "productImages";
+
+    // 메인 이미지를 포함해 캐시되는 상품 목록 캐시
+    private static final List<String> PRODUCT_LISTING_CACHES = List.of(
+            "productList", "productsByCategory", "productPages", "popularProducts",
+            "discountedProducts", "productsInStock", "relatedProducts", "productsByHost");
 
     //  환경별 설정 주입
     @Value("${image.base-url:}")
@@ -77,13 +91,6 @@ public class ProductImageService {
         return dto;
     }
 
-    //  ProductImageDto 리스트에 완전한 URL 설정
-    private List<ProductImageDto> enrichWithCompleteUrls(List<ProductImageDto> dtos) {
-        return dtos.stream()
-                .map(this::enrichWithCompleteUrl)
-                .collect(Collectors.toList());
-    }
-
     // ========== 기존 엔티티 관련 메서드들 ==========
 
     public ProductImage saveImage(ProductImage image) {
@@ -104,7 +111,9 @@ public class ProductImageService {
         log.info("이미지 저장: productId={}, fileName={}, isMainImage={}",
                 image.getProductId(), image.getFileName(), image.getIsMainImage());
 
-        return imageRepository.save(image);
+        ProductImage saved = imageRepository.save(image);
+        evictImageCaches(saved.getProductId());
+        return saved;
     }
 
     public List<ProductImage> getImagesByProductId(Integer productId) {
@@ -121,7 +130,9 @@ public class ProductImageService {
 
     public void deleteImage(Integer imageId) {
         log.info("이미지 삭제: imageId={}", imageId);
+        Optional<Integer> productId = imageRepository.findById(imageId).map(ProductImage::getProductId);
         imageRepository.deleteById(imageId);
+        productId.ifPresent(this::evictImageCaches);
     }
 
     @Transactional
@@ -144,6 +155,7 @@ public class ProductImageService {
             ProductImage image = targetImage.get();
             image.setIsMainImage("Y");
             ProductImage saved = imageRepository.save(image);
+            evictImageCaches(productId);
             log.info("새 메인 이미지 설정 완료: imageId={}", imageId);
             return saved;
         }
@@ -159,6 +171,7 @@ public class ProductImageService {
             ProductImage image = imageOpt.get();
             image.setImageSeq(newSeq);
             imageRepository.save(image);
+            evictImageCaches(image.getProductId());
         }
     }
 
@@ -167,98 +180,180 @@ public class ProductImageService {
 
         List<ProductImage> images = getImagesByProductId(productId);
         imageRepository.deleteAll(images);
+        evictImageCaches(productId);
 
         log.info("삭제된 이미지 수: {}", images.size());
     }
 
     // ========== API 응답용 메서드들 (URL 완성 포함) ==========
 
+    /**
+     * 상품 이미지 갤러리 조회 (캐시 우선, 반환 목록은 캐시와 공유되므로 수정 금지)
+     */
     public List<ProductImageDto> getProductImages(Integer productId) {
         log.debug("상품 이미지 DTO 조회: productId={}", productId);
 
-        List<ProductImageDto> dtos = getImagesByProductId(productId).stream()
-                .map(ProductImageDto::from)
-                .collect(Collectors.toList());
-
-        //  완전한 URL로 변환
-        List<ProductImageDto> enrichedDtos = enrichWithCompleteUrls(dtos);
-
-        log.debug("상품 {}의 이미지 DTO {}개 반환", productId, enrichedDtos.size());
-        return enrichedDtos;
+        List<ProductImageDto> images = getProductImages(List.of(productId)).get(productId.toString());
+        return images != null ? images : new ArrayList<>();
     }
 
+    /**
+     * 메인 이미지 DTO (별도 쿼리 없이 갤러리에서 추출)
+     */
     public ProductImageDto getMainImageDto(Integer productId) {
         log.debug("메인 이미지 DTO 조회: productId={}", productId);
 
-        ProductImageDto dto = getMainImage(productId)
-                .map(ProductImageDto::from)
-                .orElse(null);
+        ProductImageDto mainImage = findMainImage(getProductImages(productId));
 
-        //  완전한 URL로 변환
-        ProductImageDto enrichedDto = enrichWithCompleteUrl(dto);
+        log.debug("상품 {}의 메인 이미지 DTO: {}", productId, mainImage != null ? "존재" : "없음");
+        return mainImage;
+    }
 
-        log.debug("상품 {}의 메인 이미지 DTO: {}", productId, enrichedDto != null ? "존재" : "없음");
-        return enrichedDto;
+    /**
+     * 갤러리에서 메인 이미지 선택 (순서가 가장 빠른 메인 이미지, 없으면 null)
+     */
+    public ProductImageDto findMainImage(List<ProductImageDto> images) {
+        if (images == null) {
+            return null;
+        }
+        return images.stream()
+                .filter(image -> "Y".equals(image.getIsMainImage()))
+                .findFirst()
+                .orElse(null);
     }
 
     public Map<String, ProductImageDto> getMainImages(List<Integer> productIds) {
         log.debug("여러 상품의 메인 이미지 조회: 상품 수={}", productIds.size());
 
         Map<String, ProductImageDto> result = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return result;
+        }
 
-        for (Integer productId : productIds) {
-            try {
-                ProductImageDto mainImage = getMainImageDto(productId);
-                if (mainImage != null) {
-                    result.put(productId.toString(), mainImage);
-                }
-            } catch (Exception e) {
-                log.warn("상품 {}의 메인 이미지 조회 실패: {}", productId, e.getMessage());
-            }
+        // 상품별 개별 조회 대신 IN 조회 1회로 처리 (상품당 첫 번째 메인 이미지 사용)
+        List<ProductImage> mainImages = imageRepository.findByProductIdInAndIsMainImageOrderByImageSeqAsc(productIds, "Y");
+        for (ProductImage image : mainImages) {
+            result.computeIfAbsent(image.getProductId().toString(),
+                    key -> enrichWithCompleteUrl(ProductImageDto.from(image)));
         }
 
         log.debug("메인 이미지 조회 결과: 요청 {}개, 성공 {}개", productIds.size(), result.size());
         return result;
     }
 
+    /**
+     * 여러 상품의 이미지 갤러리 조회 - 캐시에 없는 상품만 IN 조회 1회로 적재
+     */
     public Map<String, List<ProductImageDto>> getProductImages(List<Integer> productIds) {
         log.debug("여러 상품의 모든 이미지 조회: 상품 수={}", productIds.size());
 
         Map<String, List<ProductImageDto>> result = new HashMap<>();
+        if (productIds.isEmpty()) {
+            return result;
+        }
 
-        for (Integer productId : productIds) {
-            try {
-                List<ProductImageDto> images = getProductImages(productId);
-                result.put(productId.toString(), images);
-            } catch (Exception e) {
-                log.warn("상품 {}의 이미지 목록 조회 실패: {}", productId, e.getMessage());
-                result.put(productId.toString(), List.of()); // 빈 리스트로 설정
+        Cache cache = cacheManager.getCache(PRODUCT_IMAGES_CACHE);
+        List<Integer> missingIds = new ArrayList<>();
+        for (Integer productId : new LinkedHashSet<>(productIds)) {
+            List<ProductImageDto> cached = getCachedGallery(cache, productId);
+            if (cached != null) {
+                result.put(productId.toString(), cached);
+            } else {
+                missingIds.add(productId);
+            }
+        }
+
+        if (!missingIds.isEmpty()) {
+            Map<Integer, List<ProductImageDto>> loaded = loadGalleries(missingIds);
+            for (Integer productId : missingIds) {
+                // 이미지 없는 상품도 빈 목록으로 캐시해 반복 조회 방지
+                List<ProductImageDto> gallery = loaded.getOrDefault(productId, new ArrayList<>());
+                if (cache != null) {
+                    cache.put(productId, gallery);
+                }
+                result.put(productId.toString(), gallery);
             }
         }
 
-        log.debug("이미지 목록 조회 결과: 요청 {}개 상품 처리 완료", productIds.size());
+        log.debug("이미지 목록 조회 결과: 요청 {}개, 캐시 미스 {}개", productIds.size(), missingIds.size());
         return result;
     }
 
     public boolean hasImages(Integer productId) {
-        boolean hasImages = !getImagesByProductId(productId).isEmpty();
+        boolean hasImages = !getProductImages(productId).isEmpty();
         log.debug("상품 {}의 이미지 존재 여부: {}", productId, hasImages);
         return hasImages;
     }
 
     public boolean hasMainImage(Integer productId) {
-        boolean hasMainImage = getMainImage(productId).isPresent();
+        boolean hasMainImage = getMainImageDto(productId) != null;
         log.debug("상품 {}의 메인 이미지 존재 여부: {}", productId, hasMainImage);
         return hasMainImage;
     }
 
+    // 상품 ID 순, 이미지 순서 순으로 한 번에 조회 후 상품별로 묶음
+    private Map<Integer, List<ProductImageDto>> loadGalleries(List<Integer> productIds) {
+        Map<Integer, List<ProductImageDto>> galleries = new LinkedHashMap<>();
+        for (ProductImage image : imageRepository.findByProductIdInOrderByProductIdAscImageSeqAsc(productIds)) {
+            galleries.computeIfAbsent(image.getProductId(), id -> new ArrayList<>())
+                    .add(enrichWithCompleteUrl(ProductImageDto.from(image)));
+        }
+        return galleries;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ProductImageDto> getCachedGallery(Cache cache, Integer productId) {
+        if (cache == null) {
+            return null;
+        }
+        try {
+            Cache.ValueWrapper wrapper = cache.get(productId);
+            return wrapper != null ? (List<ProductImageDto>) wrapper.get() : null;
+        } catch (Exception e) {
+            log.warn("이미지 갤러리 캐시 조회 실패 - productId: {}, error: {}", productId, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 이미지 변경 시 갤러리 캐시와 이미지를 포함하는 상품 캐시 무효화
+     * - 커밋 후 실행: 커밋 전에 비우면 다른 요청이 변경 전 데이터로 캐시를 다시 채울 수 있음
+     */
+    private void evictImageCaches(Integer productId) {
+        if (productId == null) {
+            return;
+        }
+        TransactionCallbacks.afterCommit(() -> evictImageCachesNow(productId));
+    }
+
+    private void evictImageCachesNow(Integer productId) {
+        evict(PRODUCT_IMAGES_CACHE, productId);
+        evict("productDetail", productId);
+
+        // 목록 캐시는 메인 이미지를 포함하므로 함께 비움 (이미지 변경은 드묾)
+        for (String cacheName : PRODUCT_LISTING_CACHES) {
+            Cache cache = cacheManager.getCache(cacheName);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+        log.debug("상품 {}의 이미지 캐시 무효화", productId);
+    }
+
+    private void evict(String cacheName, Integer productId) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null) {
+            cache.evict(productId);
+        }
+    }
+
     // ========== 추가 유틸리티 메서드들 ==========
 
     /**
      * 상품의 이미지 개수 조회
      */
     public int getImageCount(Integer productId) {
-        int count = getImagesByProductId(productId).size();
+        int count = getProductImages(productId).size();
         log.debug("상품 {}의 이미지 개수: {}", productId, count);
         return count;
     }
@@ -269,17 +364,9 @@ public class ProductImageService {
     public Optional<ProductImageDto> getImageBySequence(Integer productId, Integer imageSeq) {
         log.debug("상품 {}의 {}번째 이미지 조회", productId, imageSeq);
 
-        List<ProductImage> images = getImagesByProductId(productId);
-        Optional<ProductImage> targetImage = images.stream()
+        return getProductImages(productId).stream()
                 .filter(img -> imageSeq.equals(img.getImageSeq()))
                 .findFirst();
-
-        if (targetImage.isPresent()) {
-            ProductImageDto dto = ProductImageDto.from(targetImage.get());
-            return Optional.of(enrichWithCompleteUrl(dto));
-        }
-
-        return Optional.empty();
     }
 
     /**
@@ -0,0 +1,225 @@
+package org.kosa.commerceservice.service.stock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.commerceservice.dto.order.CheckoutItemDTO;
+import org.kosa.commerceservice.dto.order.OrderStatusBatchResultDTO;
+import org.kosa.commerceservice.dto.payment.PaymentStatus;
+import org.kosa.commerceservice.entity.order.Order;
+import org.kosa.commerceservice.entity.stock.StockReservation;
+import org.kosa.commerceservice.repository.order.OrderRepository;
+import org.kosa.commerceservice.repository.payment.PaymentRepository;
+import org.kosa.commerceservice.repository.product.ProductRepository;
+import org.kosa.commerceservice.repository.stock.StockReservationRepository;
+import org.kosa.commerceservice.service.order.OrderService;
+import org.kosa.commerceservice.service.order.OrderStatusTransition;
+import org.kosa.commerceservice.service.product.ProductService;
+import org.kosa.commerceservice.util.TransactionCallbacks;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 주문 재고 예약 서비스
+ * - 예약: 주문 생성 시 조건부 UPDATE(stock >= 수량)로 재고 차감 → 초과 판매 불가
+ * - 확정: 결제 검증 완료 시 COMMITTED로 전환 (이미 해제된 예약은 재고를 다시 차감)
+ * - 해제: 주문 취소 또는 예약 만료 시 재고 복원 (만료된 결제 대기 주문은 EXPIRED로 전환해 결제 차단)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class StockReservationService {
+
+    private final StockReservationRepository stockReservationRepository;
+    private final ProductRepository productRepository;
+    private final PaymentRepository paymentRepository;
+    private final OrderRepository orderRepository;
+    private final ApplicationContext applicationContext;
+    private final ProductService productService;
+
+    @Value("${stock.reservation.ttl-minutes:30}")
+    private long reservationTtlMinutes;
+
+    @Value("${stock.reservation.sweep-batch-size:500}")
+    private int sweepBatchSize;
+
+    /**
+     * 주문 상품 재고 예약 (하나라도 부족하면 예외 → 주문 트랜잭션 전체 롤백)
+     */
+    public List<StockReservation> reserve(String orderId, List<CheckoutItemDTO> items) {
+        // 같은 상품은 합산하고 상품 ID 순으로 차감 (다중 상품 주문 간 락 순서 고정)
+        Map<Integer, Integer> quantities = items.stream()
+                .collect(Collectors.toMap(
+                        CheckoutItemDTO::getProductId,
+                        CheckoutItemDTO::getQuantity,
+                        Integer::sum,
+                        TreeMap::new));
+
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(reservationTtlMinutes);
+        List<StockReservation> reservations = new ArrayList<>();
+
+        quantities.forEach((productId, quantity) -> {
+            int updated = productRepository.decreaseStockIfAvailable(productId, quantity);
+            if (updated == 0) {
+                log.warn("재고 부족으로 예약 실패: orderId={}, productId={}, quantity={}", orderId, productId, quantity);
+                throw new IllegalStateException("재고가 부족합니다. 상품 ID: " + productId);
+            }
+            evictProductDetailAfterCommit(productId);
+
+            reservations.add(StockReservation.builder()
+                    .orderId(orderId)
+                    .productId(productId)
+                    .quantity(quantity)
+                    .status(StockReservation.RESERVED)
+                    .expiresAt(expiresAt)
+                    .build());
+        });
+
+        List<StockReservation> saved = stockReservationRepository.saveAll(reservations);
+        log.info("재고 예약 완료: orderId={}, 상품 수={}", orderId, saved.size());
+        return saved;
+    }
+
+    /**
+     * 결제 완료 시 예약 확정 (호출 측은 주문 행을 잠근 상태여야 함)
+     * - 만료 정리로 이미 해제된 예약은 재고를 다시 조건부 차감해 확정
+     * - 재고가 부족하면 예외 → 결제 트랜잭션 전체 롤백, 호출 측에서 결제 취소
+     * - 예약이 없는 주문(예약 도입 이전 주문)은 그대로 통과
+     */
+    public int confirm(String orderId) {
+        List<StockReservation> reservations = new ArrayList<>(stockReservationRepository.findByOrderId(orderId));
+        // 예약과 같은 순서(상품 ID 순)로 차감해 락 순서 고정
+        reservations.sort(Comparator.comparing(StockReservation::getProductId));
+
+        int committed = 0;
+        int reacquired = 0;
+        for (StockReservation reservation : reservations) {
+            if (stockReservationRepository.transitionStatus(
+                    reservation.getReservationId(), StockReservation.RESERVED, StockReservation.COMMITTED) == 1) {
+                committed++;
+                continue;
+            }
+            // 이미 확정된 예약은 그대로 두고, 해제된 예약만 다시 확정 (실패 시 롤백되므로 전환 먼저)
+            if (stockReservationRepository.transitionStatus(
+                    reservation.getReservationId(), StockReservation.RELEASED, StockReservation.COMMITTED) == 0) {
+                continue;
+            }
+            if (productRepository.decreaseStockIfAvailable(reservation.getProductId(), reservation.getQuantity()) == 0) {
+                log.warn("해제된 예약 재확보 실패(재고 부족): orderId={}, productId={}, quantity={}",
+                        orderId, reservation.getProductId(), reservation.getQuantity());
+                throw new IllegalStateException("재고가 부족합니다. 상품 ID: " + reservation.getProductId());
+            }
+            evictProductDetailAfterCommit(reservation.getProductId());
+            reacquired++;
+        }
+
+        log.info("재고 예약 확정: orderId={}, 확정 {}건, 재확보 {}건", orderId, committed, reacquired);
+        return committed + reacquired;
+    }
+
+    /**
+     * 주문 취소 시 예약 해제 및 재고 복원 (확정된 예약 포함)
+     */
+    public int release(String orderId) {
+        int released = 0;
+        for (StockReservation reservation : stockReservationRepository.findByOrderId(orderId)) {
+            if (releaseReservation(reservation)) {
+                released++;
+            }
+        }
+        log.info("재고 예약 해제: orderId={}, 해제 건수={}", orderId, released);
+        return released;
+    }
+
+    /**
+     * 만료 예약 정리 및 정합성 점검
+     * - 결제 완료(결제 기록 또는 결제 이후 주문 상태): 확정 누락으로 보고 COMMITTED 처리
+     * - 결제 대기 주문: EXPIRED로 전환 (주문 행 잠금 후 전환 + 재고 복원 → 이후 결제 검증은 거부·자동 취소)
+     * - 취소됐거나 없는 주문: 재고 복원
+     */
+    @Scheduled(fixedDelayString = "${stock.reservation.sweep-interval-ms:60000}")
+    public void reconcileExpiredReservations() {
+        List<StockReservation> expired = stockReservationRepository.findExpiredReservations(
+                LocalDateTime.now(), PageRequest.of(0, sweepBatchSize));
+        if (expired.isEmpty()) {
+            return;
+        }
+
+        Map<String, List<StockReservation>> byOrder = expired.stream()
+                .collect(Collectors.groupingBy(StockReservation::getOrderId));
+        Map<String, Order> orders = orderRepository.findAllById(byOrder.keySet()).stream()
+                .collect(Collectors.toMap(Order::getOrderId, Function.identity()));
+
+        int committed = 0;
+        int released = 0;
+        List<String> awaitingPayment = new ArrayList<>();
+        for (Map.Entry<String, List<StockReservation>> entry : byOrder.entrySet()) {
+            String orderId = entry.getKey();
+            Order order = orders.get(orderId);
+            String orderStatus = order != null ? order.getOrderStatus() : null;
+
+            if (order != null && OrderStatusTransition.isAwaitingPayment(orderStatus)
+                    && paymentRepository.findByOrderIdAndStatus(orderId, PaymentStatus.COMPLETED).isEmpty()) {
+                awaitingPayment.add(orderId);
+                continue;
+            }
+
+            boolean releasable = order == null || OrderStatusTransition.isCancelledStatus(orderStatus);
+            for (StockReservation reservation : entry.getValue()) {
+                if (!releasable) {
+                    committed += stockReservationRepository.transitionStatus(
+                            reservation.getReservationId(), StockReservation.RESERVED, StockReservation.COMMITTED);
+                } else if (releaseReservation(reservation)) {
+                    released++;
+                }
+            }
+        }
+
+        int expiredOrders = 0;
+        if (!awaitingPayment.isEmpty()) {
+            // 상태 전환 시 주문 행을 잠그고 재검증 → 그 사이 결제된 주문은 거부되어 다음 정리에서 확정
+            // (순환 의존 방지를 위해 지연 조회)
+            OrderService orderService = applicationContext.getBean(OrderService.class);
+            OrderStatusBatchResultDTO result = orderService.updateOrderStatuses(awaitingPayment, OrderStatusTransition.EXPIRED);
+            expiredOrders = result.getUpdatedCount();
+        }
+
+        log.info("만료 재고 예약 정리 완료: 대상 {}건, 확정 {}건, 해제 {}건, 만료 주문 {}건",
+                expired.size(), committed, released, expiredOrders);
+    }
+
+    // 상태 조건부 전환에 성공한 경우에만 재고 복원 (다중 인스턴스/중복 취소 시 이중 복원 방지)
+    private boolean releaseReservation(StockReservation reservation) {
+        if (StockReservation.RELEASED.equals(reservation.getStatus())) {
+            return false;
+        }
+
+        int updated = stockReservationRepository.transitionStatus(
+                reservation.getReservationId(), reservation.getStatus(), StockReservation.RELEASED);
+        if (updated == 0) {
+            return false;
+        }
+
+        productRepository.increaseStock(reservation.getProductId(), reservation.getQuantity());
+        evictProductDetailAfterCommit(reservation.getProductId());
+        return true;
+    }
+
+    // 조건부 UPDATE는 엔티티 리스너를 거치지 않으므로 상세 캐시(재고 표시)를 직접 무효화
+    private void evictProductDetailAfterCommit(Integer productId) {
+        TransactionCallbacks.afterCommit(() -> productService.evictProductDetail(productId));
+    }
+}
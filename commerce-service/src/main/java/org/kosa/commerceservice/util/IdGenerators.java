@@ -0,0 +1,24 @@
+package org.kosa.commerceservice.util;
+
+import org.kosa.common.id.IdGenerator;
+import org.kosa.common.id.SnowflakeIdGenerator;
+
+/**
+ * JPA 엔티티(@PrePersist)에서 사용하는 ID 생성기 접근점
+ * - 애플리케이션 기동 시 IdGeneratorConfig가 노드 ID가 설정된 생성기로 교체
+ */
+public final class IdGenerators {
+
+    private static volatile IdGenerator generator = new SnowflakeIdGenerator(0);
+
+    private IdGenerators() {
+    }
+
+    public static void register(IdGenerator idGenerator) {
+        generator = idGenerator;
+    }
+
+    public static String next(String prefix) {
+        return generator.nextId(prefix);
+    }
+}
@@ -66,6 +66,34 @@ public class JwtTokenParser {
         }
     }
 
+    /**
+     * 토큰의 role 클레임 (auth-service 발급 시 USER/ADMIN 등), 없거나 파싱 실패 시 null
+     */
+    public String extractRoleFromAuthHeader(String authHeader) {
+        try {
+            if (authHeader == null || !authHeader.startsWith("Bearer ")) {
+                return null;
+            }
+
+            String token = authHeader.substring(7);
+            Claims claims = Jwts.parserBuilder()
+                    .setSigningKey(getSigningKey())
+                    .build()
+                    .parseClaimsJws(token)
+                    .getBody();
+
+            return claims.get("role", String.class);
+
+        } catch (Exception e) {
+            log.error("JWT 토큰 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    public boolean isAdmin(String authHeader) {
+        return "ADMIN".equals(extractRoleFromAuthHeader(authHeader));
+    }
+
     public boolean validateToken(String authHeader) {
         try {
             if (authHeader == null || !authHeader.startsWith("Bearer ")) {
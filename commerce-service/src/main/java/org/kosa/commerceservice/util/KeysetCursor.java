@@ -0,0 +1,54 @@
+package org.kosa.commerceservice.util;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (정렬 일시 + ID, base64url 인코딩)
+ */
+@Getter
+public class KeysetCursor {
+
+    private static final String DELIMITER = "|";
+
+    private final LocalDateTime sortDate;
+    private final String id;
+
+    private KeysetCursor(LocalDateTime sortDate, String id) {
+        this.sortDate = sortDate;
+        this.id = id;
+    }
+
+    public static String encode(LocalDateTime sortDate, Object id) {
+        String raw = sortDate + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석 (형식이 잘못되면 IllegalArgumentException)
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(DELIMITER);
+            if (idx <= 0 || idx == raw.length() - 1) {
+                throw new IllegalArgumentException("잘못된 커서입니다.");
+            }
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, idx)), raw.substring(idx + 1));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+
+    public Integer getIdAsInteger() {
+        try {
+            return Integer.valueOf(id);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
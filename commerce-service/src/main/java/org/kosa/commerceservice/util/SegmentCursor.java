@@ -0,0 +1,74 @@
+package org.kosa.commerceservice.util;
+
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 세그먼트 캐시 기반 페이지 커서 (세그먼트 시작 키셋 커서 + 세그먼트 내 오프셋, base64url 인코딩)
+ * - 페이지가 세그먼트 중간에서 끝나도 다음 요청이 같은 세그먼트 캐시 키를 재사용
+ */
+@Getter
+public class SegmentCursor {
+
+    private static final String DELIMITER = ":";
+    private static final String FIRST_SEGMENT = "";
+
+    private final String segmentCursor;   // null이면 첫 세그먼트
+    private final int offset;
+
+    private SegmentCursor(String segmentCursor, int offset) {
+        this.segmentCursor = segmentCursor;
+        this.offset = offset;
+    }
+
+    public static String encode(String segmentCursor, int offset) {
+        String raw = offset + DELIMITER + (segmentCursor == null ? FIRST_SEGMENT : segmentCursor);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 해석 (형식이 잘못되거나 오프셋이 세그먼트 크기를 벗어나면 IllegalArgumentException)
+     */
+    public static SegmentCursor decode(String cursor, int segmentSize) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        int idx = raw.indexOf(DELIMITER);
+        if (idx <= 0 || !isDigits(raw.substring(0, idx))) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        int offset;
+        try {
+            offset = Integer.parseInt(raw.substring(0, idx));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+        if (offset >= segmentSize) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+
+        // 세그먼트 시작 위치는 캐시 키로 쓰이므로 조회 전에 상품 키셋 형식인지 확인
+        String segmentCursor = raw.substring(idx + 1);
+        if (!segmentCursor.isEmpty()) {
+            KeysetCursor.decode(segmentCursor).getIdAsInteger();
+        }
+        return new SegmentCursor(segmentCursor.isEmpty() ? null : segmentCursor, offset);
+    }
+
+    private static boolean isDigits(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < '0' || c > '9') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,154 @@
+package org.kosa.commerceservice.benchmark;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.kosa.commerceservice.cache.CachedValue;
+import org.kosa.commerceservice.cache.CompactCacheSerializer;
+import org.kosa.commerceservice.dto.product.ProductDTO;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 캐시 값 코덱 벤치마크 (기존 기본 타이핑 JSON vs 캐시별 타입 Smile + LZ4, 직렬화·역직렬화)
+ * - 직렬화 벤치마크는 인코딩 크기(바이트)를 보조 지표 encodedBytes로 함께 보고
+ * 실행: ./mvnw test-compile 후 IDE에서 main 실행, 또는
+ *       java -cp "target/test-classes:target/classes:<테스트 클래스패스>" org.openjdk.jmh.Main CacheCodecBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CacheCodecBenchmark {
+
+    // 상세 1건 ~ 목록 세그먼트·인기 목록 크기
+    @Param({"1", "20", "100"})
+    private int productCount;
+
+    private GenericJackson2JsonRedisSerializer jsonSerializer;
+    private CompactCacheSerializer compactSerializer;
+    private CachedValue value;
+    private byte[] jsonBytes;
+    private byte[] compactBytes;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ObjectMapper jsonMapper = new ObjectMapper();
+        jsonMapper.registerModule(new JavaTimeModule());
+        jsonMapper.activateDefaultTyping(jsonMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        jsonSerializer = new GenericJackson2JsonRedisSerializer(jsonMapper);
+
+        ObjectMapper smileMapper = new ObjectMapper(SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build());
+        smileMapper.registerModule(new JavaTimeModule());
+        smileMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        compactSerializer = new CompactCacheSerializer(smileMapper,
+                smileMapper.getTypeFactory().constructCollectionType(List.class, ProductDTO.class),
+                jsonSerializer, 1024);
+
+        List<ProductDTO> products = new ArrayList<>();
+        for (int i = 1; i <= productCount; i++) {
+            products.add(product(i));
+        }
+        // 갱신 정책 캐시와 같은 형태 (적재 시각 포함)
+        value = new CachedValue(products, System.currentTimeMillis());
+        jsonBytes = jsonSerializer.serialize(value);
+        compactBytes = compactSerializer.serialize(value);
+    }
+
+    @Benchmark
+    public byte[] jsonSerialize(EncodedSize size) {
+        byte[] bytes = jsonSerializer.serialize(value);
+        size.encodedBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object jsonDeserialize() {
+        return jsonSerializer.deserialize(jsonBytes);
+    }
+
+    @Benchmark
+    public byte[] compactSerialize(EncodedSize size) {
+        byte[] bytes = compactSerializer.serialize(value);
+        size.encodedBytes = bytes.length;
+        return bytes;
+    }
+
+    @Benchmark
+    public Object compactDeserialize() {
+        return compactSerializer.deserialize(compactBytes);
+    }
+
+    /**
+     * 인코딩 크기 보조 지표 - 누적하지 않고 덮어써 반복마다 값 하나(바이트 수)가 보고됨
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class EncodedSize {
+        public long encodedBytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            encodedBytes = 0;
+        }
+    }
+
+    private static ProductDTO product(int productId) {
+        return ProductDTO.builder()
+                .productId(productId)
+                .categoryId(productId % 8 + 1)
+                .name("제철 과일 선물세트 " + productId)
+                .title("제철 과일 선물세트 " + productId)
+                .price(30_000 + productId * 100)
+                .salePrice(27_000 + productId * 100)
+                .discountRate(10)
+                .productStatus("판매중")
+                .displayYn("Y")
+                .productRating(new BigDecimal("4.7"))
+                .productReviewCount(productId * 3)
+                .productShortDescription("산지에서 바로 보내는 신선한 과일")
+                .createdDate(LocalDateTime.of(2025, 1, 1, 9, 0).plusMinutes(productId))
+                .mainImage("/api/images/products/fruit-" + productId + ".jpg")
+                .thumbnailUrl("/api/images/products/fruit-" + productId + ".jpg/thumb")
+                .deliveryInfo("오후 2시 이전 주문 시 당일 출고")
+                .stock(100)
+                .hostId(1L)
+                .build();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(CacheCodecBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,219 @@
+package org.kosa.commerceservice.benchmark;
+
+import org.kosa.commerceservice.controller.image.ImageFileController;
+import org.kosa.commerceservice.service.productImage.ImageFileService;
+import org.kosa.commerceservice.service.productImage.ImageVariantService;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.context.PropertyPlaceholderAutoConfiguration;
+import org.springframework.boot.autoconfigure.http.HttpMessageConvertersAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.DispatcherServletAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.ServletWebServerFactoryAutoConfiguration;
+import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.UrlResource;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 상품 이미지 서빙 벤치마크 (내장 Tomcat + 실제 HTTP 연결, keep-alive 클라이언트 1개)
+ * - fullResponse / notModified / rangeRequest: 현재 ImageFileController (sendfile 또는 transferTo, 304, 206)
+ * - legacyFullResponse / legacyNotModified: 비교 기준, 이전 방식 (UrlResource 응답 스트림 복사,
+ *   요청마다 ETag 계산용 파일 stat, 요청별 INFO 로그는 제외)
+ * 실행: ./mvnw test-compile 후 IDE에서 main 실행, 또는
+ *       java -cp "target/test-classes:target/classes:<테스트 클래스패스>" org.openjdk.jmh.Main ImageServingBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageServingBenchmark {
+
+    private static final String FILE_NAME = "benchmark.jpg";
+
+    // 목록 썸네일 ~ 상세 원본 크기
+    @Param({"16384", "262144"})
+    private int imageBytes;
+
+    private Path uploadDir;
+    private ConfigurableApplicationContext context;
+    private HttpClient client;
+    private URI imageUri;
+    private URI legacyImageUri;
+    private String etag;
+    private String legacyEtag;
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        uploadDir = Files.createTempDirectory("image-benchmark");
+        byte[] content = new byte[imageBytes];
+        new Random(42).nextBytes(content);
+        Files.write(uploadDir.resolve(FILE_NAME), content);
+
+        ImageFileService imageFileService = new ImageFileService(uploadDir.toString(), 1000, 30);
+        ImageVariantService imageVariantService = Mockito.mock(ImageVariantService.class);
+
+        context = new SpringApplicationBuilder(ImageServerConfig.class)
+                .web(WebApplicationType.SERVLET)
+                .properties(
+                        "server.port=0",
+                        "spring.main.banner-mode=off",
+                        "logging.level.root=WARN",
+                        "image.upload.path=" + uploadDir)
+                .initializers(ctx -> {
+                    ctx.getBeanFactory().registerSingleton("imageFileService", imageFileService);
+                    ctx.getBeanFactory().registerSingleton("imageVariantService", imageVariantService);
+                })
+                .run();
+
+        int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+        imageUri = URI.create("http://localhost:" + port + "/api/images/products/" + FILE_NAME);
+        legacyImageUri = URI.create("http://localhost:" + port + "/legacy/images/products/" + FILE_NAME);
+
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+        etag = fetchEtag(imageUri);
+        legacyEtag = fetchEtag(legacyImageUri);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        context.close();
+        try (Stream<Path> paths = Files.walk(uploadDir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Benchmark
+    public int fullResponse() throws Exception {
+        return send(HttpRequest.newBuilder(imageUri).build()).length;
+    }
+
+    @Benchmark
+    public int notModified() throws Exception {
+        return send(HttpRequest.newBuilder(imageUri).header(HttpHeaders.IF_NONE_MATCH, etag).build()).length;
+    }
+
+    @Benchmark
+    public int rangeRequest() throws Exception {
+        return send(HttpRequest.newBuilder(imageUri).header(HttpHeaders.RANGE, "bytes=0-4095").build()).length;
+    }
+
+    @Benchmark
+    public int legacyFullResponse() throws Exception {
+        return send(HttpRequest.newBuilder(legacyImageUri).build()).length;
+    }
+
+    @Benchmark
+    public int legacyNotModified() throws Exception {
+        return send(HttpRequest.newBuilder(legacyImageUri).header(HttpHeaders.IF_NONE_MATCH, legacyEtag).build()).length;
+    }
+
+    private String fetchEtag(URI uri) throws Exception {
+        return client.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.discarding())
+                .headers().firstValue(HttpHeaders.ETAG).orElseThrow();
+    }
+
+    private byte[] send(HttpRequest request) throws Exception {
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+
+    /**
+     * 벤치마크용 최소 웹 설정 (내장 Tomcat + Spring MVC, 이미지 컨트롤러만 등록)
+     */
+    @Configuration
+    @ImportAutoConfiguration({
+            PropertyPlaceholderAutoConfiguration.class,
+            ServletWebServerFactoryAutoConfiguration.class,
+            DispatcherServletAutoConfiguration.class,
+            HttpMessageConvertersAutoConfiguration.class,
+            WebMvcAutoConfiguration.class
+    })
+    @Import(ImageFileController.class)
+    static class ImageServerConfig {
+
+        @Bean
+        LegacyImageFileController legacyImageFileController() {
+            return new LegacyImageFileController();
+        }
+    }
+
+    /**
+     * 비교 기준: 개선 전 상품 이미지 서빙 (요청별 로그만 제거)
+     */
+    @RestController
+    @RequestMapping("/legacy/images")
+    static class LegacyImageFileController {
+
+        @Value("${image.upload.path:/uploads/images/}")
+        private String uploadPath;
+
+        @GetMapping("/products/{fileName}")
+        public ResponseEntity<Resource> serveProductImage(@PathVariable String fileName) {
+            try {
+                Path filePath = Paths.get(uploadPath, fileName);
+                Resource resource = new UrlResource(filePath.toUri());
+
+                if (resource.exists() && resource.isReadable()) {
+                    return ResponseEntity.ok()
+                            .contentType(MediaType.IMAGE_JPEG)
+                            .header(HttpHeaders.CACHE_CONTROL, "public, max-age=31536000")
+                            .header(HttpHeaders.ETAG, "\"" + resource.getFile().length() + "-" + resource.getFile().lastModified() + "\"")
+                            .body(resource);
+                }
+                return ResponseEntity.notFound().build();
+            } catch (Exception e) {
+                return ResponseEntity.badRequest().build();
+            }
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ImageServingBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
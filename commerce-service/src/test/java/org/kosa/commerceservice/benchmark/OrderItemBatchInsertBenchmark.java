@@ -0,0 +1,131 @@
+package org.kosa.commerceservice.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.kosa.commerceservice.entity.order.Order;
+import org.kosa.commerceservice.entity.order.OrderItem;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 주문 생성 시 주문 상품 INSERT 벤치마크 (주문 1건 = 헤더 1행 + 상품 N행, 트랜잭션 1회)
+ * - perRow: JDBC 배치 없이 행마다 INSERT (기존 방식)
+ * - batched: application.yml과 같은 배치 설정 (batch_size 50, order_inserts)
+ * - H2 인메모리는 네트워크 왕복이 없으므로 실제 DB 대비 차이는 하한값
+ * 실행: ./mvnw test-compile 후 IDE에서 main 실행, 또는
+ *       java -cp "target/test-classes:target/classes:<테스트 클래스패스>" org.openjdk.jmh.Main OrderItemBatchInsertBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderItemBatchInsertBenchmark {
+
+    @Param({"1", "10", "50"})
+    private int itemCount;
+
+    @Param({"perRow", "batched"})
+    private String mode;
+
+    private HikariDataSource dataSource;
+    private LocalContainerEntityManagerFactoryBean factoryBean;
+    private EntityManagerFactory entityManagerFactory;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:order-batch-" + mode + "-" + itemCount + ";DB_CLOSE_DELAY=-1");
+
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("hibernate.hbm2ddl.auto", "create-drop");
+        if ("batched".equals(mode)) {
+            properties.put("hibernate.jdbc.batch_size", 50);
+            properties.put("hibernate.order_inserts", true);
+            properties.put("hibernate.order_updates", true);
+        }
+
+        factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(dataSource);
+        factoryBean.setPackagesToScan("org.kosa.commerceservice.entity");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(properties);
+        factoryBean.afterPropertiesSet();
+        entityManagerFactory = factoryBean.getObject();
+    }
+
+    @TearDown(Level.Iteration)
+    public void clearTables() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            entityManager.createNativeQuery("DELETE FROM tb_order_item").executeUpdate();
+            entityManager.createNativeQuery("DELETE FROM tb_order").executeUpdate();
+            entityManager.getTransaction().commit();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        factoryBean.destroy();
+        dataSource.close();
+    }
+
+    @Benchmark
+    public String createOrder() {
+        EntityManager entityManager = entityManagerFactory.createEntityManager();
+        try {
+            entityManager.getTransaction().begin();
+            Order order = Order.builder()
+                    .userId("benchmark-user")
+                    .totalPrice(9000 * itemCount)
+                    .build();
+            entityManager.persist(order);
+
+            for (int i = 0; i < itemCount; i++) {
+                entityManager.persist(OrderItem.builder()
+                        .orderId(order.getOrderId())
+                        .productId(i + 1)
+                        .name("벤치마크 상품 " + i)
+                        .quantity(1)
+                        .status("주문완료")
+                        .totalPrice(9000)
+                        .build());
+            }
+            entityManager.getTransaction().commit();
+            return order.getOrderId();
+        } finally {
+            entityManager.close();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(OrderItemBatchInsertBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,161 @@
+package org.kosa.commerceservice.cache;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileGenerator;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+import org.kosa.commerceservice.dto.product.ProductDTO;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompactCacheSerializerTest {
+
+    private static final int COMPRESSION_THRESHOLD = 1024;
+
+    private final ObjectMapper smileMapper = createSmileMapper();
+    private final GenericJackson2JsonRedisSerializer jsonSerializer = createJsonSerializer();
+
+    @Test
+    void 작은_값은_압축하지_않고_그대로_복원한다() {
+        CompactCacheSerializer serializer = serializer(smileMapper.constructType(ProductDTO.class));
+        ProductDTO product = product(1);
+
+        byte[] bytes = serializer.serialize(product);
+
+        assertEquals(3, bytes[0]);
+        assertEquals(product, serializer.deserialize(bytes));
+    }
+
+    @Test
+    void 임계_크기_이상은_LZ4로_압축해_복원한다() {
+        CompactCacheSerializer serializer = serializer(productListType());
+        List<ProductDTO> products = products(200);
+
+        byte[] bytes = serializer.serialize(products);
+
+        assertEquals(4, bytes[0]);
+        assertTrue(bytes.length < uncompressedLength(products), "압축 후 크기가 줄어야 함");
+        Object restored = serializer.deserialize(bytes);
+        assertEquals(products, restored);
+        assertInstanceOf(ProductDTO.class, ((List<?>) restored).get(0));
+    }
+
+    @Test
+    void 적재_시각이_있는_값은_CachedValue로_복원한다() {
+        CompactCacheSerializer serializer = serializer(productListType());
+        for (List<ProductDTO> products : List.of(products(2), products(200))) {
+            CachedValue cachedValue = new CachedValue(products, 1_700_000_000_123L);
+
+            Object restored = serializer.deserialize(serializer.serialize(cachedValue));
+
+            CachedValue restoredValue = assertInstanceOf(CachedValue.class, restored);
+            assertEquals(1_700_000_000_123L, restoredValue.getLoadedAt());
+            assertEquals(products, restoredValue.getValue());
+        }
+    }
+
+    @Test
+    void 타입_정보를_기록하지_않는다() {
+        CompactCacheSerializer serializer = serializer(productListType());
+
+        byte[] bytes = serializer.serialize(products(2));
+
+        assertFalse(new String(bytes, StandardCharsets.ISO_8859_1).contains("org.kosa"));
+    }
+
+    @Test
+    void 코덱_전환_전의_JSON_값을_읽는다() {
+        CompactCacheSerializer serializer = serializer(productListType());
+        List<ProductDTO> products = new ArrayList<>(products(3));
+        ProductDTO product = product(7);
+
+        assertEquals(products, serializer.deserialize(jsonSerializer.serialize(products)));
+        assertEquals(product, serializer(smileMapper.constructType(ProductDTO.class))
+                .deserialize(jsonSerializer.serialize(product)));
+    }
+
+    @Test
+    void 빈_값은_null로_처리한다() {
+        CompactCacheSerializer serializer = serializer(productListType());
+
+        assertEquals(0, serializer.serialize(null).length);
+        assertNull(serializer.deserialize(new byte[0]));
+        assertNull(serializer.deserialize(null));
+    }
+
+    private CompactCacheSerializer serializer(JavaType valueType) {
+        return new CompactCacheSerializer(smileMapper, valueType, jsonSerializer, COMPRESSION_THRESHOLD);
+    }
+
+    private JavaType productListType() {
+        return smileMapper.getTypeFactory().constructCollectionType(List.class, ProductDTO.class);
+    }
+
+    private int uncompressedLength(Object value) {
+        try {
+            return smileMapper.writeValueAsBytes(value).length;
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<ProductDTO> products(int count) {
+        List<ProductDTO> products = new ArrayList<>();
+        for (int i = 1; i <= count; i++) {
+            products.add(product(i));
+        }
+        return products;
+    }
+
+    private static ProductDTO product(int productId) {
+        return ProductDTO.builder()
+                .productId(productId)
+                .categoryId(productId % 5 + 1)
+                .name("신선 상품 " + productId)
+                .price(10_000 + productId)
+                .salePrice(9_000 + productId)
+                .productStatus("판매중")
+                .productRating(new BigDecimal("4.5"))
+                .createdDate(LocalDateTime.of(2025, 1, 1, 12, 0))
+                .mainImage("/api/images/products/p" + productId + ".jpg")
+                .thumbnailUrl("/api/images/products/p" + productId + ".jpg/thumb")
+                .deliveryInfo("오후 2시 이전 주문 시 당일 출고")
+                .images(List.of("/api/images/products/p" + productId + "-1.jpg"))
+                .build();
+    }
+
+    // RedisConfig와 같은 설정 (기본 타이핑 없는 Smile, 기본 타이핑 JSON)
+    private static ObjectMapper createSmileMapper() {
+        SmileFactory smileFactory = SmileFactory.builder()
+                .enable(SmileGenerator.Feature.CHECK_SHARED_NAMES)
+                .enable(SmileGenerator.Feature.CHECK_SHARED_STRING_VALUES)
+                .build();
+        ObjectMapper smileMapper = new ObjectMapper(smileFactory);
+        smileMapper.registerModule(new JavaTimeModule());
+        smileMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        return smileMapper;
+    }
+
+    private static GenericJackson2JsonRedisSerializer createJsonSerializer() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.activateDefaultTyping(objectMapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.NON_FINAL, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(objectMapper);
+    }
+}
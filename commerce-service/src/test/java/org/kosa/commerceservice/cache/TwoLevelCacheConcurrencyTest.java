@@ -0,0 +1,274 @@
+package org.kosa.commerceservice.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.commerceservice.cache.TwoLevelCacheManager.RefreshSpec;
+import org.springframework.cache.Cache.ValueRetrievalException;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 갱신 정책 캐시(L1 없음) 동시성 테스트
+ * - L2(Redis 캐시)는 인스턴스끼리 공유하는 ConcurrentMapCache, 적재 락은 인메모리 SET NX로 대체
+ * - 인스턴스 두 개는 같은 L2·락 저장소를 쓰는 TwoLevelCache 두 개로 구성
+ */
+class TwoLevelCacheConcurrencyTest {
+
+    private static final String KEY = "product:1";
+    private static final int THREADS = 32;
+
+    // 조기 갱신이 일어나지 않는 정책 (refreshAhead가 ttl에 비해 매우 짧음)
+    private static final RefreshSpec NO_EARLY_REFRESH =
+            new RefreshSpec(Duration.ofMinutes(1), Duration.ofMillis(1), Duration.ofSeconds(5));
+    // 유효한 값이라도 사실상 항상 조기 갱신에 당첨되는 정책
+    private static final RefreshSpec ALWAYS_EARLY_REFRESH =
+            new RefreshSpec(Duration.ofMinutes(1), Duration.ofDays(365), Duration.ofSeconds(5));
+
+    private final ConcurrentMapCache remoteCache = new ConcurrentMapCache("products");
+    private final InMemoryLockRedis redis = new InMemoryLockRedis();
+    private final ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 같은_키를_동시에_조회하면_한_번만_적재한다() throws Exception {
+        TwoLevelCache cache = newCache(NO_EARLY_REFRESH);
+        AtomicInteger loaderCalls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Future<String>> results = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return cache.get(KEY, () -> {
+                    loaderCalls.incrementAndGet();
+                    Thread.sleep(200);
+                    return "loaded";
+                });
+            }));
+        }
+        start.countDown();
+
+        for (Future<String> result : results) {
+            assertEquals("loaded", result.get(10, TimeUnit.SECONDS));
+        }
+        assertEquals(1, loaderCalls.get());
+        assertTrue(redis.locks.isEmpty(), "적재 후 락 해제");
+    }
+
+    @Test
+    void 조기_갱신_중에는_다른_요청이_현재_값을_받고_갱신_후_새_값으로_교체된다() throws Exception {
+        TwoLevelCache cache = newCache(ALWAYS_EARLY_REFRESH);
+        remoteCache.put(KEY, new CachedValue("old", System.currentTimeMillis() - 1_000));
+        CountDownLatch refreshStarted = new CountDownLatch(1);
+        CountDownLatch releaseRefresh = new CountDownLatch(1);
+        AtomicInteger loaderCalls = new AtomicInteger();
+
+        Future<String> refreshing = executor.submit(() -> cache.get(KEY, () -> {
+            loaderCalls.incrementAndGet();
+            refreshStarted.countDown();
+            releaseRefresh.await();
+            return "new";
+        }));
+        assertTrue(refreshStarted.await(5, TimeUnit.SECONDS));
+
+        // 갱신이 진행 중인 동안에는 대기 없이 현재 값
+        List<Future<String>> duringRefresh = new ArrayList<>();
+        for (int i = 0; i < THREADS - 1; i++) {
+            duringRefresh.add(executor.submit(() -> cache.get(KEY, () -> {
+                loaderCalls.incrementAndGet();
+                return "unexpected";
+            })));
+        }
+        for (Future<String> result : duringRefresh) {
+            assertEquals("old", result.get(5, TimeUnit.SECONDS));
+        }
+
+        releaseRefresh.countDown();
+        assertEquals("new", refreshing.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loaderCalls.get());
+        assertEquals("new", ((CachedValue) remoteCache.get(KEY).get()).getValue());
+    }
+
+    @Test
+    void 만료된_값의_재적재가_실패하면_이전_값을_제공한다() {
+        TwoLevelCache cache = newCache(NO_EARLY_REFRESH);
+        remoteCache.put(KEY, new CachedValue("stale", 0L));
+
+        String value = cache.get(KEY, () -> {
+            throw new IllegalStateException("DB 연결 실패");
+        });
+
+        assertEquals("stale", value);
+        assertTrue(redis.locks.isEmpty(), "실패해도 락 해제");
+    }
+
+    @Test
+    void 적재_중_Error가_나도_대기_요청이_멈추지_않고_다음_조회는_다시_적재한다() throws Exception {
+        TwoLevelCache cache = newCache(NO_EARLY_REFRESH);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Future<String> failing = executor.submit(() -> cache.get(KEY, () -> {
+            loaderStarted.countDown();
+            releaseLoader.await();
+            throw new StackOverflowError();
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        Future<String> waiting = executor.submit(() -> cache.get(KEY, () -> "unexpected"));
+        Thread.sleep(100);
+        releaseLoader.countDown();
+
+        ExecutionException failed = assertThrows(ExecutionException.class, () -> failing.get(5, TimeUnit.SECONDS));
+        assertInstanceOf(StackOverflowError.class, failed.getCause());
+        ExecutionException waited = assertThrows(ExecutionException.class, () -> waiting.get(1, TimeUnit.SECONDS));
+        assertInstanceOf(ValueRetrievalException.class, waited.getCause());
+
+        assertEquals("loaded", cache.get(KEY, () -> "loaded"));
+        assertTrue(redis.locks.isEmpty(), "Error로 끝나도 락 해제");
+    }
+
+    @Test
+    void 먼저_시작한_적재가_lockTimeout을_넘기면_대기_요청이_직접_적재한다() throws Exception {
+        TwoLevelCache cache = newCache(new RefreshSpec(Duration.ofMinutes(1), Duration.ofMillis(1), Duration.ofMillis(300)));
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Future<String> slow = executor.submit(() -> cache.get(KEY, () -> {
+            loaderStarted.countDown();
+            releaseLoader.await();
+            return "slow";
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        Future<String> waiting = executor.submit(() -> cache.get(KEY, () -> "direct"));
+        assertEquals("direct", waiting.get(5, TimeUnit.SECONDS));
+        assertFalse(slow.isDone());
+
+        releaseLoader.countDown();
+        assertEquals("slow", slow.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void 다른_인스턴스가_락을_잡고_적재_중이면_적재하지_않고_결과를_기다린다() throws Exception {
+        TwoLevelCache nodeA = newCache(NO_EARLY_REFRESH);
+        TwoLevelCache nodeB = newCache(NO_EARLY_REFRESH);
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+        AtomicInteger nodeBLoaderCalls = new AtomicInteger();
+
+        Future<String> loadingOnA = executor.submit(() -> nodeA.get(KEY, () -> {
+            loaderStarted.countDown();
+            releaseLoader.await();
+            return "from-A";
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        List<Future<String>> onB = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            onB.add(executor.submit(() -> nodeB.get(KEY, () -> {
+                nodeBLoaderCalls.incrementAndGet();
+                return "from-B";
+            })));
+        }
+        Thread.sleep(200);
+        releaseLoader.countDown();
+
+        assertEquals("from-A", loadingOnA.get(5, TimeUnit.SECONDS));
+        for (Future<String> result : onB) {
+            assertEquals("from-A", result.get(5, TimeUnit.SECONDS));
+        }
+        assertEquals(0, nodeBLoaderCalls.get());
+    }
+
+    @Test
+    void 다른_인스턴스가_갱신_중이면_만료된_이전_값을_바로_제공한다() throws Exception {
+        TwoLevelCache nodeA = newCache(NO_EARLY_REFRESH);
+        TwoLevelCache nodeB = newCache(NO_EARLY_REFRESH);
+        remoteCache.put(KEY, new CachedValue("stale", 0L));
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch releaseLoader = new CountDownLatch(1);
+
+        Future<String> loadingOnA = executor.submit(() -> nodeA.get(KEY, () -> {
+            loaderStarted.countDown();
+            releaseLoader.await();
+            return "fresh";
+        }));
+        assertTrue(loaderStarted.await(5, TimeUnit.SECONDS));
+
+        Callable<String> unexpected = () -> "from-B";
+        assertEquals("stale", nodeB.get(KEY, unexpected));
+
+        releaseLoader.countDown();
+        assertEquals("fresh", loadingOnA.get(5, TimeUnit.SECONDS));
+        assertEquals("fresh", nodeB.get(KEY, unexpected));
+    }
+
+    private TwoLevelCache newCache(RefreshSpec refreshSpec) {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        TwoLevelCacheManager cacheManager = new TwoLevelCacheManager(new NoOpCacheManager(), Map.of(),
+                Map.of("products", refreshSpec), redis, new ObjectMapper(), meterRegistry);
+        return new TwoLevelCache("products", null, remoteCache, refreshSpec, cacheManager, meterRegistry);
+    }
+
+    /**
+     * 적재 락만 지원하는 인메모리 Redis (SET NX, 토큰 일치 시 DEL 스크립트), TTL은 적용하지 않음
+     */
+    private static class InMemoryLockRedis extends StringRedisTemplate {
+
+        private final Map<String, String> locks = new ConcurrentHashMap<>();
+        private final ValueOperations<String, String> valueOperations = createValueOperations();
+
+        @SuppressWarnings("unchecked")
+        private ValueOperations<String, String> createValueOperations() {
+            ValueOperations<String, String> operations = mock(ValueOperations.class);
+            when(operations.setIfAbsent(anyString(), anyString(), any(Duration.class)))
+                    .thenAnswer(invocation -> locks.putIfAbsent(invocation.getArgument(0), invocation.getArgument(1)) == null);
+            return operations;
+        }
+
+        @Override
+        public ValueOperations<String, String> opsForValue() {
+            return valueOperations;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> T execute(RedisScript<T> script, List<String> keys, Object... args) {
+            return (T) (Long) (locks.remove(keys.get(0), args[0]) ? 1L : 0L);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.kosa.commerceservice.service.category;
+
+import org.junit.jupiter.api.Test;
+import org.kosa.commerceservice.dto.category.CategoryDto;
+import org.kosa.commerceservice.entity.category.Category;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CategoryTreeTest {
+
+    /*
+     * 1 ─┬─ 11 ─┬─ 111
+     *    │      └─ 112
+     *    └─ 12
+     * 2 ─── 21
+     */
+    private CategoryTree sampleTree() {
+        Map<Integer, Category> byId = new HashMap<>();
+        List<Category> sorted = new ArrayList<>();
+        sorted.add(category(byId, 1, null, 1));
+        sorted.add(category(byId, 2, null, 1));
+        sorted.add(category(byId, 11, 1, 2));
+        sorted.add(category(byId, 12, 1, 2));
+        sorted.add(category(byId, 21, 2, 2));
+        sorted.add(category(byId, 111, 11, 3));
+        sorted.add(category(byId, 112, 11, 3));
+        return CategoryTree.build(sorted, CategoryTreeTest::toDto);
+    }
+
+    @Test
+    void 하위_카테고리를_전위_순회_순서로_돌려준다() {
+        CategoryTree tree = sampleTree();
+
+        assertEquals(List.of(11, 111, 112, 12), tree.getDescendantIds(1));
+        assertEquals(List.of(111, 112), tree.getDescendantIds(11));
+        assertEquals(List.of(), tree.getDescendantIds(111));
+        assertEquals(List.of(2, 21), tree.getSelfAndDescendantIds(2));
+    }
+
+    @Test
+    void 형제_구간은_겹치지_않는다() {
+        CategoryTree tree = sampleTree();
+
+        for (Integer first : List.of(11, 12, 111, 112)) {
+            for (Integer second : List.of(2, 21)) {
+                assertTrue(disjoint(tree.getSelfAndDescendantIds(first), tree.getSelfAndDescendantIds(second)),
+                        first + " / " + second);
+            }
+        }
+        assertTrue(disjoint(tree.getSelfAndDescendantIds(11), tree.getSelfAndDescendantIds(12)));
+    }
+
+    @Test
+    void 구간_비교로_상하위_관계를_판별한다() {
+        CategoryTree tree = sampleTree();
+
+        assertTrue(tree.isDescendant(1, 11));
+        assertTrue(tree.isDescendant(1, 112));
+        assertTrue(tree.isDescendant(11, 111));
+        assertFalse(tree.isDescendant(11, 11));
+        assertFalse(tree.isDescendant(111, 11));
+        assertFalse(tree.isDescendant(12, 111));
+        assertFalse(tree.isDescendant(2, 11));
+        assertFalse(tree.isDescendant(1, 999));
+    }
+
+    @Test
+    void 부모_자식_조회와_계층_응답을_구성한다() {
+        CategoryTree tree = sampleTree();
+
+        assertEquals(11, tree.getParentId(111));
+        assertNull(tree.getParentId(1));
+        assertEquals(List.of(111, 112), ids(tree.getChildren(11)));
+        assertTrue(tree.hasChildren(1));
+        assertFalse(tree.hasChildren(12));
+        assertEquals(List.of(1, 2), ids(tree.getMainCategories()));
+        assertEquals(List.of(1, 2), ids(tree.getHierarchy()));
+        assertEquals(List.of(11, 12), ids(tree.getHierarchy().get(0).getSubCategories()));
+        assertEquals(7, tree.size());
+    }
+
+    @Test
+    void 트리에_없는_카테고리는_자신만_돌려준다() {
+        CategoryTree tree = sampleTree();
+
+        assertEquals(List.of(999), tree.getSelfAndDescendantIds(999));
+        assertEquals(List.of(), tree.getDescendantIds(999));
+        assertNull(tree.getCategory(999));
+    }
+
+    @Test
+    void 상위가_미사용인_고아_카테고리는_별도_루트로_순회한다() {
+        // 30은 미사용(목록에 없음) → 31, 32는 부모가 없는 것으로 취급
+        Map<Integer, Category> byId = new HashMap<>();
+        Category inactiveParent = Category.builder().categoryId(30).name("미사용").categoryLevel(1).build();
+        byId.put(30, inactiveParent);
+        List<Category> sorted = new ArrayList<>();
+        sorted.add(category(byId, 1, null, 1));
+        sorted.add(category(byId, 31, 30, 2));
+        sorted.add(category(byId, 311, 31, 3));
+        sorted.add(category(byId, 32, 30, 2));
+
+        CategoryTree tree = CategoryTree.build(sorted, CategoryTreeTest::toDto);
+
+        assertEquals(List.of(311), tree.getDescendantIds(31));
+        assertEquals(List.of(32), tree.getSelfAndDescendantIds(32));
+        assertTrue(tree.isDescendant(31, 311));
+        assertFalse(tree.isDescendant(30, 31));
+        assertEquals(List.of(31, 32), ids(tree.getChildren(30)));
+        // 계층 응답에는 실제 최상위 카테고리만 포함
+        assertEquals(List.of(1), ids(tree.getHierarchy()));
+    }
+
+    @Test
+    void 순환_참조가_있어도_무한_순회하지_않는다() {
+        // 41 → 42 → 43 → 41 순환, 1 → 11은 정상
+        Map<Integer, Category> byId = new HashMap<>();
+        List<Category> sorted = new ArrayList<>();
+        sorted.add(category(byId, 1, null, 1));
+        sorted.add(category(byId, 11, 1, 2));
+        Category first = category(byId, 41, null, 2);
+        Category second = category(byId, 42, 41, 2);
+        Category third = category(byId, 43, 42, 2);
+        first.setParentCategory(third);
+        sorted.add(first);
+        sorted.add(second);
+        sorted.add(third);
+
+        CategoryTree tree = CategoryTree.build(sorted, CategoryTreeTest::toDto);
+
+        // 순환에 속한 카테고리는 루트에서 닿지 않으므로 구간이 없고 자신만 조회됨
+        assertEquals(List.of(41), tree.getSelfAndDescendantIds(41));
+        assertEquals(List.of(), tree.getDescendantIds(42));
+        assertFalse(tree.isDescendant(41, 42));
+        assertFalse(tree.isDescendant(42, 41));
+        assertEquals(List.of(11), tree.getDescendantIds(1));
+        assertEquals(5, tree.size());
+    }
+
+    private static Category category(Map<Integer, Category> byId, Integer categoryId, Integer parentId, int level) {
+        Category category = Category.builder()
+                .categoryId(categoryId)
+                .parentCategory(parentId == null ? null : byId.get(parentId))
+                .name("카테고리 " + categoryId)
+                .categoryLevel(level)
+                .categoryDisplayOrder(categoryId)
+                .build();
+        byId.put(categoryId, category);
+        return category;
+    }
+
+    private static CategoryDto toDto(Category category) {
+        return CategoryDto.builder()
+                .categoryId(category.getCategoryId())
+                .parentCategoryId(category.getParentCategory() == null ? null : category.getParentCategory().getCategoryId())
+                .name(category.getName())
+                .categoryLevel(category.getCategoryLevel())
+                .build();
+    }
+
+    private static List<Integer> ids(List<CategoryDto> categories) {
+        return categories.stream().map(CategoryDto::getCategoryId).toList();
+    }
+
+    private static boolean disjoint(List<Integer> first, List<Integer> second) {
+        return first.stream().noneMatch(second::contains);
+    }
+}
@@ -0,0 +1,101 @@
+package org.kosa.commerceservice.service.order;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.kosa.commerceservice.service.order.OrderStatusTransition.*;
+
+class OrderStatusTransitionTest {
+
+    private static final List<String> ALL_STATUSES = List.of(
+            PENDING, ORDERED, ORDER_COMPLETED, LEGACY_PAID, PAYMENT_COMPLETED, PREPARING, SHIPPING, SHIPPED,
+            DELIVERED, CANCELLED, CANCELLED_BY_WITHDRAWAL, EXPIRED, SHIPPING_MEMBER_WITHDRAWN, DELIVERED_MEMBER_WITHDRAWN);
+
+    @Test
+    void 정상_주문_흐름을_허용한다() {
+        assertTrue(canTransition(PENDING, PAYMENT_COMPLETED));
+        assertTrue(canTransition(PAYMENT_COMPLETED, PREPARING));
+        assertTrue(canTransition(PREPARING, SHIPPING));
+        assertTrue(canTransition(SHIPPING, SHIPPED));
+        assertTrue(canTransition(SHIPPED, DELIVERED));
+        assertTrue(canTransition(LEGACY_PAID, PAYMENT_COMPLETED));
+    }
+
+    @Test
+    void 되돌리는_전이는_거부한다() {
+        assertFalse(canTransition(DELIVERED, SHIPPING));
+        assertFalse(canTransition(SHIPPING, PREPARING));
+        assertFalse(canTransition(PAYMENT_COMPLETED, PENDING));
+        assertFalse(canTransition(SHIPPING, CANCELLED));
+    }
+
+    @Test
+    void 종료_상태에서는_다른_상태로_바꿀_수_없다() {
+        for (String terminal : List.of(CANCELLED, CANCELLED_BY_WITHDRAWAL, EXPIRED, DELIVERED_MEMBER_WITHDRAWN)) {
+            for (String target : ALL_STATUSES) {
+                if (!target.equals(terminal)) {
+                    assertFalse(canTransition(terminal, target), terminal + " → " + target);
+                }
+            }
+        }
+    }
+
+    @Test
+    void 만료된_주문은_결제_완료로_바꿀_수_없다() {
+        assertTrue(canTransition(PENDING, EXPIRED));
+        assertFalse(canTransition(EXPIRED, PAYMENT_COMPLETED));
+        assertFalse(canTransition(LEGACY_PAID, EXPIRED));
+    }
+
+    @Test
+    void 같은_상태로의_변경과_이전_상태가_없는_경우는_허용한다() {
+        for (String status : ALL_STATUSES) {
+            assertTrue(canTransition(status, status), status);
+        }
+        assertTrue(canTransition(null, PENDING));
+    }
+
+    @Test
+    void 대상_상태가_없으면_거부한다() {
+        assertFalse(canTransition(PENDING, null));
+    }
+
+    @Test
+    void 표에_없는_레거시_상태는_제한하지_않는다() {
+        assertTrue(canTransition("배송준비", CANCELLED));
+    }
+
+    @Test
+    void 탈퇴_처리_전이를_허용한다() {
+        for (String status : List.of(PENDING, ORDERED, ORDER_COMPLETED, LEGACY_PAID, PAYMENT_COMPLETED, PREPARING)) {
+            assertTrue(canTransition(status, CANCELLED_BY_WITHDRAWAL), status);
+        }
+        assertTrue(canTransition(SHIPPING, SHIPPING_MEMBER_WITHDRAWN));
+        assertTrue(canTransition(DELIVERED, DELIVERED_MEMBER_WITHDRAWN));
+        assertFalse(canTransition(DELIVERED, CANCELLED_BY_WITHDRAWAL));
+    }
+
+    @Test
+    void 사용자_취소는_배송_전까지만_가능하다() {
+        assertTrue(isCancellable(PENDING));
+        assertTrue(isCancellable(PAYMENT_COMPLETED));
+        assertTrue(isCancellable(PREPARING));
+        assertFalse(isCancellable(ORDERED));
+        assertFalse(isCancellable(SHIPPING));
+        assertFalse(isCancellable(DELIVERED));
+        assertFalse(isCancellable("UNKNOWN"));
+    }
+
+    @Test
+    void 상태_분류가_서로_겹치지_않는다() {
+        for (String status : ALL_STATUSES) {
+            int groups = (isCancelledStatus(status) ? 1 : 0)
+                    + (isAwaitingPayment(status) ? 1 : 0)
+                    + (isPurchasedStatus(status) ? 1 : 0);
+            assertTrue(groups == 1, status + "는 정확히 한 분류에 속해야 합니다");
+        }
+    }
+}
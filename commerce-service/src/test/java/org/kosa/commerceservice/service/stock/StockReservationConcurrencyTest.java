@@ -0,0 +1,251 @@
+package org.kosa.commerceservice.service.stock;
+
+import org.junit.jupiter.api.Test;
+import org.kosa.commerceservice.dto.order.CheckoutItemDTO;
+import org.kosa.commerceservice.entity.product.Product;
+import org.kosa.commerceservice.entity.stock.StockReservation;
+import org.kosa.commerceservice.repository.product.ProductRepository;
+import org.kosa.commerceservice.repository.stock.StockReservationRepository;
+import org.kosa.commerceservice.service.order.OrderService;
+import org.kosa.commerceservice.service.product.ProductCategoryCountService;
+import org.kosa.commerceservice.service.product.ProductService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 재고 예약 동시성 스트레스 테스트
+ * - 동시 주문 수천 건이 재고를 초과해 예약하지 않는지 (조건부 UPDATE)
+ * - 상품이 겹치는 다중 상품 주문이 교착 없이 전부 성공하거나 전부 실패하는지
+ * - 만료로 해제된 예약이 결제 확정 시 재고를 다시 확보하는지
+ */
+@DataJpaTest(properties = {
+        "spring.cloud.config.enabled=false",
+        "spring.test.database.replace=none",
+        // 동시 UPDATE가 행 잠금을 기다리도록 H2 기본 잠금 대기(1초)를 늘림
+        "spring.datasource.url=jdbc:h2:mem:stock-reservation;DB_CLOSE_DELAY=-1;LOCK_TIMEOUT=10000",
+        // 커넥션 풀(기본 10개)이 동시성을 제한하지 않도록 스레드 수만큼 확보
+        "spring.datasource.hikari.maximum-pool-size=64",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(StockReservationService.class)
+class StockReservationConcurrencyTest {
+
+    private static final int THREADS = 64;
+    private static final long TIMEOUT_SECONDS = 120;
+
+    @Configuration
+    @EntityScan(basePackages = "org.kosa.commerceservice.entity")
+    @EnableJpaRepositories(basePackages = {
+            "org.kosa.commerceservice.repository.product",
+            "org.kosa.commerceservice.repository.stock",
+            "org.kosa.commerceservice.repository.payment",
+            "org.kosa.commerceservice.repository.order"
+    })
+    static class TestConfig {
+    }
+
+    @Autowired
+    private StockReservationService stockReservationService;
+
+    @Autowired
+    private StockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @MockitoBean
+    private ProductService productService;
+
+    @MockitoBean
+    private ProductCategoryCountService productCategoryCountService;
+
+    @MockitoBean
+    private OrderService orderService;
+
+    @Test
+    void 동시_예약은_재고를_초과하지_않는다() throws Exception {
+        int stock = 1_000;
+        int orders = 3_000;
+        Integer productId = saveProduct(stock);
+
+        List<Boolean> results = runConcurrently(orders, i ->
+                stockReservationService.reserve("STRESS-" + i, List.of(item(productId, 1))));
+
+        long succeeded = results.stream().filter(Boolean::booleanValue).count();
+        assertEquals(stock, succeeded);
+        assertEquals(0, productRepository.findById(productId).orElseThrow().getStock());
+        assertEquals(stock, stockReservationRepository.findAll().stream()
+                .filter(r -> productId.equals(r.getProductId()))
+                .count());
+    }
+
+    @Test
+    void 상품이_겹치는_다중_상품_동시_예약은_전부_성공하거나_전부_실패한다() throws Exception {
+        int productCount = 8;
+        int stock = 300;
+        int orders = 4_000;
+        List<Integer> productIds = new ArrayList<>();
+        for (int i = 0; i < productCount; i++) {
+            productIds.add(saveProduct(stock));
+        }
+
+        // 주문마다 상품 2~4개를 임의 순서로 담음 (같은 상품 중복 포함) → 주문 간 상품이 서로 겹침
+        Random random = new Random(42);
+        List<List<CheckoutItemDTO>> orderItems = new ArrayList<>();
+        for (int i = 0; i < orders; i++) {
+            List<Integer> picked = new ArrayList<>(productIds);
+            Collections.shuffle(picked, random);
+            List<CheckoutItemDTO> items = new ArrayList<>();
+            for (Integer productId : picked.subList(0, 2 + random.nextInt(3))) {
+                items.add(item(productId, 1 + random.nextInt(3)));
+            }
+            if (i % 10 == 0) {
+                items.add(item(items.get(0).getProductId(), 1));
+            }
+            orderItems.add(items);
+        }
+
+        // 상품 순서를 뒤섞어도 상품 ID 순으로 잠그므로 교착(잠금 대기 초과) 없이 끝나야 함
+        List<Boolean> results = runConcurrently(orders, i ->
+                stockReservationService.reserve("OVERLAP-" + i, orderItems.get(i)));
+
+        Map<String, List<StockReservation>> reservationsByOrder = stockReservationRepository.findAll().stream()
+                .filter(r -> r.getOrderId().startsWith("OVERLAP-"))
+                .collect(Collectors.groupingBy(StockReservation::getOrderId));
+
+        Map<Integer, Integer> reservedByProduct = new HashMap<>();
+        long succeeded = 0;
+        for (int i = 0; i < orders; i++) {
+            Map<Integer, Integer> expected = orderItems.get(i).stream()
+                    .collect(Collectors.toMap(CheckoutItemDTO::getProductId, CheckoutItemDTO::getQuantity, Integer::sum));
+            List<StockReservation> reservations = reservationsByOrder.getOrDefault("OVERLAP-" + i, List.of());
+            if (!results.get(i)) {
+                assertTrue(reservations.isEmpty(), "실패한 주문의 예약이 남음: OVERLAP-" + i);
+                continue;
+            }
+            succeeded++;
+            Map<Integer, Integer> actual = reservations.stream()
+                    .collect(Collectors.toMap(StockReservation::getProductId, StockReservation::getQuantity));
+            assertEquals(expected, actual, "OVERLAP-" + i);
+            expected.forEach((productId, quantity) -> reservedByProduct.merge(productId, quantity, Integer::sum));
+        }
+
+        // 수요가 재고보다 훨씬 많으므로 일부만 성공
+        assertTrue(succeeded > 0 && succeeded < orders, "성공 " + succeeded + "건");
+        for (Integer productId : productIds) {
+            int remaining = productRepository.findById(productId).orElseThrow().getStock();
+            assertTrue(remaining >= 0, "재고 음수: productId=" + productId);
+            assertEquals(stock, remaining + reservedByProduct.getOrDefault(productId, 0), "productId=" + productId);
+        }
+    }
+
+    @Test
+    void 해제된_예약은_재고가_남아있으면_확정_시_다시_차감된다() {
+        Integer productId = saveProduct(5);
+        stockReservationService.reserve("LATE-1", List.of(item(productId, 3)));
+        stockReservationService.release("LATE-1");
+        assertEquals(5, productRepository.findById(productId).orElseThrow().getStock());
+
+        assertEquals(1, stockReservationService.confirm("LATE-1"));
+
+        assertEquals(2, productRepository.findById(productId).orElseThrow().getStock());
+        assertEquals(StockReservation.COMMITTED,
+                stockReservationRepository.findByOrderId("LATE-1").get(0).getStatus());
+    }
+
+    @Test
+    void 해제된_예약은_재고가_소진되면_확정에_실패하고_상태가_유지된다() {
+        Integer productId = saveProduct(3);
+        stockReservationService.reserve("LATE-2", List.of(item(productId, 3)));
+        stockReservationService.release("LATE-2");
+        // 해제된 사이 다른 주문이 재고를 가져감
+        stockReservationService.reserve("OTHER", List.of(item(productId, 2)));
+
+        assertThrows(IllegalStateException.class, () -> stockReservationService.confirm("LATE-2"));
+
+        assertEquals(1, productRepository.findById(productId).orElseThrow().getStock());
+        assertEquals(StockReservation.RELEASED,
+                stockReservationRepository.findByOrderId("LATE-2").get(0).getStatus());
+    }
+
+    private Integer saveProduct(int stock) {
+        return productRepository.save(Product.builder()
+                        .name("동시성 테스트 상품")
+                        .price(10000)
+                        .salePrice(9000)
+                        .hostId(1L)
+                        .stock(stock)
+                        .build())
+                .getProductId();
+    }
+
+    private static CheckoutItemDTO item(Integer productId, int quantity) {
+        return CheckoutItemDTO.builder()
+                .productId(productId)
+                .quantity(quantity)
+                .build();
+    }
+
+    private interface Task {
+        void run(int index) throws Exception;
+    }
+
+    /**
+     * 모든 작업을 같은 시점에 출발시키고 성공 여부를 모음 (IllegalStateException은 정상적인 예약 실패)
+     * - 교착이나 잠금 대기 초과는 그 외 예외 또는 제한 시간 초과로 테스트 실패
+     */
+    private static List<Boolean> runConcurrently(int count, Task task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<Boolean>> futures = new ArrayList<>();
+            for (int i = 0; i < count; i++) {
+                int index = i;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        task.run(index);
+                        return true;
+                    } catch (IllegalStateException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+            List<Boolean> results = new ArrayList<>();
+            for (Future<Boolean> future : futures) {
+                results.add(future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS));
+            }
+            return results;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
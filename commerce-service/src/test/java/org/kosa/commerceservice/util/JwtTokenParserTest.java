@@ -0,0 +1,63 @@
+package org.kosa.commerceservice.util;
+
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtTokenParserTest {
+
+    private static final String SECRET = "rrYd2zPDUkx7BUhgDsOTxHCbsBkeTgE/uoARWYSqBjU=";
+
+    private JwtTokenParser parser;
+
+    @BeforeEach
+    void setUp() {
+        parser = new JwtTokenParser();
+        ReflectionTestUtils.setField(parser, "jwtSecret", SECRET);
+    }
+
+    @Test
+    void 관리자_토큰은_관리자로_판정한다() {
+        String header = bearer(Jwts.builder().setSubject("admin").claim("role", "ADMIN"), SECRET);
+
+        assertEquals("ADMIN", parser.extractRoleFromAuthHeader(header));
+        assertTrue(parser.isAdmin(header));
+    }
+
+    @Test
+    void 일반_사용자나_role이_없는_토큰은_관리자가_아니다() {
+        assertFalse(parser.isAdmin(bearer(Jwts.builder().setSubject("user").claim("role", "USER"), SECRET)));
+        assertFalse(parser.isAdmin(bearer(Jwts.builder().setSubject("user"), SECRET)));
+    }
+
+    @Test
+    void 다른_키로_서명한_토큰의_role은_믿지_않는다() {
+        String forged = bearer(Jwts.builder().setSubject("admin").claim("role", "ADMIN"),
+                "another-secret-key-for-forged-token-000000");
+
+        assertNull(parser.extractRoleFromAuthHeader(forged));
+        assertFalse(parser.isAdmin(forged));
+    }
+
+    @Test
+    void 헤더가_없거나_형식이_다르면_관리자가_아니다() {
+        assertFalse(parser.isAdmin(null));
+        assertFalse(parser.isAdmin("Basic abc"));
+    }
+
+    private static String bearer(JwtBuilder builder, String secret) {
+        return "Bearer " + builder
+                .signWith(Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8)))
+                .compact();
+    }
+}
@@ -0,0 +1,73 @@
+package org.kosa.commerceservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class KeysetCursorTest {
+
+    private static final LocalDateTime SORT_DATE = LocalDateTime.of(2025, 3, 14, 9, 26, 53, 589_000_000);
+
+    @Test
+    void 인코딩한_커서를_그대로_복원한다() {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(SORT_DATE, "ORDER1234567890"));
+
+        assertEquals(SORT_DATE, cursor.getSortDate());
+        assertEquals("ORDER1234567890", cursor.getId());
+    }
+
+    @Test
+    void 정수_ID를_복원한다() {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(SORT_DATE, 42));
+
+        assertEquals(42, cursor.getIdAsInteger());
+    }
+
+    @Test
+    void 구분자가_들어간_ID도_복원한다() {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(SORT_DATE, "A|B"));
+
+        assertEquals("A|B", cursor.getId());
+    }
+
+    @Test
+    void URL에_안전한_문자만_사용한다() {
+        String encoded = KeysetCursor.encode(SORT_DATE, "ORDER?&/=+");
+
+        assertFalse(encoded.matches(".*[+/=?&].*"), encoded);
+    }
+
+    @Test
+    void base64가_아니면_거부한다() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode("not base64!"));
+    }
+
+    @Test
+    void 구분자가_없거나_값이_비면_거부한다() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(raw("2025-03-14T09:26:53")));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(raw("|ORDER1")));
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(raw("2025-03-14T09:26:53|")));
+    }
+
+    @Test
+    void 일시_형식이_잘못되면_거부한다() {
+        assertThrows(IllegalArgumentException.class, () -> KeysetCursor.decode(raw("yesterday|ORDER1")));
+    }
+
+    @Test
+    void 정수가_아닌_ID는_정수_변환에서_거부한다() {
+        KeysetCursor cursor = KeysetCursor.decode(KeysetCursor.encode(SORT_DATE, "ORDER1"));
+
+        assertThrows(IllegalArgumentException.class, cursor::getIdAsInteger);
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
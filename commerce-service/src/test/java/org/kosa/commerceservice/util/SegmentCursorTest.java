@@ -0,0 +1,59 @@
+package org.kosa.commerceservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SegmentCursorTest {
+
+    private static final int SEGMENT_SIZE = 20;
+    private static final String KEYSET = KeysetCursor.encode(LocalDateTime.of(2025, 3, 14, 9, 26, 53), 120);
+
+    @Test
+    void 세그먼트_커서와_오프셋을_복원한다() {
+        SegmentCursor cursor = SegmentCursor.decode(SegmentCursor.encode(KEYSET, 7), SEGMENT_SIZE);
+
+        assertEquals(KEYSET, cursor.getSegmentCursor());
+        assertEquals(7, cursor.getOffset());
+    }
+
+    @Test
+    void 첫_세그먼트의_오프셋을_복원한다() {
+        SegmentCursor cursor = SegmentCursor.decode(SegmentCursor.encode(null, 5), SEGMENT_SIZE);
+
+        assertNull(cursor.getSegmentCursor());
+        assertEquals(5, cursor.getOffset());
+    }
+
+    @Test
+    void 오프셋이_없는_키셋_커서는_거부한다() {
+        assertThrows(IllegalArgumentException.class, () -> SegmentCursor.decode(KEYSET, SEGMENT_SIZE));
+    }
+
+    @Test
+    void 세그먼트_크기를_넘는_오프셋은_거부한다() {
+        String cursor = SegmentCursor.encode(KEYSET, SEGMENT_SIZE);
+
+        assertThrows(IllegalArgumentException.class, () -> SegmentCursor.decode(cursor, SEGMENT_SIZE));
+    }
+
+    @Test
+    void 잘못된_커서는_거부한다() {
+        assertThrows(IllegalArgumentException.class, () -> SegmentCursor.decode("not base64!", SEGMENT_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> SegmentCursor.decode(raw("garbage"), SEGMENT_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> SegmentCursor.decode(raw("3:garbage"), SEGMENT_SIZE));
+        assertThrows(IllegalArgumentException.class, () -> SegmentCursor.decode(raw("99999999999:"), SEGMENT_SIZE));
+        assertThrows(IllegalArgumentException.class,
+                () -> SegmentCursor.decode(SegmentCursor.encode(KeysetCursor.encode(LocalDateTime.now(), "ORDER1"), 0), SEGMENT_SIZE));
+    }
+
+    private static String raw(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+}
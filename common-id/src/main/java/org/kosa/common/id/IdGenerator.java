@@ -0,0 +1,13 @@
+package org.kosa.common.id;
+
+/**
+ * 엔티티 식별자 생성기 (commerce-service 주문/결제/장바구니/찜, user-service 리뷰 공용)
+ */
+public interface IdGenerator {
+
+    long nextId();
+
+    default String nextId(String prefix) {
+        return prefix + nextId();
+    }
+}
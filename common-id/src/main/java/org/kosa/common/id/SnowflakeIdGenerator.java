@@ -0,0 +1,53 @@
+package org.kosa.common.id;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식 ID 생성기 (락 없이 CAS로 동작)
+ * - 41비트 타임스탬프(ms, EPOCH 기준) + 10비트 노드 ID + 12비트 시퀀스
+ * - 같은 ms에 시퀀스가 소진되거나 시계가 뒤로 가면 논리 시간을 앞당겨 단조 증가 유지
+ * - 노드 ID는 서비스별로 따로 임대하므로 서비스가 달라도 같은 비트 구성을 공유
+ */
+public class SnowflakeIdGenerator implements IdGenerator {
+
+    // 2024-01-01T00:00:00Z
+    private static final long EPOCH = 1704067200000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+
+    public static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+
+    private final long nodeId;
+
+    // (EPOCH 기준 타임스탬프 << SEQUENCE_BITS) | 시퀀스
+    private final AtomicLong state = new AtomicLong();
+
+    public SnowflakeIdGenerator(long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0~" + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    @Override
+    public long nextId() {
+        while (true) {
+            long last = state.get();
+            long now = System.currentTimeMillis() - EPOCH;
+
+            // 새 ms면 시퀀스 0부터, 아니면 +1 (시퀀스 overflow는 타임스탬프로 자리올림)
+            long next = now > (last >>> SEQUENCE_BITS) ? now << SEQUENCE_BITS : last + 1;
+
+            if (state.compareAndSet(last, next)) {
+                long timestamp = next >>> SEQUENCE_BITS;
+                long sequence = next & ((1L << SEQUENCE_BITS) - 1);
+                return (timestamp << (NODE_BITS + SEQUENCE_BITS)) | (nodeId << SEQUENCE_BITS) | sequence;
+            }
+        }
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+}
@@ -0,0 +1,109 @@
+package org.kosa.common.id;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake 노드 ID 임대 (Redis SET NX + TTL, 주기 갱신)
+ * - 서비스별 키 공간에서 빈 노드 ID를 선점 → 인스턴스 간 노드 ID 중복 방지
+ * - 갱신 실패로 키가 만료되면 같은 ID를 다시 선점 시도, 다른 인스턴스가 가져갔으면 오류 로그
+ */
+@Slf4j
+public class SnowflakeNodeIdLease implements AutoCloseable {
+
+    private static final String KEY_PREFIX = "id-generator:node:";
+
+    // 자신이 잡은 임대만 연장/해제
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+            Long.class);
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String key;
+    private final String owner;
+    private final Duration ttl;
+    private final long nodeId;
+    private final ScheduledExecutorService renewer;
+
+    private SnowflakeNodeIdLease(StringRedisTemplate redisTemplate, String key, String owner, Duration ttl, long nodeId) {
+        this.redisTemplate = redisTemplate;
+        this.key = key;
+        this.owner = owner;
+        this.ttl = ttl;
+        this.nodeId = nodeId;
+        this.renewer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "snowflake-node-lease");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 빈 노드 ID 선점 (preferredNodeId부터 순서대로 시도, 모두 사용 중이면 예외)
+     */
+    public static SnowflakeNodeIdLease acquire(StringRedisTemplate redisTemplate, String serviceName,
+                                               String instanceId, long preferredNodeId, Duration ttl) {
+        String owner = instanceId + ":" + UUID.randomUUID();
+        long nodeCount = SnowflakeIdGenerator.MAX_NODE_ID + 1;
+
+        for (long i = 0; i < nodeCount; i++) {
+            long candidate = Math.floorMod(preferredNodeId + i, nodeCount);
+            String key = KEY_PREFIX + serviceName + ":" + candidate;
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, ttl))) {
+                SnowflakeNodeIdLease lease = new SnowflakeNodeIdLease(redisTemplate, key, owner, ttl, candidate);
+                lease.startRenewal();
+                log.info("노드 ID 임대 - service: {}, instanceId: {}, nodeId: {}", serviceName, instanceId, candidate);
+                return lease;
+            }
+        }
+        throw new IllegalStateException("임대 가능한 노드 ID가 없습니다: " + serviceName);
+    }
+
+    public long getNodeId() {
+        return nodeId;
+    }
+
+    private void startRenewal() {
+        long intervalMs = Math.max(1000L, ttl.toMillis() / 3);
+        renewer.scheduleWithFixedDelay(this::renew, intervalMs, intervalMs, TimeUnit.MILLISECONDS);
+    }
+
+    private void renew() {
+        try {
+            Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), owner, String.valueOf(ttl.toMillis()));
+            if (renewed != null && renewed == 1L) {
+                return;
+            }
+            // 만료된 경우: 아무도 가져가지 않았으면 다시 선점
+            if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(key, owner, ttl))) {
+                log.warn("노드 ID 임대 만료 후 재선점: nodeId={}", nodeId);
+            } else {
+                log.error("노드 ID 임대 상실 (다른 인스턴스가 사용 중, ID 중복 가능): nodeId={}, key={}", nodeId, key);
+            }
+        } catch (Exception e) {
+            // Redis 일시 장애: TTL 안에 복구되면 다음 주기에 연장
+            log.warn("노드 ID 임대 갱신 실패: nodeId={}, error={}", nodeId, e.getMessage());
+        }
+    }
+
+    @Override
+    public void close() {
+        renewer.shutdownNow();
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), owner);
+        } catch (Exception e) {
+            log.warn("노드 ID 임대 해제 실패 (TTL 후 자동 만료): nodeId={}, error={}", nodeId, e.getMessage());
+        }
+    }
+}
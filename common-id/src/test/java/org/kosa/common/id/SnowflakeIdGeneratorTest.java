@@ -0,0 +1,118 @@
+package org.kosa.common.id;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class SnowflakeIdGeneratorTest {
+
+    private static final int THREADS = 8;
+    private static final int IDS_PER_THREAD = 50_000;
+
+    @Test
+    void 단일_스레드에서_엄격히_증가한다() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(7);
+
+        // 한 ms 시퀀스(4096)를 여러 번 넘기도록 생성 → 자리올림 구간 포함
+        long previous = generator.nextId();
+        for (int i = 0; i < 200_000; i++) {
+            long id = generator.nextId();
+            assertTrue(id > previous, "ID가 감소함: " + previous + " -> " + id);
+            previous = id;
+        }
+    }
+
+    @Test
+    void 동시_생성된_ID는_중복되지_않고_스레드별로_증가한다() throws Exception {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(() -> {
+            long previous = Long.MIN_VALUE;
+            for (int i = 0; i < IDS_PER_THREAD; i++) {
+                long id = generator.nextId();
+                assertTrue(id > previous, "스레드 내 ID가 감소함");
+                previous = id;
+                ids.add(id);
+            }
+        });
+
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+    }
+
+    @Test
+    void 노드가_다르면_같은_시점에도_중복되지_않는다() throws Exception {
+        SnowflakeIdGenerator first = new SnowflakeIdGenerator(1);
+        SnowflakeIdGenerator second = new SnowflakeIdGenerator(2);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        runConcurrently(() -> {
+            for (int i = 0; i < IDS_PER_THREAD / 2; i++) {
+                ids.add(first.nextId());
+                ids.add(second.nextId());
+            }
+        });
+
+        assertEquals(THREADS * IDS_PER_THREAD, ids.size());
+    }
+
+    @Test
+    void ID에_노드_ID가_들어간다() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID);
+
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+            assertEquals(SnowflakeIdGenerator.MAX_NODE_ID, (id >>> 12) & SnowflakeIdGenerator.MAX_NODE_ID);
+            assertTrue(id > 0);
+        }
+    }
+
+    @Test
+    void 접두사를_붙인_ID를_만든다() {
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(3);
+
+        String id = generator.nextId("ORDER");
+
+        assertTrue(id.startsWith("ORDER"));
+        Long.parseLong(id.substring("ORDER".length()));
+    }
+
+    @Test
+    void 범위를_벗어난_노드_ID는_거부한다() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(SnowflakeIdGenerator.MAX_NODE_ID + 1));
+    }
+
+    private static void runConcurrently(Runnable task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    task.run();
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
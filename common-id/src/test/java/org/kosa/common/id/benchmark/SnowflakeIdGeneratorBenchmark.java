@@ -0,0 +1,64 @@
+package org.kosa.common.id.benchmark;
+
+import org.kosa.common.id.SnowflakeIdGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Snowflake ID 생성 처리량 벤치마크 (초당 ID 수)
+ * - 노드 하나의 이론 상한은 ms당 4,096개(초당 약 409만 개), 초과분은 논리 시간을 앞당겨 처리
+ * - contended: 스레드 8개가 생성기 하나를 공유 (CAS 경합)
+ * - legacyTimestampRandom: 비교 기준, 이전 방식 (현재 시각 + 0~999 난수, 중복 가능)
+ * 실행: 저장소 루트에서 ./mvnw -pl common-id test-compile 후 IDE에서 main 실행, 또는
+ *       java -cp "common-id/target/test-classes:common-id/target/classes:<테스트 클래스패스>" org.openjdk.jmh.Main SnowflakeIdGeneratorBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SnowflakeIdGeneratorBenchmark {
+
+    private final SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+
+    @Benchmark
+    public long nextId() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long contended() {
+        return generator.nextId();
+    }
+
+    @Benchmark
+    public String nextIdWithPrefix() {
+        return generator.nextId("ORDER");
+    }
+
+    @Benchmark
+    public String legacyTimestampRandom() {
+        return "ORDER" + System.currentTimeMillis() + "_" + (int) (Math.random() * 1000);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(SnowflakeIdGeneratorBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
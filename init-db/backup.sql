@@ -491,7 +491,7 @@ CREATE TABLE `tb_live_broadcast_chats` (
   `is_blurred` tinyint(1) DEFAULT 0 COMMENT '메시지 블러 여부',
   `is_pinned` tinyint(1) DEFAULT 0 COMMENT '고정 메시지 여부',
   `product_id` bigint(20) DEFAULT NULL COMMENT '상품 링크 메시지일 경우 상품 ID (tb_product 참조)',
-  `created_at` timestamp NULL DEFAULT current_timestamp() COMMENT '생성 시간',
+  `created_at` timestamp(3) NULL DEFAULT current_timestamp(3) COMMENT '생성 시간',
   `updated_at` timestamp NULL DEFAULT current_timestamp() ON UPDATE current_timestamp() COMMENT '수정 시간',
   PRIMARY KEY (`chat_id`),
   KEY `idx_broadcast_id` (`broadcast_id`),
@@ -738,7 +738,7 @@ CREATE TABLE `tb_order` (
   `ORDER_ID` varchar(50) NOT NULL COMMENT '주문 ID',
   `USER_ID` varchar(50) NOT NULL COMMENT '사용자 ID',
   `ORDER_DATE` datetime NOT NULL COMMENT '주문일',
-  `order_status` varchar(20) NOT NULL,
+  `order_status` varchar(30) NOT NULL,
   `PHONE` varchar(20) DEFAULT NULL COMMENT '전화번호',
   `EMAIL` varchar(100) DEFAULT NULL COMMENT '이메일',
   `RECIPIENT_NAME` varchar(100) DEFAULT NULL COMMENT '수령인',
@@ -768,7 +768,7 @@ CREATE TABLE `tb_order` (
   `HOST_ID` bigint(20) DEFAULT NULL COMMENT '호스트 ID (FK)',
   PRIMARY KEY (`ORDER_ID`),
   KEY `IDX_ORDER_ORDER_DATE` (`ORDER_DATE`) USING BTREE,
-  KEY `IDX_ORDER_USER_ID` (`USER_ID`) USING BTREE,
+  KEY `IDX_ORDER_USER_DATE` (`USER_ID`,`ORDER_DATE`,`ORDER_ID`) USING BTREE,
   KEY `FK_ORDER_HOST` (`HOST_ID`),
   CONSTRAINT `FK_ORDER_HOST` FOREIGN KEY (`HOST_ID`) REFERENCES `tb_host` (`HOST_ID`) ON DELETE SET NULL ON UPDATE CASCADE
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb3 COLLATE=utf8mb3_general_ci COMMENT='주문 정보 테이블';
@@ -833,7 +833,7 @@ CREATE TABLE `tb_order_item` (
   `PRODUCT_ID` int(11) NOT NULL COMMENT '상품 ID',
   `NAME` varchar(200) NOT NULL COMMENT '상품명',
   `QUANTITY` int(11) NOT NULL DEFAULT 0 COMMENT '수량',
-  `STATUS` varchar(20) NOT NULL COMMENT '상태',
+  `STATUS` varchar(30) NOT NULL COMMENT '상태',
   `TOTAL_PRICE` int(11) NOT NULL DEFAULT 0 COMMENT '해당 상품 총 가격',
   `DELIVERY_FEE` int(11) DEFAULT 0 COMMENT '배송비',
   `IMAGE_URL` varchar(500) DEFAULT NULL COMMENT '이미지 URL',
@@ -927,6 +927,8 @@ CREATE TABLE `tb_product` (
   PRIMARY KEY (`PRODUCT_ID`),
   KEY `fk_product_host` (`HOST_ID`),
   KEY `FK_PRODUCT_CATEGORY` (`category_id`),
+  KEY `IDX_PRODUCT_LISTING` (`PRODUCT_STATUS`,`display_yn`,`CREATED_DATE`,`PRODUCT_ID`) USING BTREE,
+  KEY `IDX_PRODUCT_CATEGORY_LISTING` (`category_id`,`PRODUCT_STATUS`,`display_yn`,`CREATED_DATE`,`PRODUCT_ID`) USING BTREE,
   CONSTRAINT `FK_PRODUCT_CATEGORY` FOREIGN KEY (`category_id`) REFERENCES `tb_category` (`CATEGORY_ID`) ON DELETE CASCADE,
   CONSTRAINT `fk_product_host` FOREIGN KEY (`HOST_ID`) REFERENCES `tb_host` (`HOST_ID`) ON DELETE CASCADE ON UPDATE CASCADE
 ) ENGINE=InnoDB AUTO_INCREMENT=52 DEFAULT CHARSET=utf8mb3 COLLATE=utf8mb3_general_ci COMMENT='상품 정보 테이블';
@@ -1221,6 +1223,67 @@ LOCK TABLES `tb_review_helpful` WRITE;
 /*!40000 ALTER TABLE `tb_review_helpful` ENABLE KEYS */;
 UNLOCK TABLES;
 
+--
+-- Table structure for table `tb_stock_reservation`
+--
+
+DROP TABLE IF EXISTS `tb_stock_reservation`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!40101 SET character_set_client = utf8mb4 */;
+CREATE TABLE `tb_stock_reservation` (
+  `RESERVATION_ID` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '재고 예약 ID',
+  `ORDER_ID` varchar(50) NOT NULL COMMENT '주문 ID',
+  `PRODUCT_ID` int(11) NOT NULL COMMENT '상품 ID',
+  `QUANTITY` int(11) NOT NULL COMMENT '예약 수량',
+  `STATUS` varchar(20) NOT NULL COMMENT '예약 상태(RESERVED/COMMITTED/RELEASED)',
+  `EXPIRES_AT` datetime NOT NULL COMMENT '예약 만료 일시',
+  `CREATED_DATE` datetime DEFAULT current_timestamp() COMMENT '생성일',
+  `UPDATED_DATE` datetime DEFAULT current_timestamp() ON UPDATE current_timestamp() COMMENT '수정일',
+  PRIMARY KEY (`RESERVATION_ID`),
+  KEY `IDX_STOCK_RESERVATION_ORDER_ID` (`ORDER_ID`) USING BTREE,
+  KEY `IDX_STOCK_RESERVATION_STATUS_EXPIRES` (`STATUS`,`EXPIRES_AT`) USING BTREE
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb3 COLLATE=utf8mb3_general_ci COMMENT='주문 재고 예약 테이블';
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `tb_stock_reservation`
+--
+
+LOCK TABLES `tb_stock_reservation` WRITE;
+/*!40000 ALTER TABLE `tb_stock_reservation` DISABLE KEYS */;
+/*!40000 ALTER TABLE `tb_stock_reservation` ENABLE KEYS */;
+UNLOCK TABLES;
+
+--
+-- Table structure for table `tb_user_order_summary`
+--
+
+DROP TABLE IF EXISTS `tb_user_order_summary`;
+/*!40101 SET @saved_cs_client     = @@character_set_client */;
+/*!40101 SET character_set_client = utf8mb4 */;
+CREATE TABLE `tb_user_order_summary` (
+  `SUMMARY_ID` bigint(20) NOT NULL AUTO_INCREMENT COMMENT '주문 집계 ID',
+  `USER_ID` varchar(50) NOT NULL COMMENT '사용자 ID',
+  `ORDER_STATUS` varchar(30) NOT NULL COMMENT '주문 상태',
+  `ORDER_COUNT` bigint(20) NOT NULL DEFAULT 0 COMMENT '주문 수',
+  `PURCHASE_AMOUNT` bigint(20) NOT NULL DEFAULT 0 COMMENT '주문 금액 합계',
+  `UPDATED_DATE` datetime DEFAULT current_timestamp() ON UPDATE current_timestamp() COMMENT '수정일',
+  PRIMARY KEY (`SUMMARY_ID`),
+  UNIQUE KEY `UK_USER_ORDER_SUMMARY_USER_STATUS` (`USER_ID`,`ORDER_STATUS`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb3 COLLATE=utf8mb3_general_ci COMMENT='사용자별 주문 상태 집계 테이블';
+/*!40101 SET character_set_client = @saved_cs_client */;
+
+--
+-- Dumping data for table `tb_user_order_summary`
+--
+
+LOCK TABLES `tb_user_order_summary` WRITE, `tb_order` READ;
+/*!40000 ALTER TABLE `tb_user_order_summary` DISABLE KEYS */;
+INSERT INTO `tb_user_order_summary` (`USER_ID`, `ORDER_STATUS`, `ORDER_COUNT`, `PURCHASE_AMOUNT`)
+SELECT `USER_ID`, `ORDER_STATUS`, COUNT(*), COALESCE(SUM(`TOTAL_PRICE`), 0) FROM `tb_order` GROUP BY `USER_ID`, `ORDER_STATUS`;
+/*!40000 ALTER TABLE `tb_user_order_summary` ENABLE KEYS */;
+UNLOCK TABLES;
+
 --
 -- Table structure for table `tb_wish`
 --
@@ -1234,7 +1297,7 @@ CREATE TABLE `tb_wish` (
   `PRODUCT_ID` int(11) NOT NULL COMMENT '상품 ID',
   `CREATED_DATE` datetime DEFAULT current_timestamp() COMMENT '생성일',
   PRIMARY KEY (`WISH_ID`),
-  KEY `FK_WISH_MEMBER` (`USER_ID`) USING BTREE,
+  UNIQUE KEY `UK_WISH_USER_PRODUCT` (`USER_ID`,`PRODUCT_ID`),
   KEY `FK_WISH_PRODUCT` (`PRODUCT_ID`) USING BTREE,
   CONSTRAINT `FK_WISH_MEMBER` FOREIGN KEY (`USER_ID`) REFERENCES `tb_member` (`USER_ID`),
   CONSTRAINT `FK_WISH_PRODUCT` FOREIGN KEY (`PRODUCT_ID`) REFERENCES `tb_product` (`PRODUCT_ID`)
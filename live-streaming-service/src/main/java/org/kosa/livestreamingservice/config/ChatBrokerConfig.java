@@ -0,0 +1,40 @@
+package org.kosa.livestreamingservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.kosa.livestreamingservice.service.chat.ChatHistoryBuffer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+/**
+ * 다중 인스턴스 채팅 전달 (chat.broker.mode=redis)
+ * - 각 인스턴스는 인메모리 브로커를 유지하고 토픽 메시지를 Redis pub/sub으로 서로 중계
+ * - relay 모드(외부 STOMP 브로커)는 WebSocketConfig에서 설정
+ */
+@Configuration
+@ConditionalOnProperty(name = "chat.broker.mode", havingValue = "redis")
+public class ChatBrokerConfig {
+
+    @Bean
+    public RedisChatBridge redisChatBridge(StringRedisTemplate stringRedisTemplate,
+                                           ObjectMapper objectMapper,
+                                           ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider,
+                                           ChatHistoryBuffer chatHistoryBuffer) {
+        return new RedisChatBridge(stringRedisTemplate, objectMapper, messagingTemplateProvider, chatHistoryBuffer);
+    }
+
+    @Bean
+    public RedisMessageListenerContainer chatRelayListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                    RedisChatBridge redisChatBridge) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(redisChatBridge, new ChannelTopic(RedisChatBridge.RELAY_CHANNEL));
+        return container;
+    }
+}
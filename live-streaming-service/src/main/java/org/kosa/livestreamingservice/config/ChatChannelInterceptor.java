@@ -0,0 +1,171 @@
+package org.kosa.livestreamingservice.config;
+
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.livestreamingservice.JwtUtil;
+import org.kosa.livestreamingservice.service.chat.ChatRateLimiter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 방송별 채팅 구독·전송 검증
+ * - CONNECT 시 broadcastId 헤더와 JWT의 사용자 ID를 세션 속성에 고정 (토큰이 없거나 유효하지 않으면 비회원)
+ * - 방송별 토픽(채팅/참여자 수/방송 상태)은 연결한 방송의 토픽만 구독 허용
+ * - 클라이언트의 /topic 직접 발행 거부 (필터·금지 확인 우회 방지)
+ * - 채팅 전송은 세션별·방송별 속도 제한을 넘으면 컨트롤러 전에 폐기
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatChannelInterceptor implements ChannelInterceptor {
+
+    public static final String BROADCAST_ID_ATTRIBUTE = "broadcastId";
+    public static final String USER_ID_ATTRIBUTE = "userId";
+    public static final String CHAT_TOPIC_PREFIX = "/topic/chat/";
+
+    private static final String PARTICIPANTS_TOPIC_PREFIX = "/topic/participants/";
+    private static final String BROADCAST_TOPIC_PREFIX = "/topic/broadcast/";
+    private static final String TOPIC_PREFIX = "/topic/";
+    private static final String SEND_MESSAGE_DESTINATION = "/app/sendMessage";
+    private static final String AUTHORIZATION_HEADER = "Authorization";
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final ChatRateLimiter chatRateLimiter;
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null || accessor.getCommand() == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            bindBroadcast(accessor);
+            bindUser(accessor);
+        } else if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
+            checkSubscription(accessor);
+        } else if (StompCommand.SEND.equals(accessor.getCommand())) {
+            return checkSend(accessor) ? message : null;
+        } else if (StompCommand.DISCONNECT.equals(accessor.getCommand())) {
+            chatRateLimiter.release(accessor.getSessionId());
+        }
+        return message;
+    }
+
+    /**
+     * 세션이 연결한 방송 ID (연결 시 broadcastId 헤더가 없었으면 null)
+     */
+    public static Long getBroadcastId(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return null;
+        }
+        Object broadcastId = sessionAttributes.get(BROADCAST_ID_ATTRIBUTE);
+        return broadcastId instanceof Long ? (Long) broadcastId : null;
+    }
+
+    /**
+     * 세션의 로그인 사용자 ID (연결 시 유효한 JWT가 없었으면 null)
+     */
+    public static String getUserId(Map<String, Object> sessionAttributes) {
+        if (sessionAttributes == null) {
+            return null;
+        }
+        Object userId = sessionAttributes.get(USER_ID_ATTRIBUTE);
+        return userId instanceof String ? (String) userId : null;
+    }
+
+    private void bindBroadcast(StompHeaderAccessor accessor) {
+        String broadcastId = accessor.getFirstNativeHeader(BROADCAST_ID_ATTRIBUTE);
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (broadcastId == null || sessionAttributes == null) {
+            return;
+        }
+
+        try {
+            sessionAttributes.put(BROADCAST_ID_ATTRIBUTE, Long.parseLong(broadcastId.trim()));
+        } catch (NumberFormatException e) {
+            throw new MessagingException("잘못된 방송 ID입니다: " + broadcastId);
+        }
+    }
+
+    private void bindUser(StompHeaderAccessor accessor) {
+        String authorization = accessor.getFirstNativeHeader(AUTHORIZATION_HEADER);
+        Map<String, Object> sessionAttributes = accessor.getSessionAttributes();
+        if (sessionAttributes == null) {
+            return;
+        }
+        // 같은 세션의 CONNECT 재전송으로 이전 사용자 ID가 남지 않도록 먼저 제거
+        sessionAttributes.remove(USER_ID_ATTRIBUTE);
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return;
+        }
+
+        try {
+            String userId = jwtUtil.validateTokenAndGetUserId(authorization.substring(BEARER_PREFIX.length()));
+            if (userId != null) {
+                sessionAttributes.put(USER_ID_ATTRIBUTE, userId);
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            log.warn("채팅 연결 토큰 오류, 비회원으로 연결: 세션ID={}, error={}", accessor.getSessionId(), e.getMessage());
+        }
+    }
+
+    private void checkSubscription(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        String topicBroadcastId = extractBroadcastId(destination);
+        if (topicBroadcastId == null) {
+            return;
+        }
+
+        Long sessionBroadcastId = getBroadcastId(accessor.getSessionAttributes());
+        if (sessionBroadcastId == null || !String.valueOf(sessionBroadcastId).equals(topicBroadcastId)) {
+            log.warn("다른 방송 토픽 구독 거부: 세션ID={}, 연결 방송={}, 구독={}",
+                    accessor.getSessionId(), sessionBroadcastId, destination);
+            throw new MessagingException("연결한 방송의 채팅만 구독할 수 있습니다.");
+        }
+    }
+
+    // false면 메시지 폐기 (null 반환 시 이후 처리 없음)
+    private boolean checkSend(StompHeaderAccessor accessor) {
+        String destination = accessor.getDestination();
+        if (destination != null && destination.startsWith(TOPIC_PREFIX)) {
+            log.warn("클라이언트 토픽 직접 발행 거부: 세션ID={}, destination={}", accessor.getSessionId(), destination);
+            throw new MessagingException("토픽에 직접 메시지를 보낼 수 없습니다.");
+        }
+        if (!SEND_MESSAGE_DESTINATION.equals(destination)) {
+            return true;
+        }
+        return chatRateLimiter.tryAcquire(accessor.getSessionId(), getBroadcastId(accessor.getSessionAttributes()));
+    }
+
+    // 방송별 토픽이면 경로의 방송 ID, 아니면 null
+    private String extractBroadcastId(String destination) {
+        if (destination == null) {
+            return null;
+        }
+
+        String rest;
+        if (destination.startsWith(CHAT_TOPIC_PREFIX)) {
+            rest = destination.substring(CHAT_TOPIC_PREFIX.length());
+        } else if (destination.startsWith(PARTICIPANTS_TOPIC_PREFIX)) {
+            rest = destination.substring(PARTICIPANTS_TOPIC_PREFIX.length());
+        } else if (destination.startsWith(BROADCAST_TOPIC_PREFIX)) {
+            rest = destination.substring(BROADCAST_TOPIC_PREFIX.length());
+        } else {
+            return null;
+        }
+
+        int slash = rest.indexOf('/');
+        return slash >= 0 ? rest.substring(0, slash) : rest;
+    }
+}
@@ -0,0 +1,59 @@
+package org.kosa.livestreamingservice.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.livestreamingservice.service.chat.ChatBanCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.util.Properties;
+
+/**
+ * 채팅 금지 캐시 무효화용 Redis keyspace 알림 구독
+ * - Redis 서버에 notify-keyspace-events K$gx 설정 필요 (redis.conf 또는 관리형 Redis 파라미터 그룹)
+ *   미설정 시 금지 해제·만료는 캐시 TTL로만 반영
+ * - chat.ban-cache.configure-keyspace-events=true면 값이 비어 있을 때 CONFIG SET으로 직접 설정
+ *   (서버 전역 설정이므로 다른 서비스와 공유하는 Redis에서는 켜지 않음, 기본 false)
+ */
+@Slf4j
+@Configuration
+public class ChatModerationConfig {
+
+    private static final String KEYSPACE_EVENTS = "notify-keyspace-events";
+
+    @Value("${chat.ban-cache.configure-keyspace-events:false}")
+    private boolean configureKeyspaceEvents;
+
+    @Bean
+    public RedisMessageListenerContainer chatBanListenerContainer(RedisConnectionFactory redisConnectionFactory,
+                                                                  ChatBanCache chatBanCache) {
+        if (configureKeyspaceEvents) {
+            enableKeyspaceEvents(redisConnectionFactory);
+        }
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory);
+        container.addMessageListener(chatBanCache,
+                new PatternTopic("__keyspace@*__:" + ChatBanCache.BAN_KEY_PREFIX + "*"));
+        return container;
+    }
+
+    private void enableKeyspaceEvents(RedisConnectionFactory redisConnectionFactory) {
+        try (RedisConnection connection = redisConnectionFactory.getConnection()) {
+            Properties config = connection.serverCommands().getConfig(KEYSPACE_EVENTS);
+            String current = config != null ? config.getProperty(KEYSPACE_EVENTS, "") : "";
+            if (current.isEmpty()) {
+                connection.serverCommands().setConfig(KEYSPACE_EVENTS, "K$gx");
+                log.info("Redis keyspace 알림 활성화: {}=K$gx", KEYSPACE_EVENTS);
+            } else {
+                log.info("Redis keyspace 알림 기존 설정 유지: {}={}", KEYSPACE_EVENTS, current);
+            }
+        } catch (Exception e) {
+            log.warn("Redis keyspace 알림 설정 실패 (금지 캐시는 TTL로만 갱신): {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package org.kosa.livestreamingservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.livestreamingservice.dto.chat.ChatMessageDTO;
+import org.kosa.livestreamingservice.dto.chat.ChatRelayMessage;
+import org.kosa.livestreamingservice.service.chat.ChatHistoryBuffer;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * 인메모리 브로커 간 토픽 메시지 중계 (chat.broker.mode=redis)
+ * - 브로커 채널로 나가는 /topic 메시지를 Redis 채널로 발행
+ * - 다른 인스턴스가 발행한 메시지는 로컬 브로커로 다시 전달 (중계 표시 헤더로 재발행 방지)
+ * - 채팅 토픽 메시지는 이 인스턴스의 최근 채팅 버퍼에도 추가 (입장 시 다른 인스턴스 채팅도 보이도록)
+ */
+@Slf4j
+public class RedisChatBridge implements ChannelInterceptor, MessageListener {
+
+    public static final String RELAY_CHANNEL = "chat:relay";
+
+    private static final String TOPIC_PREFIX = "/topic/";
+    private static final String RELAYED_HEADER = "chatRelayed";
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ObjectMapper objectMapper;
+    // 브로커 설정 이후 생성되는 빈이라 지연 조회
+    private final ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider;
+    private final ChatHistoryBuffer chatHistoryBuffer;
+
+    public RedisChatBridge(StringRedisTemplate stringRedisTemplate, ObjectMapper objectMapper,
+                           ObjectProvider<SimpMessagingTemplate> messagingTemplateProvider,
+                           ChatHistoryBuffer chatHistoryBuffer) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.objectMapper = objectMapper;
+        this.messagingTemplateProvider = messagingTemplateProvider;
+        this.chatHistoryBuffer = chatHistoryBuffer;
+    }
+
+    @Override
+    public Message<?> preSend(Message<?> message, MessageChannel channel) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(message);
+        String destination = accessor.getDestination();
+
+        if (accessor.getMessageType() != SimpMessageType.MESSAGE
+                || destination == null || !destination.startsWith(TOPIC_PREFIX)
+                || message.getHeaders().containsKey(RELAYED_HEADER)
+                || !(message.getPayload() instanceof byte[] payload)) {
+            return message;
+        }
+
+        try {
+            Object contentType = message.getHeaders().get(MessageHeaders.CONTENT_TYPE);
+            ChatRelayMessage relay = new ChatRelayMessage(nodeId, destination,
+                    contentType != null ? contentType.toString() : null,
+                    new String(payload, StandardCharsets.UTF_8));
+            stringRedisTemplate.convertAndSend(RELAY_CHANNEL, objectMapper.writeValueAsString(relay));
+        } catch (Exception e) {
+            // 중계 실패 시에도 같은 인스턴스 구독자에게는 전달
+            log.warn("채팅 메시지 중계 발행 실패: destination={}, error={}", destination, e.getMessage());
+        }
+        return message;
+    }
+
+    @Override
+    public void onMessage(org.springframework.data.redis.connection.Message message, byte[] pattern) {
+        try {
+            ChatRelayMessage relay = objectMapper.readValue(message.getBody(), ChatRelayMessage.class);
+            if (nodeId.equals(relay.getNodeId())) {
+                return;
+            }
+
+            MessageBuilder<byte[]> builder = MessageBuilder
+                    .withPayload(relay.getPayload().getBytes(StandardCharsets.UTF_8))
+                    .setHeader(RELAYED_HEADER, true);
+            if (relay.getContentType() != null) {
+                builder.setHeader(MessageHeaders.CONTENT_TYPE, relay.getContentType());
+            }
+            messagingTemplateProvider.getObject().send(relay.getDestination(), builder.build());
+
+            if (relay.getDestination().startsWith(ChatChannelInterceptor.CHAT_TOPIC_PREFIX)) {
+                appendHistory(relay);
+            }
+        } catch (Exception e) {
+            log.warn("채팅 중계 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void appendHistory(ChatRelayMessage relay) {
+        try {
+            ChatMessageDTO message = objectMapper.readValue(relay.getPayload(), ChatMessageDTO.class);
+            if (message.getBroadcastId() == null) {
+                message.setBroadcastId(relay.getDestination().substring(ChatChannelInterceptor.CHAT_TOPIC_PREFIX.length()));
+            }
+            chatHistoryBuffer.appendRelayed(message);
+        } catch (Exception e) {
+            // 버퍼 반영 실패는 다음 DB 갱신 때 맞춰지므로 전달에는 영향 없음
+            log.warn("중계 채팅 버퍼 반영 실패: destination={}, error={}", relay.getDestination(), e.getMessage());
+        }
+    }
+}
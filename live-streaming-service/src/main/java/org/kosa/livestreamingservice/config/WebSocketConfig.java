@@ -1,7 +1,11 @@
 package org.kosa.livestreamingservice.config;
 
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
 import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
@@ -11,11 +15,42 @@ import org.springframework.web.socket.messaging.SessionConnectEvent;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@RequiredArgsConstructor
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final ChatChannelInterceptor chatChannelInterceptor;
+    private final ObjectProvider<RedisChatBridge> redisChatBridgeProvider;
+
+    // 채팅 전달 방식: simple(단일 인스턴스) / redis(인메모리 브로커 + Redis 중계) / relay(외부 STOMP 브로커)
+    @Value("${chat.broker.mode:simple}")
+    private String brokerMode;
+
+    @Value("${chat.broker.relay.host:${spring.rabbitmq.host:localhost}}")
+    private String relayHost;
+
+    @Value("${chat.broker.relay.port:61613}")
+    private int relayPort;
+
+    @Value("${chat.broker.relay.login:${spring.rabbitmq.username:guest}}")
+    private String relayLogin;
+
+    @Value("${chat.broker.relay.passcode:${spring.rabbitmq.password:guest}}")
+    private String relayPasscode;
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry config) {
-        config.enableSimpleBroker("/topic"); //구독할 prefix
+        if ("relay".equalsIgnoreCase(brokerMode)) {
+            // RabbitMQ 등 외부 STOMP 브로커로 구독/발행 중계 (인스턴스 수와 무관하게 같은 토픽 공유)
+            config.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relayHost)
+                    .setRelayPort(relayPort)
+                    .setClientLogin(relayLogin)
+                    .setClientPasscode(relayPasscode)
+                    .setSystemLogin(relayLogin)
+                    .setSystemPasscode(relayPasscode);
+        } else {
+            config.enableSimpleBroker("/topic"); //구독할 prefix
+        }
         config.setApplicationDestinationPrefixes("/app"); //발행할 prefix
     }
 
@@ -26,6 +61,20 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
                 .withSockJS(); // SockJS fallback 지원
     }
 
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        registration.interceptors(chatChannelInterceptor); // 방송별 토픽 구독 검증
+    }
+
+    @Override
+    public void configureBrokerChannel(ChannelRegistration registration) {
+        // redis 모드: 로컬 브로커로 나가는 토픽 메시지를 다른 인스턴스에 중계
+        RedisChatBridge redisChatBridge = redisChatBridgeProvider.getIfAvailable();
+        if (redisChatBridge != null) {
+            registration.interceptors(redisChatBridge);
+        }
+    }
+
     @EventListener
     public void handleConnect(SessionConnectEvent event) {
         StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
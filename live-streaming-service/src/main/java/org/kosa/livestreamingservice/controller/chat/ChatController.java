@@ -1,5 +1,6 @@
 package org.kosa.livestreamingservice.controller.chat;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Map;
 
@@ -10,14 +11,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.kosa.livestreamingservice.ChatSessionManager;
+import org.kosa.livestreamingservice.config.ChatChannelInterceptor;
 import org.kosa.livestreamingservice.dto.chat.BroadcastStatusDTO;
 import org.kosa.livestreamingservice.dto.chat.ChatMessageDTO;
 import org.kosa.livestreamingservice.service.chat.ChatService;
 
 import org.kosa.livestreamingservice.util.ChatFilterUtil;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.handler.annotation.SendTo;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
@@ -35,8 +39,28 @@ public class ChatController {
     private final ChatService chatService;
     private final ChatSessionManager chatSessionManager;
 
+    private static final int MAX_HISTORY_PAGE_SIZE = 100;
+
     @MessageMapping("/sendMessage")
-    public void sendMessage(ChatMessageDTO message) {
+    public void sendMessage(ChatMessageDTO message, SimpMessageHeaderAccessor headerAccessor) {
+
+        // 방송 ID는 연결 시 고정된 세션 값 사용 (메시지 본문 값은 신뢰하지 않음)
+        Long broadcastId = ChatChannelInterceptor.getBroadcastId(headerAccessor.getSessionAttributes());
+        if (broadcastId == null) {
+            log.warn("방송 ID 없이 연결된 세션의 메시지 무시: 세션ID={}", headerAccessor.getSessionId());
+            return;
+        }
+        message.setBroadcastId(String.valueOf(broadcastId));
+
+        // 사용자 ID도 연결 시 JWT로 확인한 값으로 덮어씀 (비회원은 null)
+        String userId = ChatChannelInterceptor.getUserId(headerAccessor.getSessionAttributes());
+        message.setUserId(userId);
+
+        // 채팅 금지 사용자 메시지는 저장·전달하지 않음
+        if (userId != null && chatService.isUserBanned(broadcastId, userId)) {
+            log.debug("채팅 금지 사용자 메시지 무시: 방송ID={}, 사용자ID={}", broadcastId, userId);
+            return;
+        }
 
         if (message.getType() == null || message.getType().isBlank()) {
             message.setType("text");
@@ -47,11 +71,11 @@ public class ChatController {
 
         chatService.saveChatMessage(message);
 
-        //전체 채팅방에 뿌림
-        messagingTemplate.convertAndSend("/topic/public", message);
+        //해당 방송 채팅방에만 뿌림
+        messagingTemplate.convertAndSend(ChatChannelInterceptor.CHAT_TOPIC_PREFIX + broadcastId, message);
     }
 
-    @Operation(summary = "채팅 히스토리 조회", description = "특정 방송의 채팅 히스토리를 조회합니다.")
+    @Operation(summary = "채팅 히스토리 조회", description = "특정 방송의 최근 채팅(최대 chat.history.tail-size개)을 오래된 순으로 조회합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = ChatMessageDTO.class)))
@@ -63,6 +87,28 @@ public class ChatController {
         return ResponseEntity.ok(chatService.getHistoryByBroadcastId(broadcastId));
     }
 
+    @Operation(summary = "이전 채팅 히스토리 조회", description = "커서(가장 오래된 메시지의 생성 시각, 채팅 ID) 이전 채팅을 오래된 순으로 조회합니다.")
+    @ApiResponses(value = {
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = ChatMessageDTO.class))),
+            @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "잘못된 페이지 크기")
+    })
+    @GetMapping("/api/chat/history/{broadcastId}/older")
+    public ResponseEntity<List<ChatMessageDTO>> getOlderChatHistory(
+            @Parameter(description = "방송 ID", required = true, example = "1")
+            @PathVariable Long broadcastId,
+            @Parameter(description = "커서 메시지 생성 시각 (ISO-8601)", required = true, example = "2025-07-01T12:00:00.000")
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdAt,
+            @Parameter(description = "커서 메시지 채팅 ID (저장 전 메시지면 생략)", example = "428")
+            @RequestParam(required = false) Long chatId,
+            @Parameter(description = "페이지 크기 (최대 100)", example = "50")
+            @RequestParam(defaultValue = "50") int size) {
+        if (size < 1 || size > MAX_HISTORY_PAGE_SIZE) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(chatService.getOlderHistory(broadcastId, createdAt, chatId, size));
+    }
+
     @Operation(summary = "방송 상태 조회", description = "특정 방송의 상태 정보를 조회합니다.")
     @ApiResponses(value = {
             @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "조회 성공",
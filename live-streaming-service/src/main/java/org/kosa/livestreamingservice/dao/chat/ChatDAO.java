@@ -1,6 +1,8 @@
 package org.kosa.livestreamingservice.dao.chat;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
@@ -13,7 +15,13 @@ import org.kosa.livestreamingservice.entity.BroadcastEntity;
 public interface ChatDAO {
 
     void insertChatMessage(ChatMessageDTO message);
-    List<ChatMessageDTO> getChatMessagesByBroadcastId(Long broadcastId);
+    void insertChatMessages(@Param("messages") List<ChatMessageDTO> messages);
+    List<ChatMessageDTO> getRecentChatMessages(@Param("broadcastId") Long broadcastId, @Param("limit") int limit);
+    List<ChatMessageDTO> getChatMessagesBefore(@Param("broadcastId") Long broadcastId,
+                                               @Param("createdAt") LocalDateTime createdAt,
+                                               @Param("chatId") Long chatId,
+                                               @Param("limit") int limit);
+    List<Map<String, Object>> getNicknamesByUserIds(@Param("userIds") List<String> userIds);
     String getBroadcasterIdByBroadcastId(Long broadcastId);
     BroadcastStatusDTO getBroadcastStatusById(@Param("broadcastId") Long broadcastId);
     public void updateStatus(BroadcastEntity broadCast);
@@ -3,9 +3,12 @@ package org.kosa.livestreamingservice.dto.chat;
 
 import lombok.Data;
 
+import java.time.LocalDateTime;
+
 @Data
 public class ChatMessageDTO {
 
+    private Long chatId;           // 채팅 PK (저장 전 메시지는 null, 이전 페이지 조회 커서)
     private String from;           // 보낸 사람 닉네임 (닉네임)
     private String text;           // 메시지 내용 or 스티커 키워드
     private String type;           // 메시지 타입 (text, sticker 등)
@@ -17,4 +20,5 @@ public class ChatMessageDTO {
     private Boolean isBlurred = false;   // 블러 처리 여부
     private Boolean isPinned = false;    // 고정 여부
     private Long productId;        // 상품 링크일 경우 상품 ID
+    private LocalDateTime createdAt; // 수신 시각 (배치 저장 시에도 실제 전송 시각으로 기록)
 }
\ No newline at end of file
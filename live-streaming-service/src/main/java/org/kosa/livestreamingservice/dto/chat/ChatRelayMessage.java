@@ -0,0 +1,19 @@
+package org.kosa.livestreamingservice.dto.chat;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 인스턴스 간 STOMP 토픽 메시지 중계 (Redis pub/sub)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRelayMessage {
+
+    private String nodeId;         // 발행 인스턴스 (자기 메시지 재수신 방지)
+    private String destination;    // STOMP 목적지 (/topic/chat/{broadcastId} 등)
+    private String contentType;    // 원본 content-type 헤더
+    private String payload;        // 변환된 메시지 본문 (UTF-8)
+}
@@ -0,0 +1,65 @@
+package org.kosa.livestreamingservice.service.chat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+
+/**
+ * 채팅 금지 상태 로컬 캐시 (메시지마다 Redis hasKey 조회 대체)
+ * - 금지 키(chat:ban:{방송ID}:{사용자ID})의 keyspace 알림(set/del/expired)을 받으면 해당 항목 무효화
+ * - 알림이 유실되거나 꺼져 있어도 ttl-seconds 후에는 Redis에서 다시 조회
+ */
+@Component
+@Slf4j
+public class ChatBanCache implements MessageListener {
+
+    public static final String BAN_KEY_PREFIX = "chat:ban:";
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Cache<String, Boolean> banned;
+
+    public ChatBanCache(StringRedisTemplate stringRedisTemplate,
+                        @Value("${chat.ban-cache.max-size:100000}") long maxSize,
+                        @Value("${chat.ban-cache.ttl-seconds:30}") long ttlSeconds) {
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.banned = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .build();
+    }
+
+    public static String banKey(Long broadcastId, String userId) {
+        return BAN_KEY_PREFIX + broadcastId + ":" + userId;
+    }
+
+    public boolean isBanned(Long broadcastId, String userId) {
+        return banned.get(banKey(broadcastId, userId),
+                key -> Boolean.TRUE.equals(stringRedisTemplate.hasKey(key)));
+    }
+
+    public void invalidate(Long broadcastId, String userId) {
+        banned.invalidate(banKey(broadcastId, userId));
+    }
+
+    // 채널: __keyspace@{db}__:chat:ban:{방송ID}:{사용자ID}, 본문: 이벤트명
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = new String(message.getChannel(), StandardCharsets.UTF_8);
+        int keyStart = channel.indexOf(BAN_KEY_PREFIX);
+        if (keyStart < 0) {
+            return;
+        }
+        String key = channel.substring(keyStart);
+        banned.invalidate(key);
+        log.debug("채팅 금지 캐시 무효화: key={}, event={}", key,
+                new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,79 @@
+package org.kosa.livestreamingservice.service.chat;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.livestreamingservice.util.ChatFilterUtil;
+import org.springframework.cloud.context.environment.EnvironmentChangeEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 채팅 금칙어 사전 적재
+ * - chat.filter.bad-words(쉼표 구분) + chat.filter.dictionary-path(한 줄에 한 단어, #은 주석)
+ * - 둘 다 비어 있으면 기본 목록 사용
+ * - 설정 서버 갱신(EnvironmentChangeEvent) 시 다시 읽어 매처를 교체
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ChatFilterDictionaryService {
+
+    private static final String PROPERTY_PREFIX = "chat.filter.";
+    private static final String BAD_WORDS_PROPERTY = "chat.filter.bad-words";
+    private static final String DICTIONARY_PATH_PROPERTY = "chat.filter.dictionary-path";
+
+    private final Environment environment;
+
+    @PostConstruct
+    public void init() {
+        reload();
+    }
+
+    @EventListener
+    public void onEnvironmentChange(EnvironmentChangeEvent event) {
+        if (event.getKeys().stream().anyMatch(key -> key.startsWith(PROPERTY_PREFIX))) {
+            reload();
+        }
+    }
+
+    public synchronized void reload() {
+        Set<String> words = new LinkedHashSet<>();
+
+        String configured = environment.getProperty(BAD_WORDS_PROPERTY, "");
+        Arrays.stream(configured.split(","))
+                .map(String::trim)
+                .filter(word -> !word.isEmpty())
+                .forEach(words::add);
+
+        String dictionaryPath = environment.getProperty(DICTIONARY_PATH_PROPERTY);
+        if (dictionaryPath != null && !dictionaryPath.isBlank()) {
+            try {
+                Files.readAllLines(Path.of(dictionaryPath), StandardCharsets.UTF_8).stream()
+                        .map(String::trim)
+                        .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                        .forEach(words::add);
+            } catch (IOException e) {
+                // 사전 파일을 읽지 못하면 기존 매처 유지
+                log.error("금칙어 사전 파일 읽기 실패, 기존 목록 유지: path={}, error={}", dictionaryPath, e.getMessage());
+                return;
+            }
+        }
+
+        if (words.isEmpty()) {
+            words.addAll(ChatFilterUtil.DEFAULT_BAD_WORDS);
+        }
+
+        ChatFilterUtil.replaceBadWords(words);
+        log.info("채팅 금칙어 사전 적재 완료: {}개", ChatFilterUtil.getBadWordCount());
+    }
+}
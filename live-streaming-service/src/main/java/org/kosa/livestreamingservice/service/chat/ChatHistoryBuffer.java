@@ -0,0 +1,248 @@
+package org.kosa.livestreamingservice.service.chat;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.livestreamingservice.dao.chat.ChatDAO;
+import org.kosa.livestreamingservice.dto.chat.ChatMessageDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 방송별 최근 채팅 링 버퍼 (입장 시 최근 N개를 DB 조회 없이 제공)
+ * - 방송별 첫 접근 시 DB에서 최근 N개를 적재하고 이후 새 메시지를 덧붙임
+ * - 버퍼는 인스턴스별이라 다른 인스턴스에서 보낸 메시지는 Redis 중계(RedisChatBridge)로 받아 덧붙이고,
+ *   중계 누락·외부 브로커 모드에 대비해 refresh-seconds마다 DB 기준으로 다시 맞춤 (저장 대기 중인 메시지는 유지)
+ * - 닉네임·호스트("관리자") 표시는 버퍼에 넣을 때 미리 처리
+ * - 일정 시간 조회/추가가 없는 방송 버퍼는 메모리에서 제거
+ */
+@Component
+@Slf4j
+public class ChatHistoryBuffer {
+
+    public static final String HOST_LABEL = "관리자";
+
+    private final ChatDAO chatDAO;
+    private final ChatNicknameCache chatNicknameCache;
+    private final int capacity;
+    private final LoadingCache<Long, Tail> tails;
+
+    public ChatHistoryBuffer(ChatDAO chatDAO,
+                             ChatNicknameCache chatNicknameCache,
+                             @Value("${chat.history.tail-size:100}") int capacity,
+                             @Value("${chat.history.idle-minutes:30}") long idleMinutes,
+                             @Value("${chat.history.refresh-seconds:60}") long refreshSeconds) {
+        this.chatDAO = chatDAO;
+        this.chatNicknameCache = chatNicknameCache;
+        this.capacity = Math.max(1, capacity);
+        this.tails = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(idleMinutes))
+                // 만료 대신 갱신: 갱신 중에도 기존 버퍼로 응답하고, 같은 Tail에 병합해 그 사이 추가된 메시지를 잃지 않음
+                .refreshAfterWrite(Duration.ofSeconds(refreshSeconds))
+                .build(new CacheLoader<Long, Tail>() {
+                    @Override
+                    public Tail load(Long broadcastId) {
+                        return ChatHistoryBuffer.this.load(broadcastId);
+                    }
+
+                    @Override
+                    public Tail reload(Long broadcastId, Tail tail) {
+                        return refresh(broadcastId, tail);
+                    }
+                });
+    }
+
+    /**
+     * 최근 메시지 (오래된 순)
+     */
+    public List<ChatMessageDTO> getRecent(Long broadcastId) {
+        return getTail(broadcastId).snapshot();
+    }
+
+    /**
+     * 새 메시지 추가 (DB 저장 큐에 넣기 전에 호출해야 적재 시 중복이 생기지 않음)
+     */
+    public void append(ChatMessageDTO message) {
+        Long broadcastId = parseBroadcastId(message.getBroadcastId());
+        if (broadcastId == null) {
+            return;
+        }
+        Tail tail = getTail(broadcastId);
+        tail.add(label(copyOf(message), tail.broadcasterId));
+    }
+
+    /**
+     * 다른 인스턴스에서 중계된 메시지 추가 (이 인스턴스에 버퍼가 있는 방송만, 없으면 첫 조회 때 DB에서 적재)
+     */
+    public void appendRelayed(ChatMessageDTO message) {
+        Long broadcastId = parseBroadcastId(message.getBroadcastId());
+        if (broadcastId == null) {
+            return;
+        }
+        Tail tail = tails.getIfPresent(broadcastId);
+        if (tail != null) {
+            tail.add(label(copyOf(message), tail.broadcasterId));
+        }
+    }
+
+    /**
+     * 호스트 메시지는 "관리자", 그 외는 캐시된 닉네임으로 표시 (목록 전체 일괄 조회)
+     */
+    public List<ChatMessageDTO> labelAll(List<ChatMessageDTO> messages, String broadcasterId) {
+        Map<String, String> nicknames = chatNicknameCache.getNicknames(
+                messages.stream().map(ChatMessageDTO::getUserId).toList());
+        for (ChatMessageDTO message : messages) {
+            if (broadcasterId != null && broadcasterId.equals(message.getUserId())) {
+                message.setFrom(HOST_LABEL);
+            } else if (nicknames.containsKey(message.getUserId())) {
+                message.setFrom(nicknames.get(message.getUserId()));
+            }
+        }
+        return messages;
+    }
+
+    public void evict(Long broadcastId) {
+        tails.invalidate(broadcastId);
+    }
+
+    // 갱신 주기를 기다리지 않고 DB 기준으로 다시 맞춤 (적재된 버퍼만)
+    void refreshNow(Long broadcastId) {
+        if (tails.getIfPresent(broadcastId) != null) {
+            tails.refresh(broadcastId).join();
+        }
+    }
+
+    private Tail getTail(Long broadcastId) {
+        return tails.get(broadcastId, this::load);
+    }
+
+    // 최근 N개를 DB에서 적재 (조회는 최신순, 버퍼는 오래된 순)
+    private Tail load(Long broadcastId) {
+        String broadcasterId = chatDAO.getBroadcasterIdByBroadcastId(broadcastId);
+        List<ChatMessageDTO> recent = loadRecent(broadcastId, broadcasterId);
+
+        Tail tail = new Tail(capacity, broadcasterId);
+        recent.forEach(tail::add);
+        log.info("방송 [{}] 최근 채팅 버퍼 적재: {}개", broadcastId, recent.size());
+        return tail;
+    }
+
+    // DB 최근 N개로 다시 맞추고, 아직 저장되지 않은(DB 최신 메시지 이후) 메시지는 뒤에 이어 붙임
+    private Tail refresh(Long broadcastId, Tail tail) {
+        List<ChatMessageDTO> recent = loadRecent(broadcastId, tail.broadcasterId);
+        int pending = tail.replaceWith(recent);
+        log.debug("방송 [{}] 최근 채팅 버퍼 갱신: DB {}개, 저장 대기 {}개", broadcastId, recent.size(), pending);
+        return tail;
+    }
+
+    private List<ChatMessageDTO> loadRecent(Long broadcastId, String broadcasterId) {
+        List<ChatMessageDTO> recent = new ArrayList<>(chatDAO.getRecentChatMessages(broadcastId, capacity));
+        Collections.reverse(recent);
+        return labelAll(recent, broadcasterId);
+    }
+
+    private ChatMessageDTO label(ChatMessageDTO message, String broadcasterId) {
+        if (broadcasterId != null && broadcasterId.equals(message.getUserId())) {
+            message.setFrom(HOST_LABEL);
+        } else if (message.getUserId() != null) {
+            String nickname = chatNicknameCache.getNickname(message.getUserId());
+            if (nickname != null) {
+                message.setFrom(nickname);
+            }
+        }
+        return message;
+    }
+
+    // 브로드캐스트 중인 원본과 분리 (버퍼 안의 값은 변경하지 않음)
+    private ChatMessageDTO copyOf(ChatMessageDTO source) {
+        ChatMessageDTO copy = new ChatMessageDTO();
+        copy.setChatId(source.getChatId());
+        copy.setFrom(source.getFrom());
+        copy.setText(source.getText());
+        copy.setType(source.getType());
+        copy.setBroadcastId(source.getBroadcastId());
+        copy.setUserId(source.getUserId());
+        copy.setIsDeleted(source.getIsDeleted());
+        copy.setIsBlurred(source.getIsBlurred());
+        copy.setIsPinned(source.getIsPinned());
+        copy.setProductId(source.getProductId());
+        copy.setCreatedAt(source.getCreatedAt());
+        return copy;
+    }
+
+    private Long parseBroadcastId(String broadcastId) {
+        try {
+            return broadcastId != null ? Long.parseLong(broadcastId) : null;
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class Tail {
+        private final ChatMessageDTO[] ring;
+        private final String broadcasterId;
+        private int next;
+        private int size;
+
+        private Tail(int capacity, String broadcasterId) {
+            this.ring = new ChatMessageDTO[capacity];
+            this.broadcasterId = broadcasterId;
+        }
+
+        private synchronized void add(ChatMessageDTO message) {
+            ring[next] = message;
+            next = (next + 1) % ring.length;
+            size = Math.min(size + 1, ring.length);
+        }
+
+        // DB 목록으로 교체 후 DB 최신 메시지 이후의 미저장 메시지를 다시 붙이고 그 수를 반환
+        private synchronized int replaceWith(List<ChatMessageDTO> loaded) {
+            LocalDateTime newest = loaded.isEmpty() ? null : loaded.get(loaded.size() - 1).getCreatedAt();
+            Set<List<Object>> saved = new HashSet<>();
+            for (ChatMessageDTO message : loaded) {
+                saved.add(key(message));
+            }
+
+            List<ChatMessageDTO> pending = new ArrayList<>();
+            for (ChatMessageDTO message : snapshot()) {
+                boolean unsaved = newest == null || message.getCreatedAt() == null
+                        || !message.getCreatedAt().isBefore(newest);
+                if (unsaved && !saved.contains(key(message))) {
+                    pending.add(message);
+                }
+            }
+
+            next = 0;
+            size = 0;
+            Arrays.fill(ring, null);
+            loaded.forEach(this::add);
+            pending.forEach(this::add);
+            return pending.size();
+        }
+
+        // 저장 전 메시지는 chatId가 없어 보낸 사람·시각·내용으로 비교 (시각은 DB와 같은 밀리초 단위)
+        private static List<Object> key(ChatMessageDTO message) {
+            return Arrays.asList(message.getUserId(), message.getCreatedAt(), message.getText());
+        }
+
+        private synchronized List<ChatMessageDTO> snapshot() {
+            List<ChatMessageDTO> messages = new ArrayList<>(size);
+            int start = (next - size + ring.length) % ring.length;
+            for (int i = 0; i < size; i++) {
+                messages.add(ring[(start + i) % ring.length]);
+            }
+            return messages;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package org.kosa.livestreamingservice.service.chat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.livestreamingservice.dao.chat.ChatDAO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 채팅 사용자 ID → 닉네임 캐시 (채팅 조회 시 tb_member 조인 대체)
+ * - 캐시에 없는 사용자만 IN 조회 1회로 적재
+ */
+@Component
+@Slf4j
+public class ChatNicknameCache {
+
+    private final ChatDAO chatDAO;
+    private final Cache<String, String> nicknames;
+
+    public ChatNicknameCache(ChatDAO chatDAO,
+                             @Value("${chat.nickname-cache.max-size:100000}") long maxSize,
+                             @Value("${chat.nickname-cache.ttl-minutes:30}") long ttlMinutes) {
+        this.chatDAO = chatDAO;
+        this.nicknames = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMinutes(ttlMinutes))
+                .build();
+    }
+
+    public String getNickname(String userId) {
+        if (userId == null) {
+            return null;
+        }
+        return getNicknames(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 사용자 ID별 닉네임 (회원 정보가 없는 사용자는 결과에서 제외)
+     */
+    public Map<String, String> getNicknames(Collection<String> userIds) {
+        Map<String, String> result = new HashMap<>();
+        Set<String> missing = new LinkedHashSet<>();
+        for (String userId : userIds) {
+            if (userId == null) {
+                continue;
+            }
+            String nickname = nicknames.getIfPresent(userId);
+            if (nickname != null) {
+                result.put(userId, nickname);
+            } else {
+                missing.add(userId);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (Map<String, Object> row : chatDAO.getNicknamesByUserIds(List.copyOf(missing))) {
+                String userId = String.valueOf(row.get("userId"));
+                Object nickname = row.get("nickname");
+                if (nickname != null) {
+                    nicknames.put(userId, nickname.toString());
+                    result.put(userId, nickname.toString());
+                }
+            }
+            log.debug("채팅 닉네임 적재: 요청 {}명, 조회 {}명", missing.size(), result.size());
+        }
+        return result;
+    }
+
+    public void evict(String userId) {
+        nicknames.invalidate(userId);
+    }
+}
@@ -0,0 +1,293 @@
+package org.kosa.livestreamingservice.service.chat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.livestreamingservice.dao.chat.ChatDAO;
+import org.kosa.livestreamingservice.dto.chat.ChatMessageDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.RecoverableDataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientException;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 채팅 메시지 비동기 배치 저장
+ * - STOMP 수신 스레드는 큐에 넣고 바로 반환 → 방송 전달 지연이 DB 지연과 분리됨
+ * - 전용 쓰기 스레드가 batch-size개가 쌓이거나 flush-interval-ms마다 다중 행 INSERT로 저장
+ * - 큐가 가득 차면 overflow-policy에 따라 처리 (DROP_NEWEST / DROP_OLDEST / CALLER_RUNS)
+ * - 연결 장애·일시 오류는 배치를 큐 앞에 되돌리고 지수 백오프 후 재시도, 데이터 오류만 건별 저장으로 격리
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ChatPersistenceQueue {
+
+    public enum OverflowPolicy {
+        DROP_NEWEST,   // 새 메시지 저장 포기
+        DROP_OLDEST,   // 가장 오래 대기한 메시지를 버리고 새 메시지 저장
+        CALLER_RUNS    // 호출 스레드에서 바로 저장 (전송 지연을 감수하는 배압)
+    }
+
+    private final ChatDAO chatDAO;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${chat.persist.capacity:10000}")
+    private int capacity;
+
+    @Value("${chat.persist.batch-size:100}")
+    private int batchSize;
+
+    @Value("${chat.persist.flush-interval-ms:200}")
+    private long flushIntervalMs;
+
+    @Value("${chat.persist.overflow-policy:DROP_NEWEST}")
+    private OverflowPolicy overflowPolicy;
+
+    @Value("${chat.persist.retry.initial-backoff-ms:500}")
+    private long initialBackoffMs;
+
+    @Value("${chat.persist.retry.max-backoff-ms:30000}")
+    private long maxBackoffMs;
+
+    // 다중 생산자(STOMP 스레드) + 단일 소비자(쓰기 스레드), 크기는 별도 카운터로 제한
+    // 일시 오류로 실패한 배치는 순서를 유지한 채 앞쪽에 되돌림
+    private final ConcurrentLinkedDeque<ChatMessageDTO> queue = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicBoolean flushRequested = new AtomicBoolean();
+
+    private final ScheduledExecutorService writer =
+            Executors.newSingleThreadScheduledExecutor(r -> {
+                Thread t = new Thread(r);
+                t.setName("ChatPersistWriter");
+                return t;
+            });
+
+    // 쓰기 스레드 전용 백오프 상태 (0이면 정상)
+    private long backoffMs;
+    private long backoffUntil;
+
+    private Timer flushTimer;
+    private Counter droppedCounter;
+    private Counter failedCounter;
+    private Counter requeuedCounter;
+
+    @PostConstruct
+    public void start() {
+        Gauge.builder("chat.persist.queue.size", size, AtomicInteger::get)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        flushTimer = Timer.builder("chat.persist.flush")
+                .description("채팅 배치 저장 소요 시간")
+                .register(meterRegistry);
+        droppedCounter = Counter.builder("chat.persist.dropped")
+                .description("큐 초과로 저장하지 못한 채팅 메시지 수")
+                .register(meterRegistry);
+        failedCounter = Counter.builder("chat.persist.failed")
+                .description("DB 오류로 저장하지 못한 채팅 메시지 수")
+                .register(meterRegistry);
+        requeuedCounter = Counter.builder("chat.persist.requeued")
+                .description("DB 일시 오류로 큐에 되돌린 채팅 메시지 수")
+                .register(meterRegistry);
+
+        writer.scheduleWithFixedDelay(this::drainSafely, flushIntervalMs, flushIntervalMs, TimeUnit.MILLISECONDS);
+        log.info("채팅 저장 큐 시작: capacity={}, batchSize={}, flushIntervalMs={}, overflowPolicy={}",
+                capacity, batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    public void enqueue(ChatMessageDTO message) {
+        // 배치 저장 시점이 아닌 수신 시각으로 기록
+        if (message.getCreatedAt() == null) {
+            message.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+        }
+
+        if (size.incrementAndGet() > capacity) {
+            size.decrementAndGet();
+            handleOverflow(message);
+            return;
+        }
+        queue.offer(message);
+
+        // batch-size개가 쌓이면 주기를 기다리지 않고 저장
+        if (size.get() >= batchSize && flushRequested.compareAndSet(false, true)) {
+            try {
+                writer.execute(this::drainSafely);
+            } catch (RejectedExecutionException e) {
+                flushRequested.set(false);
+            }
+        }
+    }
+
+    public int getQueueSize() {
+        return size.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        log.info("채팅 저장 큐 종료: 남은 메시지 {}개 저장", size.get());
+        writer.shutdown();
+        try {
+            if (!writer.awaitTermination(5, TimeUnit.SECONDS)) {
+                log.warn("채팅 저장 스레드 종료 대기 초과. 강제 종료 시도.");
+                writer.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            writer.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+        // 쓰기 스레드 종료 후 남은 메시지는 현재 스레드에서 저장 (백오프 중이어도 한 번 시도)
+        backoffUntil = 0;
+        drain();
+        if (size.get() > 0) {
+            failedCounter.increment(size.get());
+            log.error("채팅 저장 큐 종료 시 DB 장애로 {}개 메시지를 저장하지 못함", size.get());
+        }
+    }
+
+    private void handleOverflow(ChatMessageDTO message) {
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                ChatMessageDTO dropped = queue.pollFirst();
+                if (dropped != null) {
+                    queue.offer(message);
+                } else {
+                    // 그 사이 쓰기 스레드가 비웠으면 정상 적재
+                    size.incrementAndGet();
+                    queue.offer(message);
+                    return;
+                }
+                droppedCounter.increment();
+                log.warn("채팅 저장 큐 초과, 가장 오래된 메시지 폐기: 방송ID={}", dropped.getBroadcastId());
+            }
+            case CALLER_RUNS -> {
+                if (write(List.of(message)) == 0) {
+                    failedCounter.increment();
+                    log.error("채팅 저장 큐 초과 중 DB 일시 오류, 메시지 저장 실패: 방송ID={}", message.getBroadcastId());
+                }
+            }
+            default -> {
+                droppedCounter.increment();
+                log.warn("채팅 저장 큐 초과, 메시지 저장 생략: 방송ID={}", message.getBroadcastId());
+            }
+        }
+    }
+
+    private void drainSafely() {
+        flushRequested.set(false);
+        try {
+            drain();
+        } catch (Exception e) {
+            // 예약 작업이 예외로 중단되지 않도록 보호
+            log.error("채팅 배치 저장 중 예외 발생", e);
+        }
+    }
+
+    private void drain() {
+        if (System.currentTimeMillis() < backoffUntil) {
+            return;
+        }
+        while (true) {
+            List<ChatMessageDTO> batch = new ArrayList<>(batchSize);
+            ChatMessageDTO message;
+            while (batch.size() < batchSize && (message = queue.pollFirst()) != null) {
+                batch.add(message);
+            }
+            if (batch.isEmpty()) {
+                return;
+            }
+            size.addAndGet(-batch.size());
+
+            int processed = write(batch);
+            if (processed < batch.size()) {
+                requeue(batch.subList(processed, batch.size()));
+                return;
+            }
+            backoffMs = 0;
+        }
+    }
+
+    // 배치를 원래 순서대로 큐 앞에 되돌리고 다음 시도까지 대기 시간을 두 배로 늘림
+    private void requeue(List<ChatMessageDTO> batch) {
+        for (ListIterator<ChatMessageDTO> it = batch.listIterator(batch.size()); it.hasPrevious(); ) {
+            queue.addFirst(it.previous());
+        }
+        size.addAndGet(batch.size());
+        requeuedCounter.increment(batch.size());
+
+        backoffMs = backoffMs == 0 ? initialBackoffMs : Math.min(maxBackoffMs, backoffMs * 2);
+        backoffUntil = System.currentTimeMillis() + backoffMs;
+        log.warn("채팅 배치 저장 일시 오류, {}건을 큐에 되돌리고 {}ms 후 재시도 (대기 {}건)",
+                batch.size(), backoffMs, size.get());
+    }
+
+    /**
+     * 배치 저장 후 처리한(저장 또는 데이터 오류로 포기한) 앞쪽 메시지 수 반환
+     * - 연결 장애·일시 오류로 멈춘 지점 이후는 호출 측에서 다시 시도
+     */
+    private int write(List<ChatMessageDTO> batch) {
+        long start = System.nanoTime();
+        try {
+            chatDAO.insertChatMessages(batch);
+            return batch.size();
+        } catch (Exception e) {
+            if (isTransient(e)) {
+                return 0;
+            }
+            // 한 행의 오류(존재하지 않는 회원 등)로 배치 전체가 실패하지 않도록 건별 재시도
+            log.warn("채팅 배치 저장 실패, 건별 저장으로 재시도: {}건, 원인={}", batch.size(), e.getMessage());
+            for (int i = 0; i < batch.size(); i++) {
+                ChatMessageDTO message = batch.get(i);
+                try {
+                    chatDAO.insertChatMessage(message);
+                } catch (Exception rowError) {
+                    if (isTransient(rowError)) {
+                        // 건별 저장 도중 DB 장애 → 저장하지 못한 나머지만 다시 시도
+                        return i;
+                    }
+                    failedCounter.increment();
+                    log.error("채팅 저장 실패: 방송ID={}, 사용자ID={}, 원인={}",
+                            message.getBroadcastId(), message.getUserId(), rowError.getMessage());
+                }
+            }
+            return batch.size();
+        } finally {
+            flushTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 연결 실패, 잠금 대기·교착, 쿼리 시간 초과 등 다시 시도하면 성공할 수 있는 오류
+    private boolean isTransient(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause() == t ? null : t.getCause()) {
+            if (t instanceof TransientDataAccessException
+                    || t instanceof DataAccessResourceFailureException
+                    || t instanceof RecoverableDataAccessException
+                    || t instanceof SQLTransientException
+                    || t instanceof SQLRecoverableException
+                    || t instanceof SQLNonTransientConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
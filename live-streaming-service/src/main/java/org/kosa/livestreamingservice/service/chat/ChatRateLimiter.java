@@ -0,0 +1,135 @@
+package org.kosa.livestreamingservice.service.chat;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 채팅 전송 속도 제한 (세션별 + 방송별 토큰 버킷, 인스턴스 메모리)
+ * - 세션 버킷: 한 사용자가 연속으로 보낼 수 있는 양 제한
+ * - 방송 버킷: 방송 하나의 전체 전송량 제한 (전달·저장 파이프라인 보호)
+ * - 제한을 넘은 메시지는 컨트롤러에 도달하기 전에 폐기
+ * - 토큰 충전과 버킷 만료는 같은 Ticker 기준 (테스트에서 시간을 직접 진행)
+ */
+@Component
+@Slf4j
+public class ChatRateLimiter {
+
+    private final int sessionCapacity;
+    private final double sessionRefillPerSecond;
+    private final int roomCapacity;
+    private final double roomRefillPerSecond;
+    private final Ticker ticker;
+
+    private final Cache<String, TokenBucket> sessionBuckets;
+    private final Cache<Long, TokenBucket> roomBuckets;
+
+    private final Counter sessionLimitedCounter;
+    private final Counter roomLimitedCounter;
+
+    @Autowired
+    public ChatRateLimiter(MeterRegistry meterRegistry,
+                           @Value("${chat.rate-limit.session.capacity:5}") int sessionCapacity,
+                           @Value("${chat.rate-limit.session.refill-per-second:2}") double sessionRefillPerSecond,
+                           @Value("${chat.rate-limit.room.capacity:100}") int roomCapacity,
+                           @Value("${chat.rate-limit.room.refill-per-second:50}") double roomRefillPerSecond) {
+        this(meterRegistry, sessionCapacity, sessionRefillPerSecond, roomCapacity, roomRefillPerSecond,
+                Ticker.systemTicker());
+    }
+
+    ChatRateLimiter(MeterRegistry meterRegistry, int sessionCapacity, double sessionRefillPerSecond,
+                    int roomCapacity, double roomRefillPerSecond, Ticker ticker) {
+        this.sessionCapacity = sessionCapacity;
+        this.sessionRefillPerSecond = sessionRefillPerSecond;
+        this.roomCapacity = roomCapacity;
+        this.roomRefillPerSecond = roomRefillPerSecond;
+        this.ticker = ticker;
+        this.sessionBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(10))
+                .ticker(ticker)
+                .build();
+        this.roomBuckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .ticker(ticker)
+                .build();
+        this.sessionLimitedCounter = Counter.builder("chat.rate_limited")
+                .tag("scope", "session")
+                .description("세션 속도 제한으로 폐기된 채팅 메시지 수")
+                .register(meterRegistry);
+        this.roomLimitedCounter = Counter.builder("chat.rate_limited")
+                .tag("scope", "room")
+                .description("방송 속도 제한으로 폐기된 채팅 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 전송 허용 여부 (세션 → 방송 순으로 토큰 차감)
+     */
+    public boolean tryAcquire(String sessionId, Long broadcastId) {
+        long now = ticker.read();
+        if (sessionId != null) {
+            TokenBucket session = sessionBuckets.get(sessionId,
+                    id -> new TokenBucket(sessionCapacity, sessionRefillPerSecond, now));
+            if (!session.tryConsume(now)) {
+                sessionLimitedCounter.increment();
+                log.debug("채팅 세션 속도 제한 초과: 세션ID={}, 방송ID={}", sessionId, broadcastId);
+                return false;
+            }
+        }
+
+        if (broadcastId != null) {
+            TokenBucket room = roomBuckets.get(broadcastId,
+                    id -> new TokenBucket(roomCapacity, roomRefillPerSecond, now));
+            if (!room.tryConsume(now)) {
+                roomLimitedCounter.increment();
+                log.debug("채팅 방송 속도 제한 초과: 방송ID={}", broadcastId);
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 연결 종료된 세션 버킷 정리
+     */
+    public void release(String sessionId) {
+        if (sessionId != null) {
+            sessionBuckets.invalidate(sessionId);
+        }
+    }
+
+    private static class TokenBucket {
+        private final double capacity;
+        private final double refillPerNano;
+        private double tokens;
+        private long lastRefill;
+
+        private TokenBucket(int capacity, double refillPerSecond, long now) {
+            this.capacity = Math.max(1, capacity);
+            this.refillPerNano = refillPerSecond / 1_000_000_000d;
+            this.tokens = this.capacity;
+            this.lastRefill = now;
+        }
+
+        private synchronized boolean tryConsume(long now) {
+            // 다른 스레드가 더 늦은 시각으로 먼저 충전했으면 시간을 되돌리지 않음
+            if (now > lastRefill) {
+                tokens = Math.min(capacity, tokens + (now - lastRefill) * refillPerNano);
+                lastRefill = now;
+            }
+            if (tokens < 1) {
+                return false;
+            }
+            tokens -= 1;
+            return true;
+        }
+    }
+}
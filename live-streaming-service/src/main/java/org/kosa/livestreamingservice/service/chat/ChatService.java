@@ -1,6 +1,10 @@
 package org.kosa.livestreamingservice.service.chat;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.Executors;
@@ -28,6 +32,12 @@ public class ChatService {
 
     private final ChatDAO chatDAO;
 
+    private final ChatPersistenceQueue chatPersistenceQueue;
+
+    private final ChatHistoryBuffer chatHistoryBuffer;
+
+    private final ChatBanCache chatBanCache;
+
     private final RedisTemplate<String, String> redisTemplate;
 
     private final SimpMessagingTemplate messagingTemplate;
@@ -39,27 +49,35 @@ public class ChatService {
                 return t;
             });
 
+    // DB 저장은 배치 쓰기 스레드에 맡기고 바로 반환
     public void saveChatMessage(ChatMessageDTO message) {
+        // 최근 채팅 버퍼와 DB에 같은 시각으로 기록 (DB 정밀도에 맞춰 밀리초 단위)
+        if (message.getCreatedAt() == null) {
+            message.setCreatedAt(LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS));
+        }
 
-        chatDAO.insertChatMessage(message);
+        // 버퍼를 먼저 갱신해야 버퍼 최초 적재 시 저장된 메시지와 중복되지 않음
+        chatHistoryBuffer.append(message);
+        chatPersistenceQueue.enqueue(message);
     }
 
+    /**
+     * 방송 입장 시 채팅 히스토리 (메모리에 유지 중인 최근 N개, 오래된 순)
+     */
     public List<ChatMessageDTO> getHistoryByBroadcastId(Long broadcastId) {
-        // 1. 채팅 목록 조회
-        List<ChatMessageDTO> messages = chatDAO.getChatMessagesByBroadcastId(broadcastId);
-
-        // 2. 방송 호스트 ID 조회
-        String broadcasterId = chatDAO.getBroadcasterIdByBroadcastId(broadcastId);
-        log.info("방송 [{}]의 호스트 ID: {}", broadcastId, broadcasterId);
+        return chatHistoryBuffer.getRecent(broadcastId);
+    }
 
-        // 3. 메시지 중 호스트의 메시지는 "관리자"로 표시
-        for (ChatMessageDTO msg : messages) {
-            if (broadcasterId != null && broadcasterId.equals(msg.getUserId())) {
-                msg.setFrom("관리자");
-            }
-        }
+    /**
+     * 커서 이전 채팅 (오래된 순, 스크롤 업 시 이전 페이지 조회)
+     * - 커서는 현재 화면에서 가장 오래된 메시지의 createdAt / chatId (chatId는 저장 전이면 생략 가능)
+     */
+    public List<ChatMessageDTO> getOlderHistory(Long broadcastId, LocalDateTime createdAt, Long chatId, int size) {
+        List<ChatMessageDTO> messages = new ArrayList<>(chatDAO.getChatMessagesBefore(broadcastId, createdAt, chatId, size));
+        Collections.reverse(messages);
 
-        return messages;
+        String broadcasterId = chatDAO.getBroadcasterIdByBroadcastId(broadcastId);
+        return chatHistoryBuffer.labelAll(messages, broadcasterId);
     }
 
     public BroadcastStatusDTO getBroadcastStatus(Long broadcastId) {
@@ -71,12 +89,14 @@ public class ChatService {
 
         try {
             // 1. Redis에 금지 상태 저장 (TTL 설정)
-            String key = "chat:ban:" + broadcastId + ":" + userId;
+            String key = ChatBanCache.banKey(broadcastId, userId);
             if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
                 throw new ResponseStatusException(HttpStatus.CONFLICT, "이미 금지된 사용자입니다.");
             }
 
             redisTemplate.opsForValue().set(key, "banned", Duration.ofSeconds(durationSeconds));
+            // 이 인스턴스는 keyspace 알림을 기다리지 않고 바로 반영
+            chatBanCache.invalidate(broadcastId, userId);
             log.info("Redis에 금지 키 [{}] 등록 완료", key);
 
             // 2. 프론트에 즉시 '금지됨' 메시지 전송
@@ -100,9 +120,9 @@ public class ChatService {
         }
     }
 
+    // 로컬 캐시 조회 (금지 키 변경 시 keyspace 알림으로 무효화)
     public boolean isUserBanned(Long broadcastId, String userId) {
-        String key = "chat:ban:" + broadcastId + ":" + userId;
-        return Boolean.TRUE.equals(redisTemplate.hasKey(key));
+        return chatBanCache.isBanned(broadcastId, userId);
     }
 
     @PreDestroy
@@ -0,0 +1,251 @@
+package org.kosa.livestreamingservice.util;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+
+/**
+ * 금칙어 다중 패턴 매칭 (Aho–Corasick 오토마톤, 생성 후 불변)
+ * - 입력을 한 번만 훑어 모든 금칙어 위치를 찾음 (금칙어 수와 무관)
+ * - 대소문자, 전각 영숫자를 같은 문자로 정규화하고 한글은 완성형·조합형(NFD) 모두 호환 자모열로 분해해 비교
+ * - 분해된 자모마다 원문 위치를 기록해 원문 문자 단위로 마스킹 (일부 자모만 걸린 음절도 통째로 가림)
+ * - 금칙어는 음절 시작 위치에서만 시작 (받침 + 다음 초성이 'ㅅㅂ' 같은 금칙어로 오인되지 않도록)
+ */
+public final class BadWordMatcher {
+
+    private static final char MASK = '★';
+
+    // 노드별 전이: 정렬된 문자 배열 + 대상 노드 (이진 탐색, 박싱 없음)
+    private final char[][] edgeChars;
+    private final int[][] edgeTargets;
+    private final int[] failure;
+    // 이 노드에서 정확히 끝나는 금칙어의 자모 길이 (0이면 없음)
+    private final int[] wordLength;
+    // 실패 링크를 따라가며 만나는 다음 금칙어 노드 (길이 내림차순, 0이면 없음)
+    private final int[] outputLink;
+    private final int wordCount;
+
+    private BadWordMatcher(char[][] edgeChars, int[][] edgeTargets, int[] failure,
+                           int[] wordLength, int[] outputLink, int wordCount) {
+        this.edgeChars = edgeChars;
+        this.edgeTargets = edgeTargets;
+        this.failure = failure;
+        this.wordLength = wordLength;
+        this.outputLink = outputLink;
+        this.wordCount = wordCount;
+    }
+
+    public static BadWordMatcher build(Collection<String> words) {
+        // 트라이 구성 (빌드 시에만 Map 사용)
+        List<TreeMap<Character, Integer>> trie = new ArrayList<>();
+        List<Integer> lengths = new ArrayList<>();
+        trie.add(new TreeMap<>());
+        lengths.add(0);
+
+        int wordCount = 0;
+        for (String word : words) {
+            if (word == null || word.isBlank()) {
+                continue;
+            }
+            String jamo = normalize(word.trim());
+            int node = 0;
+            for (int i = 0; i < jamo.length(); i++) {
+                char c = jamo.charAt(i);
+                Integer next = trie.get(node).get(c);
+                if (next == null) {
+                    next = trie.size();
+                    trie.add(new TreeMap<>());
+                    lengths.add(0);
+                    trie.get(node).put(c, next);
+                }
+                node = next;
+            }
+            lengths.set(node, jamo.length());
+            wordCount++;
+        }
+
+        int size = trie.size();
+        char[][] edgeChars = new char[size][];
+        int[][] edgeTargets = new int[size][];
+        for (int node = 0; node < size; node++) {
+            Map<Character, Integer> edges = trie.get(node);
+            edgeChars[node] = new char[edges.size()];
+            edgeTargets[node] = new int[edges.size()];
+            int i = 0;
+            for (Map.Entry<Character, Integer> edge : edges.entrySet()) {
+                edgeChars[node][i] = edge.getKey();
+                edgeTargets[node][i] = edge.getValue();
+                i++;
+            }
+        }
+
+        // 너비 우선으로 실패 링크와 출력 링크 계산
+        int[] failure = new int[size];
+        int[] wordLength = new int[size];
+        int[] outputLink = new int[size];
+        for (int node = 0; node < size; node++) {
+            wordLength[node] = lengths.get(node);
+        }
+        Queue<Integer> queue = new ArrayDeque<>();
+        for (int child : edgeTargets[0]) {
+            queue.add(child);
+        }
+        while (!queue.isEmpty()) {
+            int node = queue.poll();
+            for (int i = 0; i < edgeChars[node].length; i++) {
+                char c = edgeChars[node][i];
+                int child = edgeTargets[node][i];
+
+                int fallback = failure[node];
+                int target = transition(edgeChars, edgeTargets, fallback, c);
+                while (target < 0 && fallback != 0) {
+                    fallback = failure[fallback];
+                    target = transition(edgeChars, edgeTargets, fallback, c);
+                }
+                failure[child] = target >= 0 ? target : 0;
+                outputLink[child] = wordLength[failure[child]] > 0 ? failure[child] : outputLink[failure[child]];
+                queue.add(child);
+            }
+        }
+
+        return new BadWordMatcher(edgeChars, edgeTargets, failure, wordLength, outputLink, wordCount);
+    }
+
+    /**
+     * 금칙어가 걸린 원문 구간을 문자 수만큼 ★로 치환 (금칙어가 없으면 원본 그대로 반환)
+     */
+    public String mask(String input) {
+        if (input == null || input.isEmpty() || wordCount == 0) {
+            return input;
+        }
+
+        // 자모 위치 → 원문 위치, 음절 시작 여부 (원문 한 글자는 최대 3자모)
+        int[] origin = new int[input.length() * 3];
+        boolean[] syllableStart = new boolean[origin.length];
+        char[] jamo = new char[3];
+
+        char[] masked = null;
+        int position = 0;
+        int node = 0;
+        for (int i = 0; i < input.length(); i++) {
+            char c = input.charAt(i);
+            int count = decompose(c, jamo);
+            for (int k = 0; k < count; k++, position++) {
+                origin[position] = i;
+                syllableStart[position] = k == 0 && !isMedialOrFinal(c);
+
+                int next = transition(edgeChars, edgeTargets, node, jamo[k]);
+                while (next < 0 && node != 0) {
+                    node = failure[node];
+                    next = transition(edgeChars, edgeTargets, node, jamo[k]);
+                }
+                node = next >= 0 ? next : 0;
+
+                int start = matchStart(node, position, syllableStart);
+                if (start >= 0) {
+                    if (masked == null) {
+                        masked = input.toCharArray();
+                    }
+                    // 앞서 끝난 짧은 금칙어보다 먼저 시작하는 긴 금칙어도 있으므로 구간 전체를 가림
+                    for (int j = origin[start]; j <= i; j++) {
+                        masked[j] = MASK;
+                    }
+                }
+            }
+        }
+        return masked != null ? new String(masked) : input;
+    }
+
+    // 이 위치에서 끝나는 금칙어 중 음절 시작에서 시작하는 가장 긴 것의 시작 위치 (없으면 -1)
+    private int matchStart(int node, int position, boolean[] syllableStart) {
+        for (int n = wordLength[node] > 0 ? node : outputLink[node]; n != 0; n = outputLink[n]) {
+            int start = position - wordLength[n] + 1;
+            if (syllableStart[start]) {
+                return start;
+            }
+        }
+        return -1;
+    }
+
+    public boolean containsBadWord(String input) {
+        return input != null && !input.equals(mask(input));
+    }
+
+    public int getWordCount() {
+        return wordCount;
+    }
+
+    private static int transition(char[][] edgeChars, int[][] edgeTargets, int node, char c) {
+        int index = Arrays.binarySearch(edgeChars[node], c);
+        return index >= 0 ? edgeTargets[node][index] : -1;
+    }
+
+    /**
+     * 비교용 정규화 문자열 (소문자, 반각, 한글은 호환 자모열)
+     */
+    static String normalize(String text) {
+        StringBuilder sb = new StringBuilder(text.length() * 3);
+        char[] jamo = new char[3];
+        for (int i = 0; i < text.length(); i++) {
+            sb.append(jamo, 0, decompose(text.charAt(i), jamo));
+        }
+        return sb.toString();
+    }
+
+    // 한 글자를 정규화해 out에 쓰고 자모 수 반환 (완성형 음절은 2~3, 그 외 1)
+    private static int decompose(char c, char[] out) {
+        // 전각 영숫자·기호 → 반각
+        if (c >= '！' && c <= '～') {
+            c = (char) (c - 0xFEE0);
+        }
+        // 완성형 음절 → 초성 + 중성 (+ 종성)
+        if (c >= HANGUL_BASE && c <= HANGUL_LAST) {
+            int index = c - HANGUL_BASE;
+            out[0] = CHOSEONG_TO_COMPAT[index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)];
+            out[1] = (char) ('ㅏ' + index % (JUNGSEONG_COUNT * JONGSEONG_COUNT) / JONGSEONG_COUNT);
+            int jongseong = index % JONGSEONG_COUNT;
+            if (jongseong == 0) {
+                return 2;
+            }
+            out[2] = JONGSEONG_TO_COMPAT[jongseong - 1];
+            return 3;
+        }
+        // 조합형 자모(NFD) → 호환 자모 (ㄱ~ㅎ, ㅏ~ㅣ)
+        if (c >= 'ᄀ' && c <= 'ᄒ') {
+            out[0] = CHOSEONG_TO_COMPAT[c - 'ᄀ'];
+        } else if (c >= 'ᅡ' && c <= 'ᅵ') {
+            out[0] = (char) ('ㅏ' + (c - 'ᅡ'));
+        } else if (c >= 'ᆨ' && c <= 'ᇂ') {
+            out[0] = JONGSEONG_TO_COMPAT[c - 'ᆨ'];
+        } else {
+            out[0] = Character.toLowerCase(c);
+        }
+        return 1;
+    }
+
+    // 조합형 중성·종성은 앞 초성에 이어지는 자모라 음절 시작이 아님
+    private static boolean isMedialOrFinal(char c) {
+        return (c >= 'ᅡ' && c <= 'ᅵ') || (c >= 'ᆨ' && c <= 'ᇂ');
+    }
+
+    private static final char HANGUL_BASE = '가';
+    private static final char HANGUL_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char[] CHOSEONG_TO_COMPAT = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private static final char[] JONGSEONG_TO_COMPAT = {
+            'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ',
+            'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ',
+            'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+}
@@ -1,25 +1,29 @@
 package org.kosa.livestreamingservice.util;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.regex.Pattern;
 
 public class ChatFilterUtil {
 
-    // 욕설 목록은 확장 가능
-    private static final List<String> BAD_WORDS = List.of(
-            "fuck", "shit", "병신", "개새끼", "좆", "지랄" // 실제 환경에 맞게 관리
+    // 기본 욕설 목록 (설정/사전 파일이 없을 때 사용, 실제 목록은 ChatFilterDictionaryService에서 교체)
+    public static final List<String> DEFAULT_BAD_WORDS = List.of(
+            "fuck", "shit", "병신", "개새끼", "좆", "지랄"
     );
 
+    // 메시지마다 재사용하는 불변 매처, 목록 변경 시 통째로 교체
+    private static volatile BadWordMatcher matcher = BadWordMatcher.build(DEFAULT_BAD_WORDS);
+
     public static String filterBadWords(String input) {
         if (input == null) return null;
 
-        String result = input;
-        for (String badWord : BAD_WORDS) {
-            Pattern pattern = Pattern.compile("(?i)" + Pattern.quote(badWord));
-            result = pattern.matcher(result).replaceAll("★".repeat(badWord.length()));
-        }
+        return matcher.mask(input);
+    }
 
-        return result;
+    public static void replaceBadWords(Collection<String> badWords) {
+        matcher = BadWordMatcher.build(badWords);
     }
 
-}
\ No newline at end of file
+    public static int getBadWordCount() {
+        return matcher.getWordCount();
+    }
+}
@@ -0,0 +1,126 @@
+package org.kosa.livestreamingservice.benchmark;
+
+import org.kosa.livestreamingservice.util.BadWordMatcher;
+import org.kosa.livestreamingservice.util.ChatFilterUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 금칙어 마스킹 벤치마크 (금칙어 5,000개, 채팅 메시지 1건당 처리량)
+ * - mask: 자모 분해 + Aho–Corasick 한 번 순회
+ * - naiveContains: 금칙어마다 String.contains로 확인하는 단순 방식 (비교 기준, 마스킹·정규화 없음)
+ * - build: 사전 교체 시 오토마톤 생성 비용
+ * 실행: ./mvnw test-compile 후 IDE에서 main 실행, 또는
+ *       java -cp "target/test-classes:target/classes:<테스트 클래스패스>" org.openjdk.jmh.Main BadWordMatcherBenchmark
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BadWordMatcherBenchmark {
+
+    private static final int DICTIONARY_SIZE = 5_000;
+    private static final int MESSAGE_COUNT = 1_024;
+
+    private List<String> dictionary;
+    private BadWordMatcher matcher;
+    private String[] messages;
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        Random random = new Random(42);
+
+        Set<String> words = new LinkedHashSet<>(ChatFilterUtil.DEFAULT_BAD_WORDS);
+        while (words.size() < DICTIONARY_SIZE) {
+            words.add(random.nextInt(4) == 0 ? latinWord(random) : hangulWord(random));
+        }
+        dictionary = new ArrayList<>(words);
+        matcher = BadWordMatcher.build(dictionary);
+
+        // 일반 채팅 위주, 5%는 금칙어 포함, 일부는 조합형(NFD) 입력
+        messages = new String[MESSAGE_COUNT];
+        for (int i = 0; i < MESSAGE_COUNT; i++) {
+            StringBuilder sb = new StringBuilder();
+            while (sb.length() < 40) {
+                sb.append(hangulWord(random)).append(' ');
+            }
+            if (i % 20 == 0) {
+                sb.insert(random.nextInt(sb.length()), dictionary.get(random.nextInt(DICTIONARY_SIZE)));
+            }
+            String message = sb.toString();
+            messages[i] = i % 10 == 0 ? Normalizer.normalize(message, Normalizer.Form.NFD) : message;
+        }
+    }
+
+    @Benchmark
+    public String mask() {
+        return matcher.mask(next());
+    }
+
+    @Benchmark
+    public boolean naiveContains() {
+        String message = next();
+        for (String word : dictionary) {
+            if (message.contains(word)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Benchmark
+    public BadWordMatcher build() {
+        return BadWordMatcher.build(dictionary);
+    }
+
+    private String next() {
+        return messages[cursor++ & (MESSAGE_COUNT - 1)];
+    }
+
+    private static String hangulWord(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = 2 + random.nextInt(3);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+        }
+        return sb.toString();
+    }
+
+    private static String latinWord(Random random) {
+        StringBuilder sb = new StringBuilder();
+        int length = 4 + random.nextInt(5);
+        for (int i = 0; i < length; i++) {
+            sb.append((char) ('a' + random.nextInt(26)));
+        }
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(BadWordMatcherBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
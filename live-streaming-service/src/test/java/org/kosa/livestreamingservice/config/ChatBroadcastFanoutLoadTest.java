@@ -0,0 +1,222 @@
+package org.kosa.livestreamingservice.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.livestreamingservice.JwtUtil;
+import org.kosa.livestreamingservice.service.chat.ChatRateLimiter;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.MessagingException;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * 방송별 채팅 토픽 팬아웃 부하 테스트 (방송 50개 동시 진행)
+ * - 인메모리 브로커 + 구독 검증 인터셉터를 실제 설정과 같이 연결
+ * - 방송별 토픽은 같은 방송 구독자에게만 전달되는지, 전역 토픽 대비 전송량이 얼마나 줄어드는지 측정
+ */
+class ChatBroadcastFanoutLoadTest {
+
+    private static final int BROADCASTS = 50;
+    private static final int VIEWERS_PER_BROADCAST = 20;
+    private static final int MESSAGES_PER_BROADCAST = 20;
+
+    private ExecutorSubscribableChannel clientInboundChannel;
+    private ExecutorSubscribableChannel brokerChannel;
+    private SimpleBrokerMessageHandler broker;
+    private SimpMessagingTemplate messagingTemplate;
+
+    // 세션ID → 수신 메시지 수, 다른 방송 토픽 수신 건수
+    private final Map<String, LongAdder> deliveries = new ConcurrentHashMap<>();
+    private final Map<String, Long> sessionBroadcastIds = new ConcurrentHashMap<>();
+    private final AtomicLong crossBroadcastDeliveries = new AtomicLong();
+
+    @BeforeEach
+    void setUp() {
+        clientInboundChannel = new ExecutorSubscribableChannel();
+        brokerChannel = new ExecutorSubscribableChannel();
+        clientInboundChannel.addInterceptor(new ChatChannelInterceptor(
+                new ChatRateLimiter(new SimpleMeterRegistry(), 5, 2, 100, 50), new JwtUtil()));
+
+        MessageChannel clientOutboundChannel = (message, timeout) -> {
+            record(message);
+            return true;
+        };
+        broker = new SimpleBrokerMessageHandler(clientInboundChannel, clientOutboundChannel, brokerChannel, List.of("/topic"));
+        broker.start();
+        messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        broker.stop();
+    }
+
+    @Test
+    void 방송별_토픽은_같은_방송_시청자에게만_전달된다() throws Exception {
+        connectViewers(broadcastId -> ChatChannelInterceptor.CHAT_TOPIC_PREFIX + broadcastId);
+
+        long elapsedNanos = publishConcurrently(broadcastId -> ChatChannelInterceptor.CHAT_TOPIC_PREFIX + broadcastId);
+
+        long expected = (long) BROADCASTS * VIEWERS_PER_BROADCAST * MESSAGES_PER_BROADCAST;
+        assertEquals(expected, totalDeliveries());
+        assertEquals(0L, crossBroadcastDeliveries.get());
+        deliveries.forEach((sessionId, count) ->
+                assertEquals(MESSAGES_PER_BROADCAST, count.intValue(), sessionId + " 수신 건수"));
+
+        report("방송별 토픽", expected, elapsedNanos);
+    }
+
+    @Test
+    void 전역_토픽_대비_전송량이_방송_수만큼_줄어든다() throws Exception {
+        connectViewers(broadcastId -> "/topic/public");
+        long globalElapsed = publishConcurrently(broadcastId -> "/topic/public");
+        long globalDeliveries = totalDeliveries();
+
+        tearDown();
+        deliveries.clear();
+        sessionBroadcastIds.clear();
+        setUp();
+
+        connectViewers(broadcastId -> ChatChannelInterceptor.CHAT_TOPIC_PREFIX + broadcastId);
+        long roomElapsed = publishConcurrently(broadcastId -> ChatChannelInterceptor.CHAT_TOPIC_PREFIX + broadcastId);
+        long roomDeliveries = totalDeliveries();
+
+        // 전역 토픽은 모든 메시지가 모든 시청자에게 전달됨
+        assertEquals((long) BROADCASTS * MESSAGES_PER_BROADCAST * BROADCASTS * VIEWERS_PER_BROADCAST, globalDeliveries);
+        assertEquals(globalDeliveries / BROADCASTS, roomDeliveries);
+
+        report("전역 토픽 (이전)", globalDeliveries, globalElapsed);
+        report("방송별 토픽", roomDeliveries, roomElapsed);
+    }
+
+    @Test
+    void 다른_방송_토픽_구독은_거부된다() {
+        String sessionId = "intruder";
+        connect(sessionId, 1L);
+
+        assertThrows(MessagingException.class,
+                () -> subscribe(sessionId, 1L, ChatChannelInterceptor.CHAT_TOPIC_PREFIX + 2));
+    }
+
+    private interface TopicResolver {
+        String topic(long broadcastId);
+    }
+
+    private void connectViewers(TopicResolver topicResolver) {
+        for (long broadcastId = 1; broadcastId <= BROADCASTS; broadcastId++) {
+            for (int viewer = 0; viewer < VIEWERS_PER_BROADCAST; viewer++) {
+                String sessionId = "b" + broadcastId + "-v" + viewer;
+                connect(sessionId, broadcastId);
+                subscribe(sessionId, broadcastId, topicResolver.topic(broadcastId));
+                sessionBroadcastIds.put(sessionId, broadcastId);
+                deliveries.put(sessionId, new LongAdder());
+            }
+        }
+    }
+
+    // 방송마다 스레드 하나가 동시에 발행 (ChatController와 같은 경로: brokerChannel로 convertAndSend)
+    private long publishConcurrently(TopicResolver topicResolver) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(BROADCASTS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (long broadcastId = 1; broadcastId <= BROADCASTS; broadcastId++) {
+                long id = broadcastId;
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < MESSAGES_PER_BROADCAST; i++) {
+                        messagingTemplate.convertAndSend(topicResolver.topic(id), "방송 " + id + " 메시지 " + i);
+                    }
+                    return null;
+                }));
+            }
+
+            long started = System.nanoTime();
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(60, TimeUnit.SECONDS);
+            }
+            return System.nanoTime() - started;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private void connect(String sessionId, long broadcastId) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId(sessionId);
+        accessor.setSessionAttributes(new HashMap<>());
+        accessor.setNativeHeader(ChatChannelInterceptor.BROADCAST_ID_ATTRIBUTE, String.valueOf(broadcastId));
+        send(accessor);
+    }
+
+    private void subscribe(String sessionId, long broadcastId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+        accessor.setSessionId(sessionId);
+        accessor.setSubscriptionId("sub-" + sessionId);
+        accessor.setDestination(destination);
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put(ChatChannelInterceptor.BROADCAST_ID_ATTRIBUTE, broadcastId);
+        accessor.setSessionAttributes(sessionAttributes);
+        send(accessor);
+    }
+
+    private void send(StompHeaderAccessor accessor) {
+        accessor.setLeaveMutable(true);
+        clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+    }
+
+    private void record(Message<?> message) {
+        if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+            return;
+        }
+        String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+        String destination = SimpMessageHeaderAccessor.getDestination(message.getHeaders());
+        LongAdder counter = deliveries.get(sessionId);
+        if (counter != null) {
+            counter.increment();
+        }
+
+        Long broadcastId = sessionBroadcastIds.get(sessionId);
+        if (destination != null && destination.startsWith(ChatChannelInterceptor.CHAT_TOPIC_PREFIX)
+                && !destination.equals(ChatChannelInterceptor.CHAT_TOPIC_PREFIX + broadcastId)) {
+            crossBroadcastDeliveries.incrementAndGet();
+        }
+    }
+
+    private long totalDeliveries() {
+        return deliveries.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    private static void report(String label, long deliveryCount, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000d;
+        System.out.printf("[채팅 팬아웃] %s - 방송 %d개 × 시청자 %d명, 발행 %d건 → 전달 %d건, %.3f초, %.0f건/초%n",
+                label, BROADCASTS, VIEWERS_PER_BROADCAST, BROADCASTS * MESSAGES_PER_BROADCAST,
+                deliveryCount, seconds, deliveryCount / seconds);
+    }
+}
@@ -0,0 +1,91 @@
+package org.kosa.livestreamingservice.config;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.livestreamingservice.JwtUtil;
+import org.kosa.livestreamingservice.service.chat.ChatRateLimiter;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * 채팅 연결 시 사용자 식별 고정 테스트 (채팅 금지 확인은 세션에 고정된 사용자 ID 기준)
+ */
+class ChatChannelInterceptorTest {
+
+    private static final String SECRET = "rrYd2zPDUkx7BUhgDsOTxHCbsBkeTgE/uoARWYSqBjU=";
+    private static final MessageChannel CHANNEL = (message, timeout) -> true;
+
+    private JwtUtil jwtUtil;
+    private ChatChannelInterceptor interceptor;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET);
+        interceptor = new ChatChannelInterceptor(new ChatRateLimiter(new SimpleMeterRegistry(), 5, 2, 100, 50), jwtUtil);
+    }
+
+    @Test
+    void 유효한_토큰으로_연결하면_토큰의_사용자_ID를_세션에_고정한다() {
+        Map<String, Object> sessionAttributes = connect("Bearer " + jwtUtil.generateToken("user-1"));
+
+        assertEquals("user-1", ChatChannelInterceptor.getUserId(sessionAttributes));
+        assertEquals(1L, ChatChannelInterceptor.getBroadcastId(sessionAttributes));
+    }
+
+    @Test
+    void 다른_키로_서명한_토큰은_비회원으로_연결한다() {
+        String forged = Jwts.builder()
+                .setSubject("banned-user")
+                .signWith(Keys.hmacShaKeyFor("another-secret-key-for-forged-token-000000".getBytes(StandardCharsets.UTF_8)),
+                        SignatureAlgorithm.HS256)
+                .compact();
+
+        Map<String, Object> sessionAttributes = connect("Bearer " + forged);
+
+        assertNull(ChatChannelInterceptor.getUserId(sessionAttributes));
+        assertEquals(1L, ChatChannelInterceptor.getBroadcastId(sessionAttributes));
+    }
+
+    @Test
+    void 토큰_없이_다시_연결하면_이전_사용자_ID를_지운다() {
+        Map<String, Object> sessionAttributes = new HashMap<>();
+        sessionAttributes.put(ChatChannelInterceptor.USER_ID_ATTRIBUTE, "user-1");
+
+        connect(null, sessionAttributes);
+
+        assertNull(ChatChannelInterceptor.getUserId(sessionAttributes));
+        assertNull(ChatChannelInterceptor.getUserId(null));
+    }
+
+    private Map<String, Object> connect(String authorization) {
+        return connect(authorization, new HashMap<>());
+    }
+
+    private Map<String, Object> connect(String authorization, Map<String, Object> sessionAttributes) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.CONNECT);
+        accessor.setSessionId("session-1");
+        accessor.setSessionAttributes(sessionAttributes);
+        accessor.setNativeHeader(ChatChannelInterceptor.BROADCAST_ID_ATTRIBUTE, "1");
+        if (authorization != null) {
+            accessor.setNativeHeader("Authorization", authorization);
+        }
+        accessor.setLeaveMutable(true);
+        interceptor.preSend(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()), CHANNEL);
+        return sessionAttributes;
+    }
+}
@@ -0,0 +1,275 @@
+package org.kosa.livestreamingservice.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.livestreamingservice.dto.chat.ChatMessageDTO;
+import org.kosa.livestreamingservice.service.chat.ChatHistoryBuffer;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.converter.ByteArrayMessageConverter;
+import org.springframework.messaging.converter.CompositeMessageConverter;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.converter.StringMessageConverter;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.broker.SimpleBrokerMessageHandler;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ExecutorSubscribableChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 다중 인스턴스 채팅 중계 테스트 (chat.broker.mode=redis)
+ * - 인메모리 브로커 두 개를 실제 설정처럼 브로커 채널 인터셉터 + 리스너로 RedisChatBridge에 연결
+ * - Redis pub/sub은 발행 즉시 모든 구독 인스턴스에 전달하는 인메모리 중계로 대체
+ */
+class RedisChatBridgeMultiInstanceTest {
+
+    private static final String CHAT_TOPIC = ChatChannelInterceptor.CHAT_TOPIC_PREFIX + 1;
+
+    private final InMemoryRedisRelay relay = new InMemoryRedisRelay();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private Node nodeA;
+    private Node nodeB;
+
+    @BeforeEach
+    void setUp() {
+        nodeA = new Node("A");
+        nodeB = new Node("B");
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.stop();
+        nodeB.stop();
+    }
+
+    @Test
+    void 한_인스턴스에서_발행한_메시지가_두_인스턴스_구독자_모두에게_한_번씩_전달된다() {
+        nodeA.subscribe("a-viewer", CHAT_TOPIC);
+        nodeB.subscribe("b-viewer", CHAT_TOPIC);
+
+        nodeA.messagingTemplate.convertAndSend(CHAT_TOPIC, "안녕하세요");
+
+        assertEquals(List.of("안녕하세요"), nodeA.received("a-viewer"));
+        assertEquals(List.of("안녕하세요"), nodeB.received("b-viewer"));
+        // 중계받은 메시지는 다시 발행하지 않음
+        assertEquals(1, relay.published.get());
+    }
+
+    @Test
+    void 중계받은_채팅은_받은_인스턴스의_최근_채팅_버퍼에_추가된다() {
+        ChatMessageDTO message = new ChatMessageDTO();
+        message.setBroadcastId("1");
+        message.setUserId("user-1");
+        message.setFrom("시청자");
+        message.setText("다른 인스턴스 채팅");
+        message.setType("text");
+
+        nodeA.messagingTemplate.convertAndSend(CHAT_TOPIC, message);
+
+        ArgumentCaptor<ChatMessageDTO> captor = ArgumentCaptor.forClass(ChatMessageDTO.class);
+        verify(nodeB.chatHistoryBuffer).appendRelayed(captor.capture());
+        assertEquals("1", captor.getValue().getBroadcastId());
+        assertEquals("user-1", captor.getValue().getUserId());
+        assertEquals("다른 인스턴스 채팅", captor.getValue().getText());
+        // 발행한 인스턴스는 ChatService에서 이미 버퍼에 추가함
+        verify(nodeA.chatHistoryBuffer, never()).appendRelayed(any());
+    }
+
+    @Test
+    void 다른_토픽_구독자에게는_중계되지_않는다() {
+        nodeA.subscribe("a-viewer", CHAT_TOPIC);
+        nodeB.subscribe("b-other", ChatChannelInterceptor.CHAT_TOPIC_PREFIX + 2);
+
+        nodeA.messagingTemplate.convertAndSend(CHAT_TOPIC, "방송 1 메시지");
+
+        assertEquals(List.of("방송 1 메시지"), nodeA.received("a-viewer"));
+        assertTrue(nodeB.received("b-other").isEmpty());
+    }
+
+    @Test
+    void 양쪽_인스턴스가_동시에_발행해도_모든_메시지가_중복_없이_전달된다() throws Exception {
+        int messagesPerNode = 200;
+        nodeA.subscribe("a-viewer", CHAT_TOPIC);
+        nodeB.subscribe("b-viewer", CHAT_TOPIC);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (Node node : List.of(nodeA, nodeB)) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < messagesPerNode; i++) {
+                        node.messagingTemplate.convertAndSend(CHAT_TOPIC, node.name + "-" + i);
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        List<String> expected = new ArrayList<>();
+        for (String name : List.of("A", "B")) {
+            for (int i = 0; i < messagesPerNode; i++) {
+                expected.add(name + "-" + i);
+            }
+        }
+        assertEquals(sorted(expected), sorted(nodeA.received("a-viewer")));
+        assertEquals(sorted(expected), sorted(nodeB.received("b-viewer")));
+        assertEquals(messagesPerNode * 2, relay.published.get());
+    }
+
+    @Test
+    void Redis_발행이_실패해도_같은_인스턴스_구독자에게는_전달된다() {
+        nodeA.subscribe("a-viewer", CHAT_TOPIC);
+        nodeB.subscribe("b-viewer", CHAT_TOPIC);
+        relay.down.set(true);
+
+        nodeA.messagingTemplate.convertAndSend(CHAT_TOPIC, "중계 장애 중 메시지");
+
+        assertEquals(List.of("중계 장애 중 메시지"), nodeA.received("a-viewer"));
+        assertTrue(nodeB.received("b-viewer").isEmpty());
+    }
+
+    private static List<String> sorted(List<String> values) {
+        List<String> copy = new ArrayList<>(values);
+        copy.sort(null);
+        return copy;
+    }
+
+    /**
+     * 인스턴스 하나 (인메모리 브로커 + 브로커 채널 + RedisChatBridge)
+     */
+    private class Node {
+
+        private final String name;
+        private final ExecutorSubscribableChannel clientInboundChannel = new ExecutorSubscribableChannel();
+        private final ExecutorSubscribableChannel brokerChannel = new ExecutorSubscribableChannel();
+        private final SimpleBrokerMessageHandler broker;
+        private final SimpMessagingTemplate messagingTemplate;
+        private final ChatHistoryBuffer chatHistoryBuffer = mock(ChatHistoryBuffer.class);
+        // 세션ID → 수신한 메시지 본문
+        private final Map<String, List<String>> deliveries = new HashMap<>();
+
+        Node(String name) {
+            this.name = name;
+
+            MessageChannel clientOutboundChannel = (message, timeout) -> {
+                record(message);
+                return true;
+            };
+            broker = new SimpleBrokerMessageHandler(clientInboundChannel, clientOutboundChannel, brokerChannel, List.of("/topic"));
+            broker.start();
+
+            messagingTemplate = new SimpMessagingTemplate(brokerChannel);
+            // 실제 브로커 설정과 같이 본문을 byte[]로 변환해 브로커 채널로 보냄
+            messagingTemplate.setMessageConverter(new CompositeMessageConverter(List.of(
+                    new StringMessageConverter(), new ByteArrayMessageConverter(), new MappingJackson2MessageConverter())));
+
+            StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+            beanFactory.addBean("brokerMessagingTemplate", messagingTemplate);
+            RedisChatBridge bridge = new RedisChatBridge(relay, objectMapper,
+                    beanFactory.getBeanProvider(SimpMessagingTemplate.class), chatHistoryBuffer);
+            brokerChannel.addInterceptor(bridge);
+            relay.subscribe(bridge);
+        }
+
+        void subscribe(String sessionId, String destination) {
+            deliveries.put(sessionId, new CopyOnWriteArrayList<>());
+            send(StompHeaderAccessor.create(StompCommand.CONNECT), sessionId);
+
+            StompHeaderAccessor accessor = StompHeaderAccessor.create(StompCommand.SUBSCRIBE);
+            accessor.setSubscriptionId("sub-" + sessionId);
+            accessor.setDestination(destination);
+            send(accessor, sessionId);
+        }
+
+        private void send(StompHeaderAccessor accessor, String sessionId) {
+            accessor.setSessionId(sessionId);
+            accessor.setSessionAttributes(new HashMap<>());
+            accessor.setLeaveMutable(true);
+            clientInboundChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+        }
+
+        List<String> received(String sessionId) {
+            return deliveries.get(sessionId);
+        }
+
+        void stop() {
+            broker.stop();
+        }
+
+        private void record(Message<?> message) {
+            if (SimpMessageHeaderAccessor.getMessageType(message.getHeaders()) != SimpMessageType.MESSAGE) {
+                return;
+            }
+            String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+            deliveries.get(sessionId).add(new String((byte[]) message.getPayload(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Redis pub/sub 대체 (발행 스레드에서 구독 중인 모든 인스턴스 리스너를 호출)
+     */
+    private static class InMemoryRedisRelay extends StringRedisTemplate {
+
+        private final List<RedisChatBridge> listeners = new CopyOnWriteArrayList<>();
+        private final AtomicInteger published = new AtomicInteger();
+        private final AtomicBoolean down = new AtomicBoolean();
+
+        void subscribe(RedisChatBridge listener) {
+            listeners.add(listener);
+        }
+
+        @Override
+        public Long convertAndSend(String channel, Object message) {
+            if (down.get()) {
+                throw new RedisConnectionFailureException("Redis 연결 실패");
+            }
+            published.incrementAndGet();
+            DefaultMessage redisMessage = new DefaultMessage(
+                    channel.getBytes(StandardCharsets.UTF_8), message.toString().getBytes(StandardCharsets.UTF_8));
+            for (RedisChatBridge listener : listeners) {
+                listener.onMessage(redisMessage, null);
+            }
+            return (long) listeners.size();
+        }
+    }
+}
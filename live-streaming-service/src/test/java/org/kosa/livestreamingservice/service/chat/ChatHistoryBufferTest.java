@@ -0,0 +1,103 @@
+package org.kosa.livestreamingservice.service.chat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kosa.livestreamingservice.dao.chat.ChatDAO;
+import org.kosa.livestreamingservice.dto.chat.ChatMessageDTO;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatHistoryBufferTest {
+
+    private static final Long BROADCAST_ID = 1L;
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 7, 1, 12, 0);
+
+    private ChatDAO chatDAO;
+    private ChatHistoryBuffer buffer;
+
+    @BeforeEach
+    void setUp() {
+        chatDAO = mock(ChatDAO.class);
+        when(chatDAO.getBroadcasterIdByBroadcastId(BROADCAST_ID)).thenReturn("host");
+        when(chatDAO.getRecentChatMessages(BROADCAST_ID, 5)).thenReturn(List.of());
+        buffer = new ChatHistoryBuffer(chatDAO, mock(ChatNicknameCache.class), 5, 30, 60);
+    }
+
+    @Test
+    void 버퍼가_없는_방송의_중계_메시지는_DB를_조회하지_않고_무시한다() {
+        buffer.appendRelayed(message(null, "viewer", "다른 인스턴스 채팅", 1));
+
+        verify(chatDAO, never()).getRecentChatMessages(anyLong(), anyInt());
+    }
+
+    @Test
+    void 중계_메시지는_적재된_버퍼에_호스트_표시와_함께_추가된다() {
+        buffer.getRecent(BROADCAST_ID);
+
+        buffer.appendRelayed(message(null, "viewer", "안녕하세요", 1));
+        buffer.appendRelayed(message(null, "host", "공지입니다", 2));
+
+        List<ChatMessageDTO> recent = buffer.getRecent(BROADCAST_ID);
+        assertEquals(List.of("안녕하세요", "공지입니다"), texts(recent));
+        assertEquals(ChatHistoryBuffer.HOST_LABEL, recent.get(1).getFrom());
+    }
+
+    @Test
+    void DB_갱신_시_저장된_메시지는_DB_기준으로_맞추고_저장_대기_메시지는_유지한다() {
+        buffer.getRecent(BROADCAST_ID);
+        buffer.append(message(null, "a", "저장됨", 1));
+        buffer.append(message(null, "b", "저장 대기", 3));
+
+        // 이 인스턴스의 첫 메시지와 다른 인스턴스 메시지(중계 누락)만 DB에 저장된 상태 (최신순 조회)
+        List<ChatMessageDTO> saved = new ArrayList<>(List.of(
+                message(11L, "c", "중계 누락", 2),
+                message(10L, "a", "저장됨", 1)));
+        when(chatDAO.getRecentChatMessages(BROADCAST_ID, 5)).thenReturn(saved);
+
+        buffer.refreshNow(BROADCAST_ID);
+
+        assertEquals(List.of("저장됨", "중계 누락", "저장 대기"), texts(buffer.getRecent(BROADCAST_ID)));
+    }
+
+    @Test
+    void DB_갱신_후에도_버퍼_크기를_넘지_않는다() {
+        buffer.getRecent(BROADCAST_ID);
+        for (int i = 1; i <= 3; i++) {
+            buffer.append(message(null, "a", "대기 " + i, 10 + i));
+        }
+        List<ChatMessageDTO> saved = new ArrayList<>();
+        for (int i = 5; i >= 1; i--) {
+            saved.add(message((long) i, "c", "저장 " + i, i));
+        }
+        when(chatDAO.getRecentChatMessages(BROADCAST_ID, 5)).thenReturn(saved);
+
+        buffer.refreshNow(BROADCAST_ID);
+
+        assertEquals(List.of("저장 4", "저장 5", "대기 1", "대기 2", "대기 3"), texts(buffer.getRecent(BROADCAST_ID)));
+    }
+
+    private static ChatMessageDTO message(Long chatId, String userId, String text, int second) {
+        ChatMessageDTO message = new ChatMessageDTO();
+        message.setChatId(chatId);
+        message.setBroadcastId(String.valueOf(BROADCAST_ID));
+        message.setUserId(userId);
+        message.setText(text);
+        message.setType("text");
+        message.setCreatedAt(BASE_TIME.plusSeconds(second));
+        return message;
+    }
+
+    private static List<String> texts(List<ChatMessageDTO> messages) {
+        return messages.stream().map(ChatMessageDTO::getText).toList();
+    }
+}
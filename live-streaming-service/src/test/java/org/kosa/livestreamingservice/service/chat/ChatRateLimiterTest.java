@@ -0,0 +1,150 @@
+package org.kosa.livestreamingservice.service.chat;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ChatRateLimiterTest {
+
+    private static final Long BROADCAST_ID = 1L;
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    // 세션 5개/초당 2개, 방송 100개/초당 50개 (기본 설정과 같음)
+    private ChatRateLimiter limiter() {
+        return limiter(5, 2, 100, 50);
+    }
+
+    private ChatRateLimiter limiter(int sessionCapacity, double sessionRefill, int roomCapacity, double roomRefill) {
+        return new ChatRateLimiter(meterRegistry, sessionCapacity, sessionRefill, roomCapacity, roomRefill, nanos::get);
+    }
+
+    @Test
+    void 세션은_버킷_용량만큼_연속_전송하고_초과분은_거부한다() {
+        ChatRateLimiter limiter = limiter();
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire("s1", BROADCAST_ID), i + 1 + "번째");
+        }
+        assertFalse(limiter.tryAcquire("s1", BROADCAST_ID));
+        assertEquals(1.0, limitedCount("session"));
+        // 다른 세션은 별도 버킷
+        assertTrue(limiter.tryAcquire("s2", BROADCAST_ID));
+    }
+
+    @Test
+    void 경과_시간만큼_토큰이_충전된다() {
+        ChatRateLimiter limiter = limiter();
+        drain(limiter, "s1");
+
+        // 초당 2개 → 0.5초에 1개
+        advance(Duration.ofMillis(400));
+        assertFalse(limiter.tryAcquire("s1", BROADCAST_ID));
+
+        advance(Duration.ofMillis(200));
+        assertTrue(limiter.tryAcquire("s1", BROADCAST_ID));
+        assertFalse(limiter.tryAcquire("s1", BROADCAST_ID));
+
+        advance(Duration.ofSeconds(1));
+        assertTrue(limiter.tryAcquire("s1", BROADCAST_ID));
+        assertTrue(limiter.tryAcquire("s1", BROADCAST_ID));
+        assertFalse(limiter.tryAcquire("s1", BROADCAST_ID));
+    }
+
+    @Test
+    void 부분_충전량은_다음_충전에_누적된다() {
+        ChatRateLimiter limiter = limiter();
+        drain(limiter, "s1");
+
+        advance(Duration.ofMillis(300));
+        assertFalse(limiter.tryAcquire("s1", BROADCAST_ID));
+        advance(Duration.ofMillis(300));
+        assertTrue(limiter.tryAcquire("s1", BROADCAST_ID));
+    }
+
+    @Test
+    void 오래_쉬어도_버킷_용량_이상으로_충전되지_않는다() {
+        ChatRateLimiter limiter = limiter();
+        drain(limiter, "s1");
+
+        advance(Duration.ofMinutes(5));
+
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire("s1", BROADCAST_ID));
+        }
+        assertFalse(limiter.tryAcquire("s1", BROADCAST_ID));
+    }
+
+    @Test
+    void 방송_버킷은_세션과_무관하게_방송_전체_전송량을_제한한다() {
+        ChatRateLimiter limiter = limiter(5, 2, 3, 1);
+
+        assertTrue(limiter.tryAcquire("s1", BROADCAST_ID));
+        assertTrue(limiter.tryAcquire("s2", BROADCAST_ID));
+        assertTrue(limiter.tryAcquire("s3", BROADCAST_ID));
+        assertFalse(limiter.tryAcquire("s4", BROADCAST_ID));
+        assertEquals(1.0, limitedCount("room"));
+
+        // 다른 방송은 별도 버킷
+        assertTrue(limiter.tryAcquire("s4", 2L));
+
+        advance(Duration.ofSeconds(1));
+        assertTrue(limiter.tryAcquire("s4", BROADCAST_ID));
+    }
+
+    @Test
+    void 세션_제한에_걸린_메시지는_방송_토큰을_쓰지_않는다() {
+        ChatRateLimiter limiter = limiter(1, 1, 2, 1);
+
+        assertTrue(limiter.tryAcquire("s1", BROADCAST_ID));
+        for (int i = 0; i < 10; i++) {
+            assertFalse(limiter.tryAcquire("s1", BROADCAST_ID));
+        }
+
+        // 방송 버킷에는 1개가 남아 있음
+        assertTrue(limiter.tryAcquire("s2", BROADCAST_ID));
+        assertEquals(10.0, limitedCount("session"));
+        assertEquals(0.0, limitedCount("room"));
+    }
+
+    @Test
+    void 연결이_끝난_세션_버킷은_정리되어_새로_시작한다() {
+        ChatRateLimiter limiter = limiter();
+        drain(limiter, "s1");
+
+        limiter.release("s1");
+
+        assertTrue(limiter.tryAcquire("s1", BROADCAST_ID));
+    }
+
+    @Test
+    void 세션이나_방송_정보가_없으면_해당_제한은_건너뛴다() {
+        ChatRateLimiter limiter = limiter(1, 1, 1, 1);
+
+        assertTrue(limiter.tryAcquire(null, null));
+        assertTrue(limiter.tryAcquire(null, null));
+        assertTrue(limiter.tryAcquire("s1", null));
+        assertFalse(limiter.tryAcquire("s1", null));
+    }
+
+    private void drain(ChatRateLimiter limiter, String sessionId) {
+        while (limiter.tryAcquire(sessionId, BROADCAST_ID)) {
+            // 세션 버킷을 비움
+        }
+    }
+
+    private void advance(Duration duration) {
+        nanos.addAndGet(duration.toNanos());
+    }
+
+    private double limitedCount(String scope) {
+        return meterRegistry.get("chat.rate_limited").tag("scope", scope).counter().count();
+    }
+}
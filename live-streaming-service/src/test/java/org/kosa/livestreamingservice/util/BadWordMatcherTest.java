@@ -0,0 +1,96 @@
+package org.kosa.livestreamingservice.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BadWordMatcherTest {
+
+    @Test
+    void 겹치는_금칙어는_합친_구간을_모두_가린다() {
+        BadWordMatcher matcher = BadWordMatcher.build(List.of("abc", "cde", "바보", "보스"));
+
+        assertEquals("x★★★★★x", matcher.mask("xabcdex"));
+        assertEquals("★★★", matcher.mask("바보스"));
+        assertEquals("★★★ 그리고 ★★", matcher.mask("abc 그리고 바보"));
+    }
+
+    @Test
+    void 같은_위치에서_끝나는_금칙어는_가장_긴_구간으로_가린다() {
+        BadWordMatcher matcher = BadWordMatcher.build(List.of("cd", "abcd", "bc"));
+
+        assertEquals("★★★★", matcher.mask("abcd"));
+        assertEquals("a★★", matcher.mask("abc"));
+    }
+
+    @Test
+    void 대소문자를_구분하지_않는다() {
+        BadWordMatcher matcher = BadWordMatcher.build(List.of("BadWord"));
+
+        assertEquals("★★★★★★★!", matcher.mask("bAdWoRd!"));
+        assertEquals("★★★★★★★", matcher.mask("BADWORD"));
+        assertTrue(matcher.containsBadWord("badword"));
+    }
+
+    @Test
+    void 전각_영숫자는_반각으로_비교한다() {
+        BadWordMatcher matcher = BadWordMatcher.build(List.of("bad1", "ｓｐａｍ"));
+
+        assertEquals("★★★★ 입력", matcher.mask("ＢＡＤ１ 입력"));
+        assertEquals("★★★★", matcher.mask("spam"));
+        assertEquals("a★★★★", matcher.mask("aｂad1"));
+    }
+
+    @Test
+    void 완성형과_조합형_입력을_같은_금칙어로_찾는다() {
+        BadWordMatcher matcher = BadWordMatcher.build(List.of("시발"));
+        String decomposed = Normalizer.normalize("시발", Normalizer.Form.NFD);
+
+        assertEquals("★★ 뭐야", matcher.mask("시발 뭐야"));
+        // 조합형은 원문 자모 수(5)만큼 가림
+        assertEquals("★".repeat(decomposed.length()), matcher.mask(decomposed));
+        assertEquals("★★★★★", matcher.mask("ㅅㅣㅂㅏㄹ"));
+    }
+
+    @Test
+    void 조합형_금칙어도_완성형_입력에서_찾는다() {
+        BadWordMatcher matcher = BadWordMatcher.build(List.of(Normalizer.normalize("개새", Normalizer.Form.NFD)));
+
+        assertEquals("이 ★★끼", matcher.mask("이 개새끼"));
+    }
+
+    @Test
+    void 금칙어가_음절_일부에서_끝나면_해당_음절까지_가린다() {
+        BadWordMatcher matcher = BadWordMatcher.build(List.of("시바"));
+
+        assertEquals("★★", matcher.mask("시발"));
+        assertEquals("★★ 좋다", matcher.mask("시바 좋다"));
+    }
+
+    @Test
+    void 받침과_다음_초성이_이어져도_음절_중간에서_시작하는_금칙어로_보지_않는다() {
+        BadWordMatcher matcher = BadWordMatcher.build(List.of("ㅅㅂ"));
+
+        assertEquals("앗보", matcher.mask("앗보"));
+        assertEquals("★★ 진짜", matcher.mask("ㅅㅂ 진짜"));
+    }
+
+    @Test
+    void 금칙어가_없으면_원본을_그대로_돌려준다() {
+        BadWordMatcher matcher = BadWordMatcher.build(List.of("바보"));
+        String input = "반갑습니다 여러분";
+
+        assertSame(input, matcher.mask(input));
+        assertFalse(matcher.containsBadWord(input));
+        assertNull(matcher.mask(null));
+        assertEquals("", matcher.mask(""));
+        assertSame(input, BadWordMatcher.build(List.of(" ", "")).mask(input));
+    }
+}
@@ -117,12 +117,21 @@ export function useSmartImages() {
         }
     }
 
+    // 목록용 이미지: 서버가 내려준 썸네일 변형(thumbnailUrl)을 우선 사용, 없으면 원본 이미지
+    const getListingImage = (product) => {
+        if (product && typeof product.thumbnailUrl === 'string' && product.thumbnailUrl.trim()) {
+            return getProductImage({ mainImage: product.thumbnailUrl })
+        }
+        return getProductImage(product)
+    }
+
     const handleImageLoad = (event) => {
         event.target.style.opacity = '1'
     }
 
     return {
         getProductImage,
+        getListingImage,
         handleImageError,
         handleImageLoad
     }
@@ -29,6 +29,7 @@ const STATUS_CLASS_MAP = {
     'DELIVERED': 'status-delivered',
     'CANCELLED': 'status-cancelled',
     'CANCELLED_BY_WITHDRAWAL': 'status-cancelled',
+    'EXPIRED': 'status-cancelled',
     'RETURNED': 'status-returned',
 
     // 한글도 지원
@@ -99,6 +100,7 @@ export const getStatusIcon = (status) => {
         'DELIVERED': '도착',
         'CANCELLED': '취소',
         'CANCELLED_BY_WITHDRAWAL': '취소',
+        'EXPIRED': '만료',
         'RETURNED': '반품',
 
         // 한글
@@ -130,6 +132,7 @@ export const getStatusColor = (status) => {
         'DELIVERED': '#6C757D',
         'CANCELLED': '#DC3545',
         'CANCELLED_BY_WITHDRAWAL': '#DC3545',
+        'EXPIRED': '#DC3545',
         'RETURNED': '#FFC107'
     }
 
@@ -0,0 +1,73 @@
+package org.kosa.userservice.config;
+
+import com.netflix.appinfo.EurekaInstanceConfig;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.common.id.IdGenerator;
+import org.kosa.common.id.SnowflakeIdGenerator;
+import org.kosa.common.id.SnowflakeNodeIdLease;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.Duration;
+
+@Configuration
+@Slf4j
+public class IdGeneratorConfig {
+
+    // 명시적으로 지정하지 않으면(-1) Redis에서 노드 ID 임대 (해시 산출은 충돌 가능해 사용하지 않음)
+    @Value("${id.generator.node-id:-1}")
+    private long configuredNodeId;
+
+    @Value("${id.generator.lease-ttl-seconds:30}")
+    private long leaseTtlSeconds;
+
+    @Value("${spring.application.name:user-service}")
+    private String serviceName;
+
+    @Value("${spring.application.name:user-service}:${server.port:8103}")
+    private String defaultInstanceId;
+
+    private SnowflakeNodeIdLease nodeIdLease;
+
+    @Bean
+    public IdGenerator idGenerator(ObjectProvider<EurekaInstanceConfig> eurekaInstanceConfig,
+                                   ObjectProvider<StringRedisTemplate> redisTemplate) {
+        long nodeId = configuredNodeId;
+        if (nodeId < 0) {
+            nodeId = leaseNodeId(eurekaInstanceConfig, redisTemplate);
+        }
+        log.info("ID 생성기 노드 ID: {}", nodeId);
+
+        return new SnowflakeIdGenerator(nodeId);
+    }
+
+    private long leaseNodeId(ObjectProvider<EurekaInstanceConfig> eurekaInstanceConfig,
+                             ObjectProvider<StringRedisTemplate> redisTemplate) {
+        StringRedisTemplate template = redisTemplate.getIfAvailable();
+        if (template == null) {
+            throw new IllegalStateException("id.generator.node-id를 지정하거나 노드 ID 임대용 Redis를 설정해야 합니다.");
+        }
+
+        EurekaInstanceConfig instanceConfig = eurekaInstanceConfig.getIfAvailable();
+        String instanceId = instanceConfig != null && instanceConfig.getInstanceId() != null
+                ? instanceConfig.getInstanceId()
+                : defaultInstanceId;
+
+        // 재기동 시 가능하면 같은 노드 ID를 다시 잡도록 인스턴스 ID 해시에서 탐색 시작
+        long preferredNodeId = (instanceId.hashCode() & Integer.MAX_VALUE) % (SnowflakeIdGenerator.MAX_NODE_ID + 1);
+        nodeIdLease = SnowflakeNodeIdLease.acquire(
+                template, serviceName, instanceId, preferredNodeId, Duration.ofSeconds(leaseTtlSeconds));
+        return nodeIdLease.getNodeId();
+    }
+
+    @PreDestroy
+    public void releaseNodeId() {
+        if (nodeIdLease != null) {
+            nodeIdLease.close();
+        }
+    }
+}
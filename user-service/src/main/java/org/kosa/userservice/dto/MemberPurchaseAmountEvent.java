@@ -0,0 +1,24 @@
+package org.kosa.userservice.dto;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * commerce-service 누적 구매 금액 변경 이벤트 (결제완료 ~ 배송완료 주문 금액 합계)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MemberPurchaseAmountEvent {
+    private String userId;
+    private long totalPurchaseAmount;
+
+    @JsonFormat(pattern = "yyyy-MM-dd'T'HH:mm:ss")
+    private LocalDateTime eventTimestamp;
+}
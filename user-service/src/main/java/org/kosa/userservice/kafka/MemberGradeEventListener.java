@@ -0,0 +1,35 @@
+package org.kosa.userservice.kafka;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.kosa.userservice.dto.MemberPurchaseAmountEvent;
+import org.kosa.userservice.userService.UserService;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * commerce-service 누적 구매 금액 이벤트 수신 → 회원 등급 갱신
+ * - 이벤트는 커밋된 주문 집계 기준 전체 금액이므로 중복/재전송되어도 결과가 같음
+ * - 갱신 실패는 예외를 그대로 던져 컨테이너 재시도 → DLT 보관 (MemberGradeKafkaConfig)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class MemberGradeEventListener {
+
+    private final UserService userService;
+
+    @KafkaListener(
+            topics = "${kafka.topic.member-purchase-amount:member-purchase-amount-topic}",
+            containerFactory = "memberGradeKafkaListenerContainerFactory"
+    )
+    public void onPurchaseAmountChanged(MemberPurchaseAmountEvent event) {
+        if (event == null || event.getUserId() == null) {
+            return;
+        }
+
+        int purchaseAmount = (int) Math.min(event.getTotalPurchaseAmount(), Integer.MAX_VALUE);
+        userService.updateMemberGradeByPurchaseAmount(event.getUserId(), purchaseAmount);
+        log.info("누적 구매 금액으로 회원 등급 갱신: userId={}, amount={}", event.getUserId(), purchaseAmount);
+    }
+}
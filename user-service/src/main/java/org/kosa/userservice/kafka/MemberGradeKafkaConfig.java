@@ -0,0 +1,107 @@
+package org.kosa.userservice.kafka;
+
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.serialization.ByteArraySerializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.kosa.userservice.dto.MemberPurchaseAmountEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.annotation.EnableKafka;
+import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.kafka.support.serializer.DelegatingByTypeSerializer;
+import org.springframework.kafka.support.serializer.ErrorHandlingDeserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.messaging.converter.MessageConversionException;
+import org.springframework.util.backoff.FixedBackOff;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Configuration
+@EnableKafka
+public class MemberGradeKafkaConfig {
+
+    @Value("${spring.kafka.bootstrap-servers:localhost:9092}")
+    private String bootstrapServers;
+
+    @Value("${kafka.member-grade.retry.interval-ms:1000}")
+    private long retryIntervalMs;
+
+    @Value("${kafka.member-grade.retry.max-attempts:3}")
+    private long retryMaxAttempts;
+
+    @Bean("memberGradeConsumerFactory")
+    public ConsumerFactory<String, MemberPurchaseAmountEvent> memberGradeConsumerFactory() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ConsumerConfig.GROUP_ID_CONFIG, "user-service-member-grade-group");
+        props.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, ErrorHandlingDeserializer.class);
+        props.put(ErrorHandlingDeserializer.KEY_DESERIALIZER_CLASS, StringDeserializer.class);
+        props.put(ErrorHandlingDeserializer.VALUE_DESERIALIZER_CLASS, JsonDeserializer.class);
+
+        // commerce-service는 타입 헤더 없이 발행 → 수신 DTO로 고정
+        props.put(JsonDeserializer.TRUSTED_PACKAGES, "org.kosa.userservice.dto");
+        props.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
+        props.put(JsonDeserializer.VALUE_DEFAULT_TYPE, MemberPurchaseAmountEvent.class.getName());
+        props.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+
+        return new DefaultKafkaConsumerFactory<>(props);
+    }
+
+    @Bean("memberGradeKafkaListenerContainerFactory")
+    public ConcurrentKafkaListenerContainerFactory<String, MemberPurchaseAmountEvent> memberGradeKafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, MemberPurchaseAmountEvent> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(memberGradeConsumerFactory());
+        factory.setCommonErrorHandler(memberGradeErrorHandler());
+        return factory;
+    }
+
+    /**
+     * 등급 갱신 실패 처리: 일정 간격으로 재시도 후 <토픽>.DLT로 보관 (역직렬화 실패는 바로 DLT)
+     * - 이벤트는 누적 금액 전체라 DLT 메시지를 원래 토픽으로 다시 발행해도 안전
+     */
+    @Bean("memberGradeErrorHandler")
+    public DefaultErrorHandler memberGradeErrorHandler() {
+        // 파티션은 지정하지 않음 (DLT 토픽 파티션 수가 원래 토픽과 달라도 발행되도록)
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(memberGradeDltKafkaTemplate(),
+                (record, e) -> new TopicPartition(record.topic() + ".DLT", -1));
+
+        DefaultErrorHandler errorHandler = new DefaultErrorHandler(recoverer,
+                new FixedBackOff(retryIntervalMs, retryMaxAttempts));
+        errorHandler.addNotRetryableExceptions(MessageConversionException.class);
+        return errorHandler;
+    }
+
+    @Bean("memberGradeDltKafkaTemplate")
+    public KafkaTemplate<String, Object> memberGradeDltKafkaTemplate() {
+        Map<String, Object> props = new HashMap<>();
+        props.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        props.put(ProducerConfig.ACKS_CONFIG, "all");
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+
+        // 역직렬화에 실패한 레코드는 원본 byte[] 그대로, 나머지는 타입 헤더 없는 JSON
+        JsonSerializer<Object> jsonSerializer = new JsonSerializer<>();
+        jsonSerializer.setAddTypeInfo(false);
+        Map<Class<?>, Serializer<?>> serializers = new LinkedHashMap<>();
+        serializers.put(byte[].class, new ByteArraySerializer());
+        serializers.put(Object.class, jsonSerializer);
+
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props,
+                new StringSerializer(), new DelegatingByTypeSerializer(serializers, true)));
+    }
+}
@@ -2,13 +2,13 @@ package org.kosa.userservice.userService.board;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.kosa.common.id.IdGenerator;
 import org.kosa.userservice.dto.board.PageRequestDto;
 import org.kosa.userservice.dto.board.ProductReviewDto;
 import org.kosa.userservice.mapper.ProductReviewMapper;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
@@ -19,6 +19,7 @@ import java.util.Map;
 public class ProductReviewService {
 
     private final ProductReviewMapper productReviewMapper;
+    private final IdGenerator idGenerator;
 
     // 기존 메서드들 그대로 유지, import만 수정
     public List<ProductReviewDto> getPagedBoards(PageRequestDto requestDto) {
@@ -260,9 +261,7 @@ public class ProductReviewService {
 
     //  리뷰 ID 생성 메서드
     private String generateReviewId() {
-        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddHHmmss"));
-        int random = (int) (Math.random() * 1000);
-        return "R" + timestamp + String.format("%03d", random);
+        return idGenerator.nextId("R");
     }
 
     //  Boolean 값을 String으로 변환하는 유틸리티 메서드들 (필요한 경우)